@@ -1,6 +1,9 @@
 package com.linkedpipes.etl.dataunit.core;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.dataunit.ManageableDataUnit;
@@ -9,6 +12,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -18,6 +22,8 @@ import java.util.stream.Collectors;
  */
 public abstract class AbstractDataUnit implements ManageableDataUnit {
 
+    private static final String MANIFEST_FILE = "manifest.json";
+
     protected final DataUnitConfiguration configuration;
 
     protected final Collection<String> sources;
@@ -60,6 +66,9 @@ public abstract class AbstractDataUnit implements ManageableDataUnit {
             File source, File destination) throws LpException {
         saveDataDirectories(destination, loadDataDirectories(source));
         saveDebugDirectories(destination, loadDebugDirectories(source));
+        if (new File(source, MANIFEST_FILE).exists()) {
+            saveManifests(destination, loadManifests(source).values());
+        }
     }
 
     protected List<File> loadDataDirectories(File directory)
@@ -139,4 +148,69 @@ public abstract class AbstractDataUnit implements ManageableDataUnit {
         saveRelativePaths(directory, "debug.json", directories);
     }
 
+    /**
+     * Load manifests stored in the given directory. Return empty map
+     * if there are no manifests, i.e. for data saved by older versions.
+     */
+    protected Map<File, DirectoryManifest> loadManifests(File directory)
+            throws LpException {
+        Map<File, DirectoryManifest> result = new HashMap<>();
+        File file = new File(directory, MANIFEST_FILE);
+        if (!file.exists()) {
+            return result;
+        }
+        JsonNode root;
+        try {
+            root = (new ObjectMapper()).readTree(file);
+        } catch (IOException ex) {
+            throw new LpException("Can't load manifest.", ex);
+        }
+        for (JsonNode directoryNode : root) {
+            DirectoryManifest manifest = new DirectoryManifest(new File(
+                    directory, directoryNode.get("directory").asText()));
+            for (JsonNode entryNode : directoryNode.get("files")) {
+                manifest.add(new DirectoryManifest.Entry(
+                        entryNode.get("path").asText(),
+                        entryNode.get("size").asLong(),
+                        entryNode.path("triples").asLong(-1),
+                        entryNode.path("archive").asText(null),
+                        entryNode.path("archiveEntry").asText(null)));
+            }
+            result.put(manifest.getDirectory(), manifest);
+        }
+        return result;
+    }
+
+    protected void saveManifests(
+            File directory, Collection<DirectoryManifest> manifests)
+            throws LpException {
+        ObjectMapper mapper = new ObjectMapper();
+        Path rootPath = directory.getAbsoluteFile().toPath();
+        ArrayNode root = mapper.createArrayNode();
+        for (DirectoryManifest manifest : manifests) {
+            ObjectNode directoryNode = root.addObject();
+            directoryNode.put("directory", asRelativePath(
+                    rootPath, manifest.getDirectory()).toString());
+            ArrayNode filesNode = directoryNode.putArray("files");
+            for (DirectoryManifest.Entry entry : manifest.getEntries()) {
+                ObjectNode entryNode = filesNode.addObject();
+                entryNode.put("path", entry.getPath());
+                entryNode.put("size", entry.getSize());
+                if (entry.getTriples() != -1) {
+                    entryNode.put("triples", entry.getTriples());
+                }
+                if (entry.getArchive() != null) {
+                    entryNode.put("archive", entry.getArchive());
+                    entryNode.put("archiveEntry", entry.getArchiveEntry());
+                }
+            }
+        }
+        directory.mkdirs();
+        try {
+            mapper.writeValue(new File(directory, MANIFEST_FILE), root);
+        } catch (IOException ex) {
+            throw new LpException("Can't save manifest.", ex);
+        }
+    }
+
 }
@@ -27,6 +27,10 @@ public class DataUnitConfiguration implements Loadable {
 
     private String workingDirectory;
 
+    private String chunkFormat;
+
+    private String repositoryType;
+
     public DataUnitConfiguration(String resource) {
         this.resource = resource;
     }
@@ -55,6 +59,12 @@ public class DataUnitConfiguration implements Loadable {
             case LP_EXEC.HAS_WORKING_DIRECTORY:
                 workingDirectory = object.asString();
                 break;
+            case LP_PIPELINE.HAS_CHUNK_FORMAT:
+                chunkFormat = object.asString();
+                break;
+            case LP_PIPELINE.HAS_RDF_REPOSITORY_TYPE:
+                repositoryType = object.asString();
+                break;
             default:
                 break;
         }
@@ -77,6 +87,20 @@ public class DataUnitConfiguration implements Loadable {
         return group;
     }
 
+    /**
+     * Return chunk format required by this data unit or null.
+     */
+    public String getChunkFormat() {
+        return chunkFormat;
+    }
+
+    /**
+     * Return RDF repository type required by this data unit or null.
+     */
+    public String getRepositoryType() {
+        return repositoryType;
+    }
+
     public File getWorkingDirectory() {
         return new File(URI.create(workingDirectory));
     }
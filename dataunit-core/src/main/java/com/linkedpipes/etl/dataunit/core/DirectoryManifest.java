@@ -0,0 +1,127 @@
+package com.linkedpipes.etl.dataunit.core;
+
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * List of files in a data directory. Once the content of a directory
+ * is complete, the manifest is used instead of scanning the directory.
+ */
+public class DirectoryManifest {
+
+    public static class Entry {
+
+        /**
+         * Path relative to the directory.
+         */
+        private final String path;
+
+        private final long size;
+
+        /**
+         * Number of triples or -1 if unknown.
+         */
+        private final long triples;
+
+        /**
+         * Path to a zip archive with the content of the file, relative
+         * to the directory, or null if the file is stored in the directory.
+         */
+        private final String archive;
+
+        /**
+         * Name of the entry in the archive or null.
+         */
+        private final String archiveEntry;
+
+        public Entry(String path, long size, long triples) {
+            this(path, size, triples, null, null);
+        }
+
+        public Entry(
+                String path, long size, long triples,
+                String archive, String archiveEntry) {
+            this.path = path;
+            this.size = size;
+            this.triples = triples;
+            this.archive = archive;
+            this.archiveEntry = archiveEntry;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public long getTriples() {
+            return triples;
+        }
+
+        public String getArchive() {
+            return archive;
+        }
+
+        public String getArchiveEntry() {
+            return archiveEntry;
+        }
+
+    }
+
+    private final File directory;
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    public DirectoryManifest(File directory) {
+        this.directory = directory;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    public synchronized void add(Entry entry) {
+        entries.add(entry);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Return snapshot of the entries, so the manifest can be modified
+     * while the entries are iterated.
+     */
+    public synchronized List<Entry> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * Create manifest from the current content of the directory.
+     */
+    public static DirectoryManifest scan(File directory) {
+        DirectoryManifest result = new DirectoryManifest(directory);
+        if (!directory.exists()) {
+            return result;
+        }
+        Path root = directory.toPath();
+        Iterator<File> iterator = FileUtils.iterateFiles(directory, null, true);
+        while (iterator.hasNext()) {
+            File file = iterator.next();
+            result.entries.add(new Entry(
+                    root.relativize(file.toPath()).toString(),
+                    file.length(),
+                    -1));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.linkedpipes.etl.dataunit.core.files;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Entry of a file stored in a zip archive. The file is extracted
+ * to its place in the data directory on the first call of
+ * {@link #toFile()}.
+ *
+ * <p>The content is extracted to a temporary file which is then moved
+ * to the target location, so concurrent calls can not observe
+ * a partially extracted file.
+ */
+class ArchiveEntry implements FilesDataUnit.Entry {
+
+    private final File file;
+
+    private final File root;
+
+    private final File archive;
+
+    private final String archiveEntry;
+
+    /**
+     * Size of the extracted file as stored in the manifest.
+     */
+    private final long size;
+
+    public ArchiveEntry(
+            File file, File root, File archive, String archiveEntry,
+            long size) {
+        this.file = file;
+        this.root = root;
+        this.archive = archive;
+        this.archiveEntry = archiveEntry;
+        this.size = size;
+    }
+
+    @Override
+    public File toFile() {
+        if (!file.exists()) {
+            try {
+                extract();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(
+                        "Can't extract '" + archiveEntry + "' from "
+                                + archive, ex);
+            }
+        }
+        return this.file;
+    }
+
+    private void extract() throws IOException {
+        file.getParentFile().mkdirs();
+        Path target = file.toPath();
+        Path temp = Files.createTempFile(
+                target.getParent(), file.getName(), ".extract");
+        try (ZipFile zip = new ZipFile(archive)) {
+            ZipEntry entry = zip.getEntry(archiveEntry);
+            if (entry == null) {
+                throw new IOException("Missing archive entry.");
+            }
+            try (InputStream stream = zip.getInputStream(entry)) {
+                Files.copy(stream, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            move(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            try {
+                Files.move(source, target);
+            } catch (FileAlreadyExistsException alreadyExists) {
+                // Extracted by another thread.
+            }
+        }
+    }
+
+    @Override
+    public String getFileName() {
+        return this.root.toPath().relativize(this.file.toPath()).toString();
+    }
+
+    public File getArchive() {
+        return archive;
+    }
+
+    public String getArchiveEntry() {
+        return archiveEntry;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+}
@@ -2,22 +2,42 @@ package com.linkedpipes.etl.dataunit.core.files;
 
 import com.linkedpipes.etl.dataunit.core.AbstractDataUnit;
 import com.linkedpipes.etl.dataunit.core.DataUnitConfiguration;
+import com.linkedpipes.etl.dataunit.core.DirectoryManifest;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.dataunit.ManageableDataUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 /**
- * TODO Do not require working directory for input data unit.
+ * Directories with complete content, i.e. loaded or merged from a source
+ * data unit, are described by a manifest. Only the write directory
+ * is scanned before the data unit is saved or used as a source.
+ * Files added from an archive are part of the write directory manifest,
+ * but are not extracted to the directory.
+ *
+ * <p>TODO Do not require working directory for input data unit.
  */
 class DefaultFilesDataUnit
         extends AbstractDataUnit
@@ -30,6 +50,15 @@ class DefaultFilesDataUnit
 
     private final List<File> dataDirectories = new LinkedList<>();
 
+    private final Map<File, DirectoryManifest> manifests =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Files in the write directory that are stored in archives.
+     */
+    private final Map<String, DirectoryManifest.Entry> archiveFiles =
+            new ConcurrentHashMap<>();
+
     public DefaultFilesDataUnit(
             DataUnitConfiguration configuration,
             Collection<String> sources) {
@@ -54,6 +83,42 @@ class DefaultFilesDataUnit
         return output;
     }
 
+    @Override
+    public void addArchiveFile(
+            String fileName, File archive, String archiveEntry, long size)
+            throws LpException {
+        Path root = writeDirectory.toPath().toAbsolutePath().normalize();
+        Path target = root.resolve(fileName).normalize();
+        if (!target.startsWith(root) || target.equals(root)) {
+            throw new LpException(
+                    "File is outside of the data unit: {}", fileName);
+        }
+        File output = target.toFile();
+        String path = root.relativize(target).toString();
+        DirectoryManifest.Entry entry = new DirectoryManifest.Entry(
+                path, size, -1, relativeArchivePath(archive), archiveEntry);
+        if (output.exists()
+                || archiveFiles.putIfAbsent(path, entry) != null) {
+            throw new LpException(
+                    "File already exists: {} ({})", fileName, output);
+        }
+    }
+
+    /**
+     * Relative path keeps the reference valid when the execution
+     * directory is moved.
+     */
+    private String relativeArchivePath(File archive) {
+        Path archivePath = archive.getAbsoluteFile().toPath();
+        try {
+            return writeDirectory.getAbsoluteFile().toPath()
+                    .relativize(archivePath).toString();
+        } catch (IllegalArgumentException ex) {
+            // Different roots, i.e. Windows drives.
+            return archivePath.toString();
+        }
+    }
+
     @Override
     public File getWriteDirectory() {
         return this.writeDirectory;
@@ -63,6 +128,8 @@ class DefaultFilesDataUnit
     public void initialize(File directory) throws LpException {
         dataDirectories.clear();
         dataDirectories.addAll(loadDataDirectories(directory));
+        manifests.clear();
+        manifests.putAll(loadManifests(directory));
     }
 
     @Override
@@ -75,6 +142,28 @@ class DefaultFilesDataUnit
     public void save(File directory) throws LpException {
         saveDataDirectories(directory, dataDirectories);
         saveDebugDirectories(directory, dataDirectories);
+        saveManifests(directory, completeManifests());
+    }
+
+    /**
+     * Scan directories without a manifest, the content of this data unit
+     * must not be modified after this call.
+     */
+    private synchronized List<DirectoryManifest> completeManifests() {
+        List<DirectoryManifest> result = new LinkedList<>();
+        for (File directory : dataDirectories) {
+            result.add(manifests.computeIfAbsent(
+                    directory, this::createManifest));
+        }
+        return result;
+    }
+
+    private DirectoryManifest createManifest(File directory) {
+        DirectoryManifest result = DirectoryManifest.scan(directory);
+        if (directory.equals(writeDirectory)) {
+            archiveFiles.values().forEach(result::add);
+        }
+        return result;
     }
 
     @Override
@@ -91,21 +180,112 @@ class DefaultFilesDataUnit
     public long size() {
         Date start = new Date();
         long size = 0;
-        for (FilesDataUnit.Entry item : this) {
-            ++size;
+        for (File directory : dataDirectories) {
+            DirectoryManifest manifest = manifests.get(directory);
+            if (manifest == null) {
+                size += DirectoryManifest.scan(directory).size();
+            } else {
+                size += manifest.size();
+            }
         }
         LOG.debug("Computing size takes: {} ms",
                 (new Date()).getTime() - start.getTime());
         return size;
     }
 
+    /**
+     * Hash file names and content, files are visited in order of
+     * their names. Files stored in an archive are not extracted, instead
+     * the archive path, the entry name and the size from the manifest
+     * are hashed.
+     */
+    @Override
+    public String computeContentHash() throws LpException {
+        List<Entry> entries = new ArrayList<>();
+        iterator().forEachRemaining(entries::add);
+        entries.sort(Comparator.comparing(Entry::getFileName));
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new LpException("Can't create digest.", ex);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        // Many entries usually share the same archive.
+        Map<File, byte[]> archiveHashes = new HashMap<>();
+        for (Entry entry : entries) {
+            updateWithString(digest, entry.getFileName());
+            if (entry instanceof ArchiveEntry archiveEntry) {
+                byte[] archiveHash = archiveHashes.get(
+                        archiveEntry.getArchive());
+                if (archiveHash == null) {
+                    archiveHash = hashFile(archiveEntry.getArchive(), buffer);
+                    archiveHashes.put(archiveEntry.getArchive(), archiveHash);
+                }
+                updateWithArchiveEntry(digest, archiveEntry, archiveHash);
+            } else {
+                updateWithFile(digest, entry.toFile(), buffer);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * The archive is identified by its content, so the hash does not
+     * depend on the location of the execution.
+     */
+    private void updateWithArchiveEntry(
+            MessageDigest digest, ArchiveEntry entry, byte[] archiveHash) {
+        digest.update((byte) 'A');
+        digest.update(archiveHash);
+        updateWithString(digest, entry.getArchiveEntry());
+        digest.update(ByteBuffer.allocate(8).putLong(entry.getSize()).array());
+    }
+
+    private void updateWithString(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private byte[] hashFile(File file, byte[] buffer) throws LpException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new LpException("Can't create digest.", ex);
+        }
+        updateWithContent(digest, file, buffer);
+        return digest.digest();
+    }
+
+    private void updateWithFile(MessageDigest digest, File file, byte[] buffer)
+            throws LpException {
+        digest.update((byte) 'F');
+        digest.update(ByteBuffer.allocate(8).putLong(file.length()).array());
+        updateWithContent(digest, file, buffer);
+    }
+
+    private void updateWithContent(
+            MessageDigest digest, File file, byte[] buffer)
+            throws LpException {
+        try (InputStream stream = new FileInputStream(file)) {
+            int length;
+            while ((length = stream.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+        } catch (IOException ex) {
+            throw new LpException("Can't read file: {}", file, ex);
+        }
+    }
+
     @Override
     public Iterator<Entry> iterator() {
         Iterator<File> directoryIterator = dataDirectories.iterator();
         if (!directoryIterator.hasNext()) {
             return Collections.EMPTY_LIST.iterator();
         }
-        return new DirectoryIterator(directoryIterator);
+        return new DirectoryIterator(directoryIterator, manifests);
     }
 
     @Override
@@ -130,6 +310,9 @@ class DefaultFilesDataUnit
         if (dataUnit instanceof DefaultFilesDataUnit) {
             DefaultFilesDataUnit source = (DefaultFilesDataUnit) dataUnit;
             dataDirectories.addAll(source.dataDirectories);
+            for (DirectoryManifest manifest : source.completeManifests()) {
+                manifests.put(manifest.getDirectory(), manifest);
+            }
         } else {
             throw new LpException(
                     "Can't merge with source data unit: {} of type {}",
@@ -1,17 +1,22 @@
 package com.linkedpipes.etl.dataunit.core.files;
 
+import com.linkedpipes.etl.dataunit.core.DirectoryManifest;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Implementation of iterator that recursively iterate over
- * directories.
+ * directories. Directories with a manifest are not scanned,
+ * the files are listed in the manifest order instead.
+ * Manifest entries stored in an archive are returned as
+ * {@link ArchiveEntry}.
  */
 class DirectoryIterator implements Iterator<FilesDataUnit.Entry> {
 
-    private Iterator<File> fileIterator;
+    private Iterator<FilesDataUnit.Entry> fileIterator;
 
     /**
      * Entry returned by next call of {@link #next()}.
@@ -23,13 +28,17 @@ class DirectoryIterator implements Iterator<FilesDataUnit.Entry> {
      */
     private final Iterator<File> directoryIterator;
 
+    private final Map<File, DirectoryManifest> manifests;
+
     private File currentDirectory;
 
-    public DirectoryIterator(Iterator<File> directoryIterator) {
+    public DirectoryIterator(
+            Iterator<File> directoryIterator,
+            Map<File, DirectoryManifest> manifests) {
         this.directoryIterator = directoryIterator;
+        this.manifests = manifests;
         this.currentDirectory = directoryIterator.next();
-        this.fileIterator = FileUtils.iterateFiles(
-                currentDirectory, null, true);
+        this.fileIterator = iterateFiles(currentDirectory);
         this.nextEntry = getNext();
     }
 
@@ -55,15 +64,51 @@ class DirectoryIterator implements Iterator<FilesDataUnit.Entry> {
      */
     private FilesDataUnit.Entry getNext() {
         if (fileIterator.hasNext()) {
-            File nextFile = fileIterator.next();
-            return new DefaultEntry(nextFile, currentDirectory);
+            return fileIterator.next();
         } else if (directoryIterator.hasNext()) {
             currentDirectory = directoryIterator.next();
-            fileIterator = FileUtils.iterateFiles(currentDirectory, null, true);
+            fileIterator = iterateFiles(currentDirectory);
             return getNext();
         } else {
             return null;
         }
     }
 
+    private Iterator<FilesDataUnit.Entry> iterateFiles(File directory) {
+        DirectoryManifest manifest = manifests.get(directory);
+        if (manifest == null) {
+            Iterator<File> files = FileUtils.iterateFiles(
+                    directory, null, true);
+            return new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return files.hasNext();
+                }
+
+                @Override
+                public FilesDataUnit.Entry next() {
+                    return new DefaultEntry(files.next(), directory);
+                }
+
+            };
+        }
+        return manifest.getEntries().stream()
+                .map(entry -> createEntry(directory, entry))
+                .iterator();
+    }
+
+    private static FilesDataUnit.Entry createEntry(
+            File directory, DirectoryManifest.Entry entry) {
+        File file = new File(directory, entry.getPath());
+        if (entry.getArchive() == null) {
+            return new DefaultEntry(file, directory);
+        }
+        File archive = directory.toPath()
+                .resolve(entry.getArchive()).normalize().toFile();
+        return new ArchiveEntry(
+                file, directory, archive, entry.getArchiveEntry(),
+                entry.getSize());
+    }
+
 }
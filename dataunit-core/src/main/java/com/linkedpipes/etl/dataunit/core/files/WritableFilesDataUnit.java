@@ -13,6 +13,17 @@ public interface WritableFilesDataUnit {
      */
     File createFile(String fileName) throws LpException;
 
+    /**
+     * Add file with content of given zip archive entry. The file is
+     * extracted when {@link FilesDataUnit.Entry#toFile()} is called,
+     * so the archive must not be modified or removed. The file is
+     * visible to consumers of the data unit, it is not listed while
+     * this data unit is being written.
+     */
+    void addArchiveFile(
+            String fileName, File archive, String archiveEntry, long size)
+            throws LpException;
+
     /**
      * Return write root directory.
      */
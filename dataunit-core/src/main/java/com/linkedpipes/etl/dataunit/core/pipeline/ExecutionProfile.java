@@ -10,6 +10,8 @@ class ExecutionProfile implements Loadable {
 
     private String rdfRepositoryType;
 
+    private String chunkFormat;
+
     @Override
     public Loadable load(String predicate, RdfValue value) {
         switch (predicate) {
@@ -19,6 +21,9 @@ class ExecutionProfile implements Loadable {
             case LP_PIPELINE.HAS_RDF_REPOSITORY_TYPE:
                 rdfRepositoryType = value.asString();
                 break;
+            case LP_PIPELINE.HAS_CHUNK_FORMAT:
+                chunkFormat = value.asString();
+                break;
             default:
                 break;
         }
@@ -33,4 +38,8 @@ class ExecutionProfile implements Loadable {
         return rdfRepositoryType;
     }
 
+    public String getChunkFormat() {
+        return chunkFormat;
+    }
+
 }
@@ -79,4 +79,15 @@ public class PipelineModel {
         return pipeline.getExecutionProfile().getRdfRepositoryType();
     }
 
+    public String getChunkFormat() {
+        if (pipeline.getExecutionProfile() == null) {
+            return LP_PIPELINE.CHUNK_FORMAT_TURTLE;
+        }
+        String format = pipeline.getExecutionProfile().getChunkFormat();
+        if (format == null) {
+            return LP_PIPELINE.CHUNK_FORMAT_TURTLE;
+        }
+        return format;
+    }
+
 }
@@ -4,9 +4,12 @@ import com.linkedpipes.etl.dataunit.core.AbstractDataUnit;
 import com.linkedpipes.etl.dataunit.core.DataUnitConfiguration;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.dataunit.ManageableDataUnit;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryResult;
 
 import java.io.File;
 import java.util.Collection;
@@ -63,6 +66,29 @@ abstract class BaseRdf4jDataUnit extends AbstractDataUnit
         return repository;
     }
 
+    /**
+     * Compute hash of statements in given graphs. Each graph is hashed
+     * on its own, so moving a statement between graphs changes the hash.
+     */
+    protected String computeContentHash(Collection<IRI> graphs)
+            throws LpException {
+        StatementsHash hash = new StatementsHash();
+        execute((connection) -> {
+            for (IRI graph : graphs) {
+                StatementsHash graphHash = new StatementsHash();
+                try (RepositoryResult<Statement> statements =
+                             connection.getStatements(
+                                     null, null, null, graph)) {
+                    while (statements.hasNext()) {
+                        graphHash.add(statements.next());
+                    }
+                }
+                hash.add(graphHash);
+            }
+        });
+        return hash.asString();
+    }
+
     protected void setRepositoryFromManager() throws LpException {
         if (this.repository == null) {
             this.repository = this.repositoryManager.getRepository(
@@ -0,0 +1,242 @@
+package com.linkedpipes.etl.dataunit.core.rdf;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of a chunk. Every chunk starts with a dictionary
+ * of all terms used in the chunk, followed by triples encoded as
+ * references into the dictionary. All numbers are written as variable
+ * length integers.
+ *
+ * <p>Decoding does not need any RDF parser and each term is created only
+ * once, so the decoded statements share their values.
+ */
+final class BinaryChunkFormat {
+
+    private static final byte[] MAGIC = {'L', 'P', 'C', 'B'};
+
+    private static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte TAG_IRI = 0;
+
+    private static final byte TAG_BNODE = 1;
+
+    private static final byte TAG_STRING_LITERAL = 2;
+
+    private static final byte TAG_LANGUAGE_LITERAL = 3;
+
+    private static final byte TAG_TYPED_LITERAL = 4;
+
+    private BinaryChunkFormat() {
+    }
+
+    public static void write(
+            Collection<Statement> statements, OutputStream stream)
+            throws IOException {
+        Map<Value, Integer> dictionary = new HashMap<>();
+        List<Value> terms = new ArrayList<>();
+        int[] references = new int[statements.size() * 3];
+        int index = 0;
+        for (Statement statement : statements) {
+            references[index++] = addTerm(
+                    statement.getSubject(), dictionary, terms);
+            references[index++] = addTerm(
+                    statement.getPredicate(), dictionary, terms);
+            references[index++] = addTerm(
+                    statement.getObject(), dictionary, terms);
+        }
+        DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(stream, BUFFER_SIZE));
+        output.write(MAGIC);
+        writeVarInt(output, VERSION);
+        writeVarInt(output, terms.size());
+        for (Value term : terms) {
+            writeTerm(output, term, dictionary);
+        }
+        writeVarInt(output, statements.size());
+        for (int reference : references) {
+            writeVarInt(output, reference);
+        }
+        output.flush();
+    }
+
+    /**
+     * Add term into the dictionary and return its index. Datatypes
+     * of literals are added before the literal, so they can be
+     * referenced when the literal is decoded.
+     */
+    private static int addTerm(
+            Value value, Map<Value, Integer> dictionary, List<Value> terms)
+            throws IOException {
+        Integer result = dictionary.get(value);
+        if (result != null) {
+            return result;
+        }
+        if (value instanceof Literal literal) {
+            if (literal.getLanguage().isEmpty()
+                    && !XSD.STRING.equals(literal.getDatatype())) {
+                addTerm(literal.getDatatype(), dictionary, terms);
+            }
+        } else if (!(value instanceof IRI) && !(value instanceof BNode)) {
+            throw new IOException(
+                    "Unsupported value type: " + value.getClass());
+        }
+        result = terms.size();
+        dictionary.put(value, result);
+        terms.add(value);
+        return result;
+    }
+
+    private static void writeTerm(
+            DataOutputStream output, Value value,
+            Map<Value, Integer> dictionary) throws IOException {
+        if (value instanceof IRI) {
+            output.writeByte(TAG_IRI);
+            writeString(output, value.stringValue());
+        } else if (value instanceof BNode) {
+            output.writeByte(TAG_BNODE);
+            writeString(output, ((BNode) value).getID());
+        } else {
+            Literal literal = (Literal) value;
+            if (literal.getLanguage().isPresent()) {
+                output.writeByte(TAG_LANGUAGE_LITERAL);
+                writeString(output, literal.getLabel());
+                writeString(output, literal.getLanguage().get());
+            } else if (XSD.STRING.equals(literal.getDatatype())) {
+                output.writeByte(TAG_STRING_LITERAL);
+                writeString(output, literal.getLabel());
+            } else {
+                output.writeByte(TAG_TYPED_LITERAL);
+                writeVarInt(output, dictionary.get(literal.getDatatype()));
+                writeString(output, literal.getLabel());
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value)
+            throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value)
+            throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    public static List<Statement> read(InputStream stream)
+            throws IOException, LpException {
+        List<Statement> result = new ArrayList<>();
+        read(stream, result::add);
+        return result;
+    }
+
+    /**
+     * Read statements one by one, only the dictionary is kept in memory.
+     */
+    public static void read(
+            InputStream stream, ChunkedTriples.StatementHandler handler)
+            throws IOException, LpException {
+        ValueFactory valueFactory = SimpleValueFactory.getInstance();
+        DataInputStream input = new DataInputStream(
+                new BufferedInputStream(stream, BUFFER_SIZE));
+        byte[] magic = new byte[MAGIC.length];
+        input.readFully(magic);
+        if (!Arrays.equals(MAGIC, magic)) {
+            throw new IOException("Invalid chunk header.");
+        }
+        int version = readVarInt(input);
+        if (version != VERSION) {
+            throw new IOException("Unsupported chunk version: " + version);
+        }
+        Value[] terms = new Value[readVarInt(input)];
+        for (int index = 0; index < terms.length; ++index) {
+            terms[index] = readTerm(input, terms, valueFactory);
+        }
+        int size = readVarInt(input);
+        for (int index = 0; index < size; ++index) {
+            Resource subject = (Resource) terms[readVarInt(input)];
+            IRI predicate = (IRI) terms[readVarInt(input)];
+            Value object = terms[readVarInt(input)];
+            handler.accept(valueFactory.createStatement(
+                    subject, predicate, object));
+        }
+    }
+
+    private static Value readTerm(
+            DataInputStream input, Value[] terms, ValueFactory valueFactory)
+            throws IOException {
+        byte tag = input.readByte();
+        switch (tag) {
+            case TAG_IRI:
+                return valueFactory.createIRI(readString(input));
+            case TAG_BNODE:
+                return valueFactory.createBNode(readString(input));
+            case TAG_STRING_LITERAL:
+                return valueFactory.createLiteral(readString(input));
+            case TAG_LANGUAGE_LITERAL:
+                String label = readString(input);
+                return valueFactory.createLiteral(label, readString(input));
+            case TAG_TYPED_LITERAL:
+                IRI datatype = (IRI) terms[readVarInt(input)];
+                return valueFactory.createLiteral(readString(input), datatype);
+            default:
+                throw new IOException("Invalid term tag: " + tag);
+        }
+    }
+
+    private static String readString(DataInputStream input)
+            throws IOException {
+        byte[] bytes = new byte[readVarInt(input)];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int next = input.read();
+            if (next == -1) {
+                throw new EOFException();
+            }
+            result |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Invalid variable length integer.");
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.linkedpipes.etl.dataunit.core.rdf;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import com.linkedpipes.etl.executor.api.v1.vocabulary.LP_PIPELINE;
+
+import java.io.File;
+
+/**
+ * Encoding of chunk files. The format of a chunk is determined by
+ * the file extension, so data units can contain chunks in different formats.
+ */
+enum ChunkFormat {
+
+    TURTLE(LP_PIPELINE.CHUNK_FORMAT_TURTLE, ".ttl"),
+    BINARY(LP_PIPELINE.CHUNK_FORMAT_BINARY, ".bin");
+
+    private final String iri;
+
+    private final String extension;
+
+    ChunkFormat(String iri, String extension) {
+        this.iri = iri;
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ChunkFormat fromIri(String iri) throws LpException {
+        if (iri == null) {
+            return TURTLE;
+        }
+        for (ChunkFormat format : values()) {
+            if (format.iri.equals(iri)) {
+                return format;
+            }
+        }
+        throw new LpException("Unknown chunk format: {}", iri);
+    }
+
+    /**
+     * Files without known extension are considered to be Turtle,
+     * as that was the only format used before.
+     */
+    public static ChunkFormat fromFile(File file) {
+        String name = file.getName();
+        for (ChunkFormat format : values()) {
+            if (name.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return TURTLE;
+    }
+
+}
@@ -1,20 +1,35 @@
 package com.linkedpipes.etl.dataunit.core.rdf;
 
+import com.linkedpipes.etl.dataunit.core.DirectoryManifest;
 import org.apache.commons.io.FileUtils;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 
 public class ChunkIterator implements Iterator<ChunkedTriples.Chunk> {
 
     private final Iterator<File> directoryIterator;
 
+    /**
+     * Directories listed in a manifest are not scanned.
+     */
+    private final Map<File, DirectoryManifest> manifests;
+
     private Iterator<File> fileIterator = null;
 
     private ChunkedTriples.Chunk nextChunk;
 
     public ChunkIterator(Iterator<File> directoryIterator) {
+        this(directoryIterator, Collections.emptyMap());
+    }
+
+    public ChunkIterator(
+            Iterator<File> directoryIterator,
+            Map<File, DirectoryManifest> manifests) {
         this.directoryIterator = directoryIterator;
+        this.manifests = manifests;
         prepareNext();
     }
 
@@ -34,12 +49,21 @@ public class ChunkIterator implements Iterator<ChunkedTriples.Chunk> {
         if (this.fileIterator != null && this.fileIterator.hasNext()) {
             this.nextChunk = new DefaultChunk(this.fileIterator.next());
         } else if (this.directoryIterator.hasNext()) {
-            this.fileIterator = FileUtils.iterateFiles(
-                    this.directoryIterator.next(), null, true);
+            this.fileIterator = iterateFiles(this.directoryIterator.next());
             prepareNext();
         } else {
             this.nextChunk = null;
         }
     }
 
+    private Iterator<File> iterateFiles(File directory) {
+        DirectoryManifest manifest = this.manifests.get(directory);
+        if (manifest == null) {
+            return FileUtils.iterateFiles(directory, null, true);
+        }
+        return manifest.getEntries().stream()
+                .map(entry -> new File(directory, entry.getPath()))
+                .iterator();
+    }
+
 }
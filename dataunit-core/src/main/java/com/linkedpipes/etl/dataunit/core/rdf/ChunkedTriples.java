@@ -17,6 +17,13 @@ import java.util.stream.StreamSupport;
  */
 public interface ChunkedTriples extends Iterable<ChunkedTriples.Chunk> {
 
+    @FunctionalInterface
+    interface StatementHandler {
+
+        void accept(Statement statement) throws LpException;
+
+    }
+
     interface Chunk {
 
         /**
@@ -24,6 +31,13 @@ public interface ChunkedTriples extends Iterable<ChunkedTriples.Chunk> {
          */
         Collection<Statement> toCollection() throws LpException;
 
+        /**
+         * Read the chunk and pass the statements one by one to the handler.
+         * Unlike {@link #toCollection()} the chunk is not loaded into
+         * memory as a whole.
+         */
+        void forEach(StatementHandler handler) throws LpException;
+
     }
 
     default Stream<Chunk> stream() {
@@ -13,12 +13,26 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 
 class DefaultChunk implements ChunkedTriples.Chunk {
 
+    /**
+     * Used to pass exception from handler through the RDF parser.
+     */
+    private static class HandlerException extends RDFHandlerException {
+
+        private final LpException exception;
+
+        HandlerException(LpException exception) {
+            super(exception);
+            this.exception = exception;
+        }
+
+    }
+
     private final File file;
 
     public DefaultChunk(File file) {
@@ -27,7 +41,39 @@ class DefaultChunk implements ChunkedTriples.Chunk {
 
     @Override
     public Collection<Statement> toCollection() throws LpException {
-        List<Statement> statements = new LinkedList<>();
+        List<Statement> statements = new ArrayList<>();
+        forEach(statements::add);
+        return statements;
+    }
+
+    @Override
+    public void forEach(ChunkedTriples.StatementHandler handler)
+            throws LpException {
+        switch (ChunkFormat.fromFile(this.file)) {
+            case BINARY:
+                loadBinary(handler);
+                break;
+            case TURTLE:
+            default:
+                loadTurtle(handler);
+                break;
+        }
+    }
+
+    private void loadBinary(ChunkedTriples.StatementHandler handler)
+            throws LpException {
+        try (InputStream stream = new FileInputStream(this.file)) {
+            BinaryChunkFormat.read(stream, handler);
+        } catch (LpException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new LpException(
+                    "Can't load chunk: {}", this.file.getName(), ex);
+        }
+    }
+
+    private void loadTurtle(ChunkedTriples.StatementHandler handler)
+            throws LpException {
         try (InputStream stream = new FileInputStream(this.file);
                 Reader reader = new InputStreamReader(stream, "UTF-8")) {
             RDFParser parser = Rio.createParser(RDFFormat.TURTLE);
@@ -35,15 +81,20 @@ class DefaultChunk implements ChunkedTriples.Chunk {
                 @Override
                 public void handleStatement(Statement st)
                         throws RDFHandlerException {
-                    statements.add(st);
+                    try {
+                        handler.accept(st);
+                    } catch (LpException ex) {
+                        throw new HandlerException(ex);
+                    }
                 }
             });
             parser.parse(reader, "http://localhost/base/");
+        } catch (HandlerException ex) {
+            throw ex.exception;
         } catch (Exception ex) {
             throw new LpException(
                     "Can't load chunk: {}", this.file.getName(), ex);
         }
-        return statements;
     }
 
     @Override
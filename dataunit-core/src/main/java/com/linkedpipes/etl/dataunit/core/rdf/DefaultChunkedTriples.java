@@ -2,6 +2,7 @@ package com.linkedpipes.etl.dataunit.core.rdf;
 
 import com.linkedpipes.etl.dataunit.core.AbstractDataUnit;
 import com.linkedpipes.etl.dataunit.core.DataUnitConfiguration;
+import com.linkedpipes.etl.dataunit.core.DirectoryManifest;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.dataunit.ManageableDataUnit;
 import org.eclipse.rdf4j.model.Statement;
@@ -22,8 +23,15 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chunks are recorded in a manifest as they are written, so the size
+ * and the list of chunks are available without scanning the directories.
+ * Directories without a manifest, i.e. saved by older versions,
+ * are scanned.
+ */
 class DefaultChunkedTriples
         extends AbstractDataUnit
         implements ChunkedTriples, WritableChunkedTriples,
@@ -34,18 +42,35 @@ class DefaultChunkedTriples
 
     private final File writeDirectory;
 
+    private final ChunkFormat chunkFormat;
+
     private final List<File> dataDirectories = new LinkedList<>();
 
-    private int fileCounter = 0;
+    private final Map<File, DirectoryManifest> manifests =
+            new ConcurrentHashMap<>();
+
+    private DirectoryManifest writeManifest = null;
+
+    private final AtomicInteger fileCounter = new AtomicInteger();
 
     public DefaultChunkedTriples(
             DataUnitConfiguration configuration,
             Collection<String> sources) {
+        this(configuration, sources, ChunkFormat.TURTLE);
+    }
+
+    public DefaultChunkedTriples(
+            DataUnitConfiguration configuration,
+            Collection<String> sources,
+            ChunkFormat chunkFormat) {
         super(configuration, sources);
+        this.chunkFormat = chunkFormat;
         this.writeDirectory = configuration.getWorkingDirectory();
         if (this.writeDirectory != null) {
             this.dataDirectories.add(this.writeDirectory);
             this.writeDirectory.mkdirs();
+            this.writeManifest = new DirectoryManifest(this.writeDirectory);
+            this.manifests.put(this.writeDirectory, this.writeManifest);
         }
     }
 
@@ -53,6 +78,8 @@ class DefaultChunkedTriples
     public void initialize(File directory) throws LpException {
         this.dataDirectories.clear();
         this.dataDirectories.addAll(loadDataDirectories(directory));
+        this.manifests.clear();
+        this.manifests.putAll(loadManifests(directory));
     }
 
     @Override
@@ -65,6 +92,16 @@ class DefaultChunkedTriples
     public void save(File directory) throws LpException {
         saveDataDirectories(directory, this.dataDirectories);
         saveDebugDirectories(directory, this.dataDirectories);
+        saveManifests(directory, completeManifests());
+    }
+
+    private synchronized List<DirectoryManifest> completeManifests() {
+        List<DirectoryManifest> result = new LinkedList<>();
+        for (File directory : this.dataDirectories) {
+            result.add(this.manifests.computeIfAbsent(
+                    directory, DirectoryManifest::scan));
+        }
+        return result;
     }
 
     @Override
@@ -72,32 +109,71 @@ class DefaultChunkedTriples
         // No operation here.
     }
 
+    /**
+     * The hash does not depend on how the statements are split
+     * into chunks.
+     */
+    @Override
+    public String computeContentHash() throws LpException {
+        StatementsHash hash = new StatementsHash();
+        for (Chunk chunk : this) {
+            chunk.forEach(hash::add);
+        }
+        return hash.asString();
+    }
+
     @Override
     public void submit(Collection<Statement> statements) throws LpException {
-        File outputFile =
-                new File(this.writeDirectory, ++this.fileCounter + ".ttl");
-        try (OutputStream stream = new FileOutputStream(outputFile);
-                Writer writer = new OutputStreamWriter(stream, "UTF-8")) {
-            Rio.write(statements, writer, RDFFormat.TURTLE);
+        // Each chunk is written into its own file, the file is published
+        // by adding it to the manifest, so no global lock is needed.
+        String fileName = this.fileCounter.incrementAndGet()
+                + this.chunkFormat.getExtension();
+        File outputFile = new File(this.writeDirectory, fileName);
+        try (OutputStream stream = new FileOutputStream(outputFile)) {
+            switch (this.chunkFormat) {
+                case BINARY:
+                    BinaryChunkFormat.write(statements, stream);
+                    break;
+                case TURTLE:
+                default:
+                    writeTurtle(statements, stream);
+                    break;
+            }
         } catch (IOException ex) {
             throw new LpException("Can't save chunk.", ex);
         }
+        this.writeManifest.add(new DirectoryManifest.Entry(
+                fileName, outputFile.length(), statements.size()));
+    }
+
+    private void writeTurtle(
+            Collection<Statement> statements, OutputStream stream)
+            throws IOException {
+        Writer writer = new OutputStreamWriter(stream, "UTF-8");
+        Rio.write(statements, writer, RDFFormat.TURTLE);
+        writer.flush();
     }
 
     @Override
     public long size() {
-        LOG.debug("Computing size ...");
-        int size = 0;
-        for (ChunkedTriples.Chunk chunk : this) {
-            size++;
+        long size = 0;
+        for (File directory : this.dataDirectories) {
+            DirectoryManifest manifest = this.manifests.get(directory);
+            if (manifest == null) {
+                LOG.debug("Scanning directory without manifest: {}",
+                        directory);
+                size += DirectoryManifest.scan(directory).size();
+            } else {
+                size += manifest.size();
+            }
         }
-        LOG.debug("Computing size ... done");
         return size;
     }
 
     @Override
     public Iterator<Chunk> iterator() {
-        return new ChunkIterator(this.dataDirectories.iterator());
+        return new ChunkIterator(
+                this.dataDirectories.iterator(), this.manifests);
     }
 
     @Override
@@ -110,6 +186,9 @@ class DefaultChunkedTriples
         if (dataUnit instanceof DefaultChunkedTriples) {
             DefaultChunkedTriples source = (DefaultChunkedTriples) dataUnit;
             this.dataDirectories.addAll(source.dataDirectories);
+            for (DirectoryManifest manifest : source.completeManifests()) {
+                this.manifests.put(manifest.getDirectory(), manifest);
+            }
         } else {
             throw new LpException(
                     "Can't merge with source data unit: {} of type {}",
@@ -77,6 +77,11 @@ class DefaultGraphListDataUnit extends BaseRdf4jDataUnit
         this.repositoryManager.closeRepository(this.getRepository());
     }
 
+    @Override
+    public String computeContentHash() throws LpException {
+        return computeContentHash(this.graphs);
+    }
+
     @Override
     protected void merge(ManageableDataUnit dataUnit) throws LpException {
         if (dataUnit instanceof DefaultGraphListDataUnit) {
@@ -10,6 +10,7 @@ import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.query.Update;
 import org.eclipse.rdf4j.query.impl.SimpleDataset;
@@ -17,10 +18,16 @@ import org.eclipse.rdf4j.repository.RepositoryResult;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -33,6 +40,8 @@ class DefaultSingleGraphDataUnit extends BaseRdf4jDataUnit
     private static final String COPY_QUERY
             = "INSERT {?s ?p ?o} WHERE {?s ?p ?o}";
 
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
     private IRI graph;
 
     public DefaultSingleGraphDataUnit(
@@ -113,6 +122,11 @@ class DefaultSingleGraphDataUnit extends BaseRdf4jDataUnit
         this.repositoryManager.closeRepository(this.getRepository());
     }
 
+    @Override
+    public String computeContentHash() throws LpException {
+        return computeContentHash(List.of(this.graph));
+    }
+
     @Override
     public void write(TripleWriter writer) throws LpException {
         execute((connection) -> {
@@ -185,30 +199,58 @@ class DefaultSingleGraphDataUnit extends BaseRdf4jDataUnit
         }
     }
 
+    /**
+     * Export without inferred statements and transaction isolation,
+     * nothing else is writing to the graph when the data unit is saved.
+     */
     private void saveContentAsTurtle(File dataDirectory) throws LpException {
         dataDirectory.mkdirs();
         File file = new File(dataDirectory, "data.ttl");
         execute((connection) -> {
-            try (FileOutputStream stream = new FileOutputStream(file)) {
+            try (OutputStream stream = new BufferedOutputStream(
+                    new FileOutputStream(file), BUFFER_SIZE)) {
                 RDFWriter writer = Rio.createWriter(RDFFormat.TURTLE, stream);
-                connection.export(writer, this.graph);
+                connection.begin(IsolationLevels.NONE);
+                connection.exportStatements(
+                        null, null, null, false, writer, this.graph);
+                connection.commit();
             } catch (IOException ex) {
                 throw new LpException("Can't write data to file.", ex);
+            } finally {
+                if (connection.isActive()) {
+                    connection.rollback();
+                }
             }
         });
     }
 
+    /**
+     * Load the file in a single transaction without isolation, so the
+     * repository can write the statements directly. The file was written
+     * by {@link #saveContentAsTurtle(File)} so we do not verify IRIs.
+     */
     private void loadContentFromTurtle(File dataDirectory) throws LpException {
+        File file = new File(dataDirectory, "data.ttl");
         execute((connection) -> {
-            try {
+            connection.getParserConfig()
+                    .set(BasicParserSettings.VERIFY_URI_SYNTAX, false)
+                    .set(BasicParserSettings.VERIFY_RELATIVE_URIS, false);
+            try (InputStream stream = new BufferedInputStream(
+                    new FileInputStream(file), BUFFER_SIZE)) {
+                connection.begin(IsolationLevels.NONE);
                 connection.add(
-                        new File(dataDirectory, "data.ttl"),
-                        "http://localhost/base/",
+                        stream, "http://localhost/base/",
                         RDFFormat.TURTLE, this.graph);
+                connection.commit();
             } catch (IOException ex) {
                 throw new LpException(
                         "Can't load data file for {} from {}",
-                        getIri(), dataDirectory);
+                        getIri(), dataDirectory, ex);
+            } finally {
+                // Do not leave partially loaded content on failure.
+                if (connection.isActive()) {
+                    connection.rollback();
+                }
             }
         });
     }
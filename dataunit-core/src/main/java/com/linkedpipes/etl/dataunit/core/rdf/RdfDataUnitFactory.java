@@ -50,7 +50,8 @@ public class RdfDataUnitFactory
                 case LP_PIPELINE.CHUNKED_TRIPLES_DATA_UNIT:
                     return new DefaultChunkedTriples(
                             configuration,
-                            pipelineModel.getSourcesFor(dataUnit));
+                            pipelineModel.getSourcesFor(dataUnit),
+                            getChunkFormat(configuration));
                 default:
                     break;
             }
@@ -58,6 +59,19 @@ public class RdfDataUnitFactory
         return null;
     }
 
+    /**
+     * Format set for the data unit takes precedence over the format
+     * from the pipeline execution profile.
+     */
+    private ChunkFormat getChunkFormat(DataUnitConfiguration configuration)
+            throws LpException {
+        String format = configuration.getChunkFormat();
+        if (format == null) {
+            format = pipelineModel.getChunkFormat();
+        }
+        return ChunkFormat.fromIri(format);
+    }
+
     private DataUnitConfiguration loadDataUnitConfiguration(
             String dataUnit, RdfSource definition)
             throws LpException {
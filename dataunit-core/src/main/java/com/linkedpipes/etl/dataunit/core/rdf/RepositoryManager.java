@@ -7,6 +7,8 @@ import org.apache.commons.io.FileUtils;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryException;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.lmdb.LmdbStore;
+import org.eclipse.rdf4j.sail.lmdb.config.LmdbStoreConfig;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
 import org.slf4j.Logger;
@@ -15,10 +17,15 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * For data units in the same group provide the same repository and make sure
  * that the repository is open as long as at least one data unit is using it.
+ *
+ * <p>Repository type is given by the pipeline, unless a data unit in the
+ * group asks for another type. With single repository policy the pipeline
+ * type is always used.
  */
 class RepositoryManager {
 
@@ -26,12 +33,16 @@ class RepositoryManager {
 
         private final String group;
 
+        private final String type;
+
         private final Repository repository;
 
         private int useCounter = 0;
 
-        public RepositoryContainer(String group, Repository repository) {
+        public RepositoryContainer(
+                String group, String type, Repository repository) {
             this.group = group;
+            this.type = type;
             this.repository = repository;
         }
 
@@ -58,10 +69,6 @@ class RepositoryManager {
             return LP_PIPELINE.SINGLE_REPOSITORY.equals(repositoryPolicy);
         }
 
-        private boolean isInMemory() {
-            return LP_PIPELINE.MEMORY_STORE.equals(this.repositoryType);
-        }
-
     }
 
     private static final int DELETE_WAIT_TIME = 1000;
@@ -85,36 +92,46 @@ class RepositoryManager {
     public Repository getRepository(DataUnitConfiguration configuration)
             throws LpException {
         String group = configuration.getGroup();
+        String type = configuration.getRepositoryType();
         if (this.configuration.isSingleRepository()) {
             group = "single";
+            type = null;
+        }
+        if (type == null) {
+            type = this.configuration.repositoryType;
+        }
+        RepositoryContainer container = getOrCreateRepository(group, type);
+        if (!Objects.equals(container.type, type)) {
+            LOG.warn("Data unit '{}' asks for repository type '{}' but "
+                            + "group '{}' already uses '{}'.",
+                    configuration.getResource(), type,
+                    group, container.type);
         }
-        RepositoryContainer container = getOrCreateRepository(group);
         ++container.useCounter;
         LOG.debug("Using repository group: '{}' used: '{}' for: '{}'",
                 group, container.useCounter, configuration.getResource());
         return container.repository;
     }
 
-    private RepositoryContainer getOrCreateRepository(String group)
-            throws LpException {
+    private RepositoryContainer getOrCreateRepository(
+            String group, String type) throws LpException {
         if (repositories.containsKey(group)) {
             return repositories.get(group);
         } else {
-            Repository newRepository = getGroupRepository(group);
+            Repository newRepository = getGroupRepository(group, type);
             RepositoryContainer container =
-                    new RepositoryContainer(group, newRepository);
+                    new RepositoryContainer(group, type, newRepository);
             repositories.put(group, container);
             return container;
         }
     }
 
-    private Repository getGroupRepository(String group) throws LpException {
-        Repository repository;
-        if (configuration.isInMemory()) {
-            repository = createInMemory();
-        } else {
-            repository = createNativeRepository(group);
-        }
+    private Repository getGroupRepository(String group, String type)
+            throws LpException {
+        LOG.info("Creating repository group: '{}' type: '{}'", group, type);
+        Repository repository = createRepository(
+                type, new File(configuration.workingDirectory,
+                        "dataunit-sesame-" + group));
         try {
             repository.init();
         } catch (RepositoryException ex) {
@@ -123,16 +140,26 @@ class RepositoryManager {
         return repository;
     }
 
-    private Repository createNativeRepository(String group) {
-        File directory = new File(
-                configuration.workingDirectory,
-                "dataunit-sesame-" + group);
-        return new SailRepository(new NativeStore(directory));
+    /**
+     * Create repository of given type, the directory is not used
+     * by in-memory repository.
+     */
+    static Repository createRepository(String type, File directory) {
+        if (LP_PIPELINE.MEMORY_STORE.equals(type)) {
+            return new SailRepository(new MemoryStore());
+        } else if (LP_PIPELINE.LMDB_STORE.equals(type)) {
+            return new SailRepository(createLmdbStore(directory));
+        } else {
+            return new SailRepository(new NativeStore(directory));
+        }
     }
 
-    private Repository createInMemory() {
-        return new SailRepository(new MemoryStore());
-
+    private static LmdbStore createLmdbStore(File directory) {
+        // The repository is deleted after the execution and data units
+        // are saved as files, so there is no need to sync on commit.
+        LmdbStoreConfig config = new LmdbStoreConfig("spoc,posc,cosp");
+        config.setForceSync(false);
+        return new LmdbStore(directory, config);
     }
 
     public void closeAll() {
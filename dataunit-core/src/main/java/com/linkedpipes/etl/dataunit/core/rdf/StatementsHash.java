@@ -0,0 +1,91 @@
+package com.linkedpipes.etl.dataunit.core.rdf;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Compute hash of a set of triples that does not depend on the order
+ * of the triples. Each triple is hashed on its own and the hashes are
+ * summed. Content of multiple graphs is hashed per graph and the graph
+ * hashes are summed, so the hash does not depend on the order of graphs
+ * but it does depend on how the triples are split among them.
+ *
+ * <p>Blank nodes are hashed using their identifiers, so content with
+ * blank nodes loaded multiple times may produce different hashes.
+ */
+class StatementsHash {
+
+    private final MessageDigest digest;
+
+    private long count = 0;
+
+    private long first = 0;
+
+    private long second = 0;
+
+    public StatementsHash() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Missing SHA-256.", ex);
+        }
+    }
+
+    public void add(Statement statement) {
+        update(statement.getSubject());
+        update(statement.getPredicate());
+        update(statement.getObject());
+        addDigest();
+    }
+
+    /**
+     * Add hash of a graph as a single member of the set.
+     */
+    public void add(StatementsHash graph) {
+        digest.update((byte) 'G');
+        update(graph.asString());
+        addDigest();
+    }
+
+    private void addDigest() {
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+        first += hash.getLong();
+        second += hash.getLong();
+        ++count;
+    }
+
+    private void update(Value value) {
+        if (value instanceof IRI) {
+            digest.update((byte) 'I');
+            update(value.stringValue());
+        } else if (value instanceof BNode) {
+            digest.update((byte) 'B');
+            update(((BNode) value).getID());
+        } else {
+            Literal literal = (Literal) value;
+            digest.update((byte) 'L');
+            update(literal.getLabel());
+            update(literal.getLanguage().orElse(""));
+            update(literal.getDatatype().stringValue());
+        }
+    }
+
+    private void update(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(4).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    public String asString() {
+        return String.format("%016x%016x%016x", count, first, second);
+    }
+
+}
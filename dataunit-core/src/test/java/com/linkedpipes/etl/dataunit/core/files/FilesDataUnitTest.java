@@ -9,7 +9,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -17,6 +19,8 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 public class FilesDataUnitTest {
 
@@ -113,6 +117,168 @@ public class FilesDataUnitTest {
                 b.iterator().next().toFile().toPath().normalize());
     }
 
+    @Test
+    public void loadFromManifest() throws Exception {
+        DefaultFilesDataUnit a = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        FileUtils.writeStringToFile(a.createFile("dir/a"), "");
+        File saveDirectory = getTempDirectory();
+        saveDirectory.mkdirs();
+        a.save(saveDirectory);
+        Assertions.assertTrue(
+                (new File(saveDirectory, "manifest.json")).exists());
+        // Files added after save are not part of the saved content.
+        FileUtils.writeStringToFile(
+                new File(a.getWriteDirectory(), "dir/b"), "");
+        //
+        DefaultFilesDataUnit b = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        b.initialize(saveDirectory);
+        Assertions.assertEquals(1, b.size());
+        Assertions.assertEquals("dir" + File.separator + "a",
+                b.iterator().next().getFileName());
+    }
+
+    @Test
+    public void extractArchiveFileOnAccess() throws Exception {
+        File archive = new File(getTempDirectory(), "archive.zip");
+        archive.getParentFile().mkdirs();
+        try (ZipOutputStream zip = new ZipOutputStream(
+                new FileOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry("data/a.txt"));
+            zip.write("content".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        DefaultFilesDataUnit a = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        a.addArchiveFile("dir/a.txt", archive, "data/a.txt", 7);
+        File saveDirectory = getTempDirectory();
+        saveDirectory.mkdirs();
+        a.save(saveDirectory);
+        File file = new File(a.getWriteDirectory(), "dir/a.txt");
+        Assertions.assertFalse(file.exists());
+        //
+        DefaultFilesDataUnit b = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        b.initialize(saveDirectory);
+        Assertions.assertEquals(1, b.size());
+        FilesDataUnit.Entry entry = b.iterator().next();
+        Assertions.assertEquals("dir" + File.separator + "a.txt",
+                entry.getFileName());
+        Assertions.assertEquals("content", FileUtils.readFileToString(
+                entry.toFile(), StandardCharsets.UTF_8));
+        Assertions.assertTrue(file.exists());
+    }
+
+    @Test
+    public void addArchiveFileOutsideOfDataUnit() throws Exception {
+        File archive = new File(getTempDirectory(), "archive.zip");
+        DefaultFilesDataUnit a = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        Assertions.assertThrows(LpException.class, () ->
+                a.addArchiveFile("../a.txt", archive, "a.txt", 1));
+        Assertions.assertThrows(LpException.class, () ->
+                a.addArchiveFile("dir/../../a.txt", archive, "a.txt", 1));
+        // A name starting with dots is still inside the data unit.
+        Assertions.assertDoesNotThrow(() ->
+                a.addArchiveFile("..a.txt", archive, "a.txt", 1));
+    }
+
+    @Test
+    public void contentHash() throws Exception {
+        DefaultFilesDataUnit a = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        FileUtils.writeStringToFile(a.createFile("dir/a"), "a");
+        FileUtils.writeStringToFile(a.createFile("b"), "b");
+        DefaultFilesDataUnit b = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        FileUtils.writeStringToFile(b.createFile("b"), "b");
+        FileUtils.writeStringToFile(b.createFile("dir/a"), "a");
+        Assertions.assertEquals(
+                a.computeContentHash(), b.computeContentHash());
+        // Same names, different content.
+        FileUtils.writeStringToFile(
+                new File(b.getWriteDirectory(), "b"), "c");
+        Assertions.assertNotEquals(
+                a.computeContentHash(), b.computeContentHash());
+    }
+
+    @Test
+    public void contentHashDoesNotExtractArchiveFile() throws Exception {
+        File archive = new File(getTempDirectory(), "archive.zip");
+        archive.getParentFile().mkdirs();
+        try (ZipOutputStream zip = new ZipOutputStream(
+                new FileOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry("data/a.txt"));
+            zip.write("content".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        DefaultFilesDataUnit a = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        a.addArchiveFile("dir/a.txt", archive, "data/a.txt", 7);
+        File saveDirectory = getTempDirectory();
+        saveDirectory.mkdirs();
+        a.save(saveDirectory);
+        //
+        DefaultFilesDataUnit b = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        b.initialize(saveDirectory);
+        String hash = b.computeContentHash();
+        File file = new File(a.getWriteDirectory(), "dir/a.txt");
+        Assertions.assertFalse(file.exists());
+        // Other entry in the same archive.
+        DefaultFilesDataUnit c = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        c.addArchiveFile("dir/a.txt", archive, "data/b.txt", 7);
+        File otherSaveDirectory = getTempDirectory();
+        otherSaveDirectory.mkdirs();
+        c.save(otherSaveDirectory);
+        DefaultFilesDataUnit d = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        d.initialize(otherSaveDirectory);
+        Assertions.assertNotEquals(hash, d.computeContentHash());
+    }
+
+    @Test
+    public void contentHashDoesNotDependOnArchiveLocation() throws Exception {
+        File first = createArchive("content");
+        File second = createArchive("content");
+        File other = createArchive("other");
+        String firstHash = archiveContentHash(first);
+        Assertions.assertNotEquals(first, second);
+        Assertions.assertEquals(firstHash, archiveContentHash(second));
+        Assertions.assertNotEquals(firstHash, archiveContentHash(other));
+    }
+
+    private File createArchive(String content) throws IOException {
+        File archive = new File(getTempDirectory(), "archive.zip");
+        archive.getParentFile().mkdirs();
+        try (ZipOutputStream zip = new ZipOutputStream(
+                new FileOutputStream(archive))) {
+            ZipEntry entry = new ZipEntry("data/a.txt");
+            // Fixed time so archives with the same content are equal.
+            entry.setTime(0);
+            zip.putNextEntry(entry);
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return archive;
+    }
+
+    private String archiveContentHash(File archive) throws Exception {
+        DefaultFilesDataUnit dataUnit = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        dataUnit.addArchiveFile("dir/a.txt", archive, "data/a.txt", 7);
+        dataUnit.addArchiveFile("dir/b.txt", archive, "data/a.txt", 7);
+        File saveDirectory = getTempDirectory();
+        saveDirectory.mkdirs();
+        dataUnit.save(saveDirectory);
+        DefaultFilesDataUnit loaded = new DefaultFilesDataUnit(
+                createConfiguration(), Collections.EMPTY_LIST);
+        loaded.initialize(saveDirectory);
+        return loaded.computeContentHash();
+    }
+
     @Test
     public void createExisting() throws Exception {
         DefaultFilesDataUnit a = new DefaultFilesDataUnit(
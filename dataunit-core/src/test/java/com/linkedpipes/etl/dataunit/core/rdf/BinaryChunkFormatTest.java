@@ -0,0 +1,46 @@
+package com.linkedpipes.etl.dataunit.core.rdf;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinaryChunkFormatTest {
+
+    @Test
+    public void writeAndRead() throws Exception {
+        ValueFactory valueFactory = SimpleValueFactory.getInstance();
+        List<Statement> expected = new ArrayList<>();
+        expected.add(valueFactory.createStatement(
+                valueFactory.createIRI("http://localhost/1"),
+                valueFactory.createIRI("http://localhost/label"),
+                valueFactory.createLiteral("label")));
+        expected.add(valueFactory.createStatement(
+                valueFactory.createIRI("http://localhost/1"),
+                valueFactory.createIRI("http://localhost/label"),
+                valueFactory.createLiteral("štítek", "cs")));
+        expected.add(valueFactory.createStatement(
+                valueFactory.createIRI("http://localhost/1"),
+                valueFactory.createIRI("http://localhost/value"),
+                valueFactory.createLiteral("12", XSD.INTEGER)));
+        expected.add(valueFactory.createStatement(
+                valueFactory.createBNode("node"),
+                valueFactory.createIRI("http://localhost/value"),
+                valueFactory.createIRI("http://localhost/1")));
+        //
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryChunkFormat.write(expected, output);
+        List<Statement> actual = BinaryChunkFormat.read(
+                new ByteArrayInputStream(output.toByteArray()));
+        //
+        Assertions.assertEquals(expected, actual);
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.linkedpipes.etl.dataunit.core.rdf;
+
+import com.linkedpipes.etl.dataunit.core.DataUnitConfiguration;
+import com.linkedpipes.etl.executor.api.v1.vocabulary.LP_PIPELINE;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+
+public class GraphListDataUnitTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final Statement FIRST = create("first");
+
+    private static final Statement SECOND = create("second");
+
+    @TempDir
+    File directory;
+
+    private RepositoryManager manager;
+
+    private int counter = 0;
+
+    @BeforeEach
+    public void before() {
+        manager = new RepositoryManager(
+                null, LP_PIPELINE.MEMORY_STORE, directory);
+    }
+
+    @AfterEach
+    public void after() {
+        manager.closeAll();
+    }
+
+    @Test
+    public void contentHashDependsOnGraphs() throws Exception {
+        String separate = hash(List.of(FIRST), List.of(SECOND));
+        String reversed = hash(List.of(SECOND), List.of(FIRST));
+        String together = hash(List.of(FIRST, SECOND), List.of());
+        Assertions.assertEquals(separate, reversed);
+        Assertions.assertNotEquals(separate, together);
+    }
+
+    @SafeVarargs
+    private String hash(List<Statement>... graphs) throws Exception {
+        DefaultGraphListDataUnit dataUnit = new DefaultGraphListDataUnit(
+                new DataUnitConfiguration(
+                        "http://localhost/dataunit/" + (++counter), null,
+                        String.valueOf(counter), directory.toString()),
+                manager, Collections.emptyList());
+        dataUnit.initialize(Collections.emptyMap());
+        for (List<Statement> statements : graphs) {
+            IRI graph = dataUnit.createGraph();
+            dataUnit.execute(connection -> {
+                connection.add(statements, graph);
+            });
+        }
+        return dataUnit.computeContentHash();
+    }
+
+    private static Statement create(String value) {
+        return VF.createStatement(
+                VF.createIRI("http://localhost/resource"),
+                VF.createIRI("http://localhost/value"),
+                VF.createLiteral(value));
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.linkedpipes.etl.dataunit.core.rdf;
+
+import com.linkedpipes.etl.dataunit.core.DataUnitConfiguration;
+import com.linkedpipes.etl.executor.api.v1.vocabulary.LP_PIPELINE;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class LmdbDataUnitTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final String IRI = "http://localhost/dataunit";
+
+    @TempDir
+    File directory;
+
+    @Test
+    public void saveAndLoad() throws Exception {
+        List<Statement> expected = createStatements();
+        File content = new File(directory, "content");
+        RepositoryManager writeManager = createManager("write");
+        try {
+            DefaultSingleGraphDataUnit dataUnit = createDataUnit(writeManager);
+            dataUnit.initialize(Collections.emptyMap());
+            IRI graph = dataUnit.getWriteGraph();
+            dataUnit.execute(connection -> {
+                connection.add(expected, graph);
+            });
+            dataUnit.save(content);
+            dataUnit.close();
+        } finally {
+            writeManager.closeAll();
+        }
+        RepositoryManager readManager = createManager("read");
+        try {
+            DefaultSingleGraphDataUnit dataUnit = createDataUnit(readManager);
+            dataUnit.initialize(content);
+            Assertions.assertTrue(Models.isomorphic(
+                    expected, readStatements(dataUnit)));
+            dataUnit.close();
+        } finally {
+            readManager.closeAll();
+        }
+    }
+
+    private RepositoryManager createManager(String name) {
+        return new RepositoryManager(
+                null, LP_PIPELINE.LMDB_STORE, new File(directory, name));
+    }
+
+    private DefaultSingleGraphDataUnit createDataUnit(
+            RepositoryManager manager) {
+        return new DefaultSingleGraphDataUnit(
+                new DataUnitConfiguration(IRI, null, "1",
+                        directory.toString()),
+                manager, Collections.emptyList());
+    }
+
+    private static List<Statement> createStatements() {
+        IRI graph = VF.createIRI(IRI);
+        IRI subject = VF.createIRI("http://localhost/resource");
+        Resource blank = VF.createBNode("node");
+        List<Statement> result = new ArrayList<>();
+        result.add(VF.createStatement(subject,
+                VF.createIRI("http://localhost/iri"),
+                VF.createIRI("http://localhost/value"), graph));
+        result.add(VF.createStatement(subject,
+                VF.createIRI("http://localhost/string"),
+                VF.createLiteral("value"), graph));
+        result.add(VF.createStatement(subject,
+                VF.createIRI("http://localhost/language"),
+                VF.createLiteral("hodnota", "cs"), graph));
+        result.add(VF.createStatement(subject,
+                VF.createIRI("http://localhost/integer"),
+                VF.createLiteral("42", XSD.INTEGER), graph));
+        result.add(VF.createStatement(subject,
+                VF.createIRI("http://localhost/blank"),
+                blank, graph));
+        result.add(VF.createStatement(blank,
+                VF.createIRI("http://localhost/string"),
+                VF.createLiteral("blank"), graph));
+        return result;
+    }
+
+    private static Set<Statement> readStatements(
+            DefaultSingleGraphDataUnit dataUnit) throws Exception {
+        Set<Statement> result = new HashSet<>();
+        dataUnit.execute(connection -> {
+            try (RepositoryResult<Statement> statements =
+                         connection.getStatements(
+                                 null, null, null, dataUnit.getReadGraph())) {
+                for (Statement statement : statements) {
+                    result.add(statement);
+                }
+            }
+        });
+        return result;
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.linkedpipes.etl.dataunit.core.rdf;
+
+import com.linkedpipes.etl.dataunit.core.DataUnitConfiguration;
+import com.linkedpipes.etl.executor.api.v1.vocabulary.LP_PIPELINE;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryLanguage;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compare load, query and export times of a single graph data unit
+ * for all supported repository types. Load and export use the same
+ * code as the executor, i.e. initialize from and save to a directory.
+ * This is not a test, run the main method manually.
+ *
+ * <p>Optional arguments are the number of triples and comma separated
+ * repository types. The memory store keeps all the triples in the heap,
+ * with 5M triples it needs more than 2GB of heap.
+ */
+public class RepositoryTypeBenchmark {
+
+    private static final int TRIPLES = 1_000_000;
+
+    private static final int BATCH_SIZE = 100_000;
+
+    private static final String PREFIX = "http://localhost/benchmark/";
+
+    private static final String QUERY = "SELECT (COUNT(*) AS ?count) WHERE {"
+            + " ?s <" + PREFIX + "link> ?o . ?o <" + PREFIX + "value> ?v }";
+
+    private static final List<String> TYPES = List.of(
+            LP_PIPELINE.MEMORY_STORE,
+            LP_PIPELINE.NATIVE_STORE,
+            LP_PIPELINE.LMDB_STORE);
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    public static void main(String[] args) throws Exception {
+        int triples = args.length > 0 ? Integer.parseInt(args[0]) : TRIPLES;
+        List<String> types = args.length > 1
+                ? List.of(args[1].split(",")) : TYPES;
+        File root = Files.createTempDirectory("lp-repository-").toFile();
+        try {
+            for (String type : types) {
+                run(type, triples, new File(root, type.substring(
+                        type.lastIndexOf("/") + 1)));
+            }
+        } finally {
+            FileUtils.deleteQuietly(root);
+        }
+    }
+
+    private static void run(String type, int triples, File directory)
+            throws Exception {
+        File content = new File(directory, "content");
+        // Create and save the content.
+        RepositoryManager manager = createManager(type, directory, "write");
+        DefaultSingleGraphDataUnit output = createDataUnit(manager, directory);
+        output.initialize(Collections.emptyMap());
+        long insertTime = measure(() -> generate(output, triples));
+        long exportTime = measure(() -> output.save(content));
+        output.close();
+        manager.closeAll();
+        // Load the content and query it.
+        manager = createManager(type, directory, "read");
+        DefaultSingleGraphDataUnit input = createDataUnit(manager, directory);
+        long loadTime = measure(() -> input.initialize(content));
+        long[] count = new long[1];
+        long queryTime = measure(() -> count[0] = query(input));
+        input.close();
+        manager.closeAll();
+        System.out.printf(
+                "%s: insert %d ms, export %d ms, load %d ms, "
+                        + "query %d ms (%d results)%n",
+                type, insertTime, exportTime, loadTime, queryTime, count[0]);
+    }
+
+    private static RepositoryManager createManager(
+            String type, File directory, String name) {
+        return new RepositoryManager(
+                LP_PIPELINE.PER_INPUT_REPOSITORY, type,
+                new File(directory, "repository-" + name));
+    }
+
+    private static DefaultSingleGraphDataUnit createDataUnit(
+            RepositoryManager manager, File directory) {
+        DataUnitConfiguration configuration = new DataUnitConfiguration(
+                PREFIX + "dataunit", "output", "1",
+                directory.toURI().toString());
+        return new DefaultSingleGraphDataUnit(
+                configuration, manager, Collections.emptyList());
+    }
+
+    private static void generate(
+            DefaultSingleGraphDataUnit dataUnit, int triples)
+            throws Exception {
+        IRI graph = dataUnit.getWriteGraph();
+        IRI link = VF.createIRI(PREFIX + "link");
+        IRI value = VF.createIRI(PREFIX + "value");
+        int subjects = triples / 2;
+        // Commit every batch, a single transaction with all the triples
+        // keeps the whole change set in memory.
+        dataUnit.execute((connection) -> {
+            List<Statement> batch = new ArrayList<>(BATCH_SIZE);
+            for (int index = 0; index < subjects; ++index) {
+                IRI subject = VF.createIRI(PREFIX + "s/" + index);
+                IRI object = VF.createIRI(
+                        PREFIX + "s/" + ((index * 31L) % subjects));
+                batch.add(VF.createStatement(subject, link, object));
+                batch.add(VF.createStatement(
+                        subject, value, VF.createLiteral(index)));
+                if (batch.size() >= BATCH_SIZE) {
+                    connection.begin(IsolationLevels.NONE);
+                    connection.add(batch, graph);
+                    connection.commit();
+                    batch.clear();
+                }
+            }
+            connection.begin(IsolationLevels.NONE);
+            connection.add(batch, graph);
+            connection.commit();
+        });
+    }
+
+    private static long query(DefaultSingleGraphDataUnit dataUnit)
+            throws Exception {
+        return dataUnit.execute((connection) -> {
+            try (TupleQueryResult result = connection.prepareTupleQuery(
+                    QueryLanguage.SPARQL, QUERY).evaluate()) {
+                BindingSet bindings = result.next();
+                return Long.parseLong(
+                        bindings.getValue("count").stringValue());
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Action {
+
+        void run() throws Exception;
+
+    }
+
+    private static long measure(Action action) throws Exception {
+        long start = System.currentTimeMillis();
+        action.run();
+        return System.currentTimeMillis() - start;
+    }
+
+}
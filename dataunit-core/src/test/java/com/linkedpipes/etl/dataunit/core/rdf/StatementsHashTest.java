@@ -0,0 +1,76 @@
+package com.linkedpipes.etl.dataunit.core.rdf;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class StatementsHashTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final Statement FIRST = create("first");
+
+    private static final Statement SECOND = create("second");
+
+    private static final Statement THIRD = create("third");
+
+    @Test
+    public void statementOrderDoesNotMatter() {
+        Assertions.assertEquals(
+                hash(List.of(FIRST, SECOND, THIRD)),
+                hash(List.of(THIRD, FIRST, SECOND)));
+    }
+
+    @Test
+    public void differentContent() {
+        Assertions.assertNotEquals(
+                hash(List.of(FIRST, SECOND)),
+                hash(List.of(FIRST, THIRD)));
+    }
+
+    @Test
+    public void graphOrderDoesNotMatter() {
+        Assertions.assertEquals(
+                hashGraphs(List.of(FIRST), List.of(SECOND, THIRD)),
+                hashGraphs(List.of(THIRD, SECOND), List.of(FIRST)));
+    }
+
+    @Test
+    public void graphMembershipMatters() {
+        Assertions.assertNotEquals(
+                hashGraphs(List.of(FIRST), List.of(SECOND, THIRD)),
+                hashGraphs(List.of(FIRST, SECOND), List.of(THIRD)));
+        Assertions.assertNotEquals(
+                hashGraphs(List.of(FIRST, SECOND, THIRD)),
+                hashGraphs(List.of(FIRST), List.of(SECOND), List.of(THIRD)));
+    }
+
+    private static Statement create(String value) {
+        return VF.createStatement(
+                VF.createIRI("http://localhost/resource"),
+                VF.createIRI("http://localhost/value"),
+                VF.createLiteral(value));
+    }
+
+    private static String hash(List<Statement> statements) {
+        StatementsHash hash = new StatementsHash();
+        statements.forEach(hash::add);
+        return hash.asString();
+    }
+
+    @SafeVarargs
+    private static String hashGraphs(List<Statement>... graphs) {
+        StatementsHash hash = new StatementsHash();
+        for (List<Statement> graph : graphs) {
+            StatementsHash graphHash = new StatementsHash();
+            graph.forEach(graphHash::add);
+            hash.add(graphHash);
+        }
+        return hash.asString();
+    }
+
+}
@@ -70,8 +70,8 @@ class LimitCountHistory implements EventListener {
     }
 
     private void pruneHistory(Resource pipeline) {
-        List<Execution> executions = executionFacade.getExecutions().stream()
-                .filter(exec -> pipeline.equals(exec.getPipeline()))
+        List<Execution> executions =
+                executionFacade.getExecutions(pipeline).stream()
                 .filter(exec -> !ignoredStates.contains(exec.getStatus()))
                 .sorted(Comparator.comparing(Execution::getLastOverviewChange)
                         .reversed())
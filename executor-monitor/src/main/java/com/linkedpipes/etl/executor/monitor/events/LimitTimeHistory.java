@@ -10,7 +10,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 
@@ -49,10 +48,9 @@ class LimitTimeHistory implements EventListener {
     }
 
     private void prune() {
+        // The order does not matter as we check each execution on its own.
         List<Execution> executions = executionFacade.getExecutions().stream()
                 .filter(exec -> !ignoredStates.contains(exec.getStatus()))
-                .sorted(Comparator.comparing(Execution::getLastOverviewChange)
-                        .reversed())
                 .toList();
         LocalDateTime now = LocalDateTime.now();
         for (Execution execution : executions) {
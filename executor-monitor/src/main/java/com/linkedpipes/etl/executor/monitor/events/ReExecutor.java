@@ -56,8 +56,8 @@ class ReExecutor implements EventListener {
 
     private boolean shouldReExecute(Execution execution) {
         Resource pipeline = execution.getPipeline();
-        List<Execution> executions = executionFacade.getExecutions().stream()
-                .filter(exec -> pipeline.equals(exec.getPipeline()))
+        List<Execution> executions =
+                executionFacade.getExecutions(pipeline).stream()
                 .sorted(Comparator.comparing(Execution::getLastOverviewChange)
                         .reversed())
                 .toList();
@@ -9,6 +9,8 @@ import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class Execution {
 
@@ -28,6 +30,11 @@ public class Execution {
      */
     private Date lastChange = new Date();
 
+    /**
+     * Notified about changes of {@link #lastChange}.
+     */
+    private Consumer<Execution> changeListener;
+
     /**
      * If {@link #status} is set to {@link ExecutionStatus#DELETED} then
      * determine time of removal.
@@ -42,6 +49,11 @@ public class Execution {
 
     private DebugData debugData;
 
+    /**
+     * Used to load {@link #debugData} when first requested.
+     */
+    private Supplier<DebugData> debugDataLoader;
+
     /**
      * Has assigned executor.
      */
@@ -89,6 +101,13 @@ public class Execution {
 
     void setLastChange(Date lastChange) {
         this.lastChange = lastChange;
+        if (changeListener != null) {
+            changeListener.accept(this);
+        }
+    }
+
+    void setChangeListener(Consumer<Execution> changeListener) {
+        this.changeListener = changeListener;
     }
 
     Date getTimeToLive() {
@@ -131,12 +150,25 @@ public class Execution {
         this.status = status;
     }
 
-    public DebugData getDebugData() {
+    public synchronized DebugData getDebugData() {
+        if (debugDataLoader != null) {
+            debugData = debugDataLoader.get();
+            debugDataLoader = null;
+        }
         return debugData;
     }
 
-    void setDebugData(DebugData debugData) {
+    synchronized void setDebugData(DebugData debugData) {
         this.debugData = debugData;
+        this.debugDataLoader = null;
+    }
+
+    /**
+     * Set loader of debug data, the data are loaded on first request.
+     */
+    synchronized void setDebugDataLoader(Supplier<DebugData> loader) {
+        this.debugData = null;
+        this.debugDataLoader = loader;
     }
 
     boolean isExecutor() {
@@ -0,0 +1,66 @@
+package com.linkedpipes.etl.executor.monitor.execution;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Executions ordered by time of their last change, so we can list
+ * executions changed since given time without checking all of them.
+ */
+class ExecutionChangeFeed {
+
+    private record Key(long time, long order) implements Comparable<Key> {
+
+        @Override
+        public int compareTo(Key other) {
+            int result = Long.compare(time, other.time);
+            if (result != 0) {
+                return result;
+            }
+            return Long.compare(order, other.order);
+        }
+
+    }
+
+    private final ConcurrentSkipListMap<Key, Execution> changes =
+            new ConcurrentSkipListMap<>();
+
+    /**
+     * Current key for each execution, guarded by this instance.
+     */
+    private final Map<Execution, Key> keys = new HashMap<>();
+
+    private long counter = 0;
+
+    /**
+     * Must be called every time the last change of the execution changes.
+     */
+    public synchronized void onChange(Execution execution) {
+        Key key = new Key(execution.getLastChange().getTime(), ++counter);
+        Key oldKey = keys.put(execution, key);
+        if (oldKey != null) {
+            changes.remove(oldKey);
+        }
+        changes.put(key, execution);
+    }
+
+    public synchronized void remove(Execution execution) {
+        Key key = keys.remove(execution);
+        if (key != null) {
+            changes.remove(key);
+        }
+    }
+
+    /**
+     * Return executions with last change after given time.
+     */
+    public Collection<Execution> changedAfter(Date date) {
+        Key from = new Key(date.getTime(), Long.MAX_VALUE);
+        return new ArrayList<>(changes.tailMap(from, false).values());
+    }
+
+}
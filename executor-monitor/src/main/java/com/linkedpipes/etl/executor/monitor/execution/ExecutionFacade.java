@@ -6,6 +6,7 @@ import com.linkedpipes.etl.executor.monitor.debug.DebugData;
 import com.linkedpipes.etl.executor.monitor.debug.DebugDataSource;
 import com.linkedpipes.etl.executor.monitor.events.EventListener;
 import com.linkedpipes.etl.library.rdf.Statements;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -18,7 +19,6 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class ExecutionFacade implements DebugDataSource {
@@ -68,9 +68,11 @@ public class ExecutionFacade implements DebugDataSource {
     }
 
     public Collection<Execution> getExecutions(Date changedSince) {
-        return this.storage.getExecutions().stream()
-                .filter((exec) -> exec.changedAfter(changedSince))
-                .collect(Collectors.toList());
+        return this.storage.getExecutionsChangedAfter(changedSince);
+    }
+
+    public Collection<Execution> getExecutions(Resource pipeline) {
+        return this.storage.getExecutionsForPipeline(pipeline);
     }
 
     /**
@@ -0,0 +1,225 @@
+package com.linkedpipes.etl.executor.monitor.execution;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persisted summaries of finished executions, used on startup instead
+ * of loading the execution directories. Finished executions do not
+ * change, so a summary stays valid until the execution is deleted.
+ *
+ * <p>The index file contains one JSON object per line. Lines are only
+ * appended when an execution gets final data or is deleted, the last
+ * line for an execution wins. The file is rewritten on startup when it
+ * contains obsolete lines.
+ */
+class ExecutionIndex {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ExecutionIndex.class);
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final int VERSION = 1;
+
+    private static final String ID = "id";
+
+    private static final String DELETED = "deleted";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final File file;
+
+    private final Object lock = new Object();
+
+    /**
+     * True if the file contains obsolete or invalid lines.
+     */
+    private boolean shouldCompact = false;
+
+    public ExecutionIndex(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Return summaries of indexed executions by execution identifier.
+     */
+    public Map<String, JsonNode> load() {
+        Map<String, JsonNode> result = new HashMap<>();
+        if (!file.exists()) {
+            return result;
+        }
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(
+                file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                ++lines;
+                JsonNode node;
+                try {
+                    node = mapper.readTree(line);
+                } catch (IOException ex) {
+                    // Most likely a partially written last line.
+                    LOG.warn("Ignoring invalid line in execution index.");
+                    continue;
+                }
+                if (node.path("version").asInt() != VERSION) {
+                    continue;
+                }
+                String id = node.path(ID).asText();
+                if (node.path(DELETED).asBoolean()) {
+                    result.remove(id);
+                } else {
+                    result.put(id, node);
+                }
+            }
+        } catch (IOException ex) {
+            LOG.warn("Can't read execution index '{}'.", file, ex);
+            shouldCompact = true;
+            return new HashMap<>();
+        }
+        shouldCompact = lines != result.size();
+        return result;
+    }
+
+    /**
+     * Restore given execution from the summary. The execution must have
+     * the IRI and the directory set.
+     */
+    public void restore(Execution execution, JsonNode node) {
+        String pipeline = node.path("pipeline").asText();
+        execution.setPipeline(VF.createIRI(pipeline));
+        IRI graph = VF.createIRI(execution.getListGraph());
+        List<Statement> statements = new ArrayList<>();
+        for (JsonNode item : node.path("pipelineStatements")) {
+            statements.add(VF.createStatement(
+                    NTriplesUtil.parseResource(item.get(0).asText(), VF),
+                    (IRI) NTriplesUtil.parseValue(item.get(1).asText(), VF),
+                    NTriplesUtil.parseValue(item.get(2).asText(), VF),
+                    graph));
+        }
+        execution.setPipelineStatements(statements);
+        execution.setHasFinalData(node.path("hasFinalData").asBoolean());
+        (new LoadOverview()).load(execution, node.path("overview").deepCopy());
+    }
+
+    public boolean shouldCompact() {
+        return shouldCompact;
+    }
+
+    /**
+     * Replace the index with summaries of given executions.
+     */
+    public void compact(Collection<Execution> executions) throws IOException {
+        synchronized (lock) {
+            Path temp = Files.createTempFile(
+                    file.getParentFile().toPath(), file.getName(), ".swp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(
+                        temp, StandardCharsets.UTF_8)) {
+                    for (Execution execution : executions) {
+                        if (isIndexed(execution)) {
+                            writeLine(writer, createSummary(execution));
+                        }
+                    }
+                }
+                try {
+                    Files.move(temp, file.toPath(),
+                            StandardCopyOption.ATOMIC_MOVE,
+                            StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, file.toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            shouldCompact = false;
+        }
+    }
+
+    /**
+     * Add summary of given execution, ignore executions that can change.
+     */
+    public void add(Execution execution) {
+        if (!isIndexed(execution)) {
+            return;
+        }
+        append(createSummary(execution));
+    }
+
+    public void remove(Execution execution) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("version", VERSION);
+        node.put(ID, execution.getId());
+        node.put(DELETED, true);
+        append(node);
+    }
+
+    private static boolean isIndexed(Execution execution) {
+        return execution.isHasFinalData()
+                && execution.getOverviewJson() != null
+                && execution.getPipeline() instanceof IRI
+                && ExecutionStatus.isFinished(execution.getStatus());
+    }
+
+    private ObjectNode createSummary(Execution execution) {
+        ObjectNode result = mapper.createObjectNode();
+        result.put("version", VERSION);
+        result.put(ID, execution.getId());
+        result.put("pipeline", execution.getPipeline().stringValue());
+        result.put("hasFinalData", execution.isHasFinalData());
+        ArrayNode statements = result.putArray("pipelineStatements");
+        for (Statement statement : execution.getPipelineStatements()) {
+            ArrayNode item = statements.addArray();
+            item.add(NTriplesUtil.toNTriplesString(statement.getSubject()));
+            item.add(NTriplesUtil.toNTriplesString(statement.getPredicate()));
+            item.add(NTriplesUtil.toNTriplesString(statement.getObject()));
+        }
+        result.set("overview", execution.getOverviewJson());
+        return result;
+    }
+
+    private void append(ObjectNode node) {
+        synchronized (lock) {
+            try (Writer writer = Files.newBufferedWriter(
+                    file.toPath(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writeLine(writer, node);
+            } catch (IOException ex) {
+                LOG.warn("Can't write to execution index '{}'.", file, ex);
+            }
+        }
+    }
+
+    private void writeLine(Writer writer, ObjectNode node) throws IOException {
+        writer.write(mapper.writeValueAsString(node));
+        writer.write("\n");
+    }
+
+}
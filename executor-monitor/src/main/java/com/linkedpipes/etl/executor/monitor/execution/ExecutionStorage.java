@@ -3,6 +3,7 @@ package com.linkedpipes.etl.executor.monitor.execution;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.linkedpipes.etl.executor.monitor.ConfigurationHolder;
 import com.linkedpipes.etl.executor.monitor.MonitorException;
+import com.linkedpipes.etl.executor.monitor.debug.DebugData;
 import com.linkedpipes.etl.executor.monitor.debug.DebugDataFactory;
 import com.linkedpipes.etl.executor.monitor.events.EventListener;
 import com.linkedpipes.etl.executor.monitor.execution.overview.OverviewFactory;
@@ -12,6 +13,7 @@ import com.linkedpipes.etl.executor.monitor.executor.Executor;
 import com.linkedpipes.etl.executor.monitor.executor.ExecutorEventListener;
 import com.linkedpipes.etl.library.rdf.Statements;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,7 +24,6 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,7 +32,13 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Responsible for storing information about existing executions.
@@ -45,16 +52,40 @@ class ExecutionStorage
 
     private static final int TOMBSTONE_TTL = 5 * 60;
 
+    private static final String INDEX_FILE = "executions.index.jsonl";
+
     private ConfigurationHolder configuration = null;
 
     private EventListener eventListener = null;
 
     private final List<Execution> executions = new ArrayList<>(64);
 
+    private final Map<String, Execution> executionsById =
+            new ConcurrentHashMap<>();
+
+    private final Map<String, Execution> executionsByIri =
+            new ConcurrentHashMap<>();
+
+    private final Map<Resource, Set<Execution>> executionsByPipeline =
+            new ConcurrentHashMap<>();
+
+    private final ExecutionChangeFeed changes = new ExecutionChangeFeed();
+
+    /**
+     * Executions without final data, only these are updated
+     * from directories.
+     */
+    private final Set<Execution> executionsToUpdate =
+            ConcurrentHashMap.newKeySet();
+
+    private final List<Execution> tombstones = new ArrayList<>(16);
+
     private final List<File> directoriesToDelete = new ArrayList<>(16);
 
     private final Map<Executor, Execution> executors = new HashMap<>();
 
+    private ExecutionIndex index;
+
     @Autowired
     private void setConfiguration(ConfigurationHolder configuration) {
         this.configuration = configuration;
@@ -67,9 +98,98 @@ class ExecutionStorage
 
     public void initialize() throws MonitorException {
         File executionsDirectory = getExecutionsDirectory();
-        Arrays.stream(Objects.requireNonNull(executionsDirectory.listFiles()))
-                .filter(File::isDirectory)
-                .forEach(this::loadExecutionForFirstTime);
+        index = new ExecutionIndex(
+                new File(executionsDirectory, INDEX_FILE));
+        Map<String, JsonNode> summaries = index.load();
+        boolean indexChanged = index.shouldCompact();
+        List<File> directoriesToLoad = new ArrayList<>();
+        for (File directory : Objects.requireNonNull(
+                executionsDirectory.listFiles())) {
+            if (!directory.isDirectory()) {
+                continue;
+            }
+            JsonNode summary = summaries.remove(directory.getName());
+            Execution execution = null;
+            if (summary != null) {
+                execution = restoreExecution(directory, summary);
+            }
+            if (execution == null) {
+                directoriesToLoad.add(directory);
+            } else {
+                addExecution(execution);
+            }
+        }
+        // Summaries of executions with no directory.
+        indexChanged |= !summaries.isEmpty();
+        LOG.info("Restored {} executions from index, loading {} from "
+                        + "directories.",
+                executions.size(), directoriesToLoad.size());
+        List<Execution> loaded = loadExecutions(directoriesToLoad);
+        for (Execution execution : loaded) {
+            indexChanged |= execution.isHasFinalData();
+            addExecution(execution);
+        }
+        if (indexChanged) {
+            try {
+                index.compact(executions);
+            } catch (IOException ex) {
+                LOG.warn("Can't write execution index.", ex);
+            }
+        }
+    }
+
+    private Execution restoreExecution(File directory, JsonNode summary) {
+        Execution execution = new Execution();
+        execution.setIri(getExecutionIri(directory));
+        execution.setDirectory(directory);
+        try {
+            index.restore(execution, summary);
+        } catch (RuntimeException ex) {
+            LOG.warn("Can't restore execution from index: {}",
+                    directory, ex);
+            return null;
+        }
+        execution.setDebugDataLoader(() -> loadDebugData(execution));
+        execution.setLastChange(new Date());
+        return execution;
+    }
+
+    /**
+     * Load executions from given directories using all available cores,
+     * executions that can not be loaded are skipped.
+     */
+    private List<Execution> loadExecutions(List<File> directories)
+            throws MonitorException {
+        if (directories.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int threads = Math.min(
+                Runtime.getRuntime().availableProcessors(),
+                directories.size());
+        ExecutorService executorService =
+                Executors.newFixedThreadPool(threads);
+        List<Future<Execution>> futures = new ArrayList<>();
+        try {
+            for (File directory : directories) {
+                futures.add(executorService.submit(
+                        () -> loadExecutionFromDirectory(directory)));
+            }
+            List<Execution> result = new ArrayList<>(directories.size());
+            for (Future<Execution> future : futures) {
+                Execution execution = future.get();
+                if (execution != null) {
+                    result.add(execution);
+                }
+            }
+            return result;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MonitorException("Interrupted while loading.", ex);
+        } catch (ExecutionException ex) {
+            throw new MonitorException("Can't load executions.", ex);
+        } finally {
+            executorService.shutdownNow();
+        }
     }
 
     private File getExecutionsDirectory() throws MonitorException {
@@ -86,6 +206,18 @@ class ExecutionStorage
     }
 
     private Execution loadExecutionForFirstTime(File directory) {
+        Execution execution = loadExecutionFromDirectory(directory);
+        if (execution != null) {
+            addExecution(execution);
+        }
+        return execution;
+    }
+
+    /**
+     * Can be called from multiple threads at once. Debug data are loaded
+     * when first requested.
+     */
+    private Execution loadExecutionFromDirectory(File directory) {
         final Date updateTime = new Date();
 
         Execution execution = new Execution();
@@ -108,12 +240,7 @@ class ExecutionStorage
         }
 
         if (!ExecutionStatus.QUEUED.equals(execution.getStatus())) {
-            try {
-                updateDebugData(execution);
-            } catch (Throwable ex) {
-                LOG.error("Can't load debug data for: {}", directory, ex);
-                return null;
-            }
+            execution.setDebugDataLoader(() -> loadDebugData(execution));
         }
 
         if (ExecutionStatus.isFinished(execution.getStatus())) {
@@ -126,14 +253,57 @@ class ExecutionStorage
         }
 
         execution.setLastChange(updateTime);
-        this.executions.add(execution);
         return execution;
     }
 
+    private void addExecution(Execution execution) {
+        executions.add(execution);
+        executionsById.put(execution.getId(), execution);
+        executionsByIri.put(execution.getIri(), execution);
+        if (execution.getPipeline() != null) {
+            executionsByPipeline.computeIfAbsent(
+                    execution.getPipeline(),
+                    (key) -> ConcurrentHashMap.newKeySet()).add(execution);
+        }
+        if (shouldUpdate(execution)) {
+            executionsToUpdate.add(execution);
+        }
+        execution.setChangeListener(changes::onChange);
+        changes.onChange(execution);
+    }
+
+    private void removeExecution(Execution execution) {
+        executions.remove(execution);
+        executionsById.remove(execution.getId());
+        executionsByIri.remove(execution.getIri());
+        if (execution.getPipeline() != null) {
+            Set<Execution> pipelineExecutions =
+                    executionsByPipeline.get(execution.getPipeline());
+            if (pipelineExecutions != null) {
+                pipelineExecutions.remove(execution);
+            }
+        }
+        executionsToUpdate.remove(execution);
+        execution.setChangeListener(null);
+        changes.remove(execution);
+    }
+
     private String getExecutionIri(File directory) {
         return this.configuration.getExecutionPrefix() + directory.getName();
     }
 
+    private DebugData loadDebugData(Execution execution) {
+        ExecutionLoader executionLoader = new ExecutionLoader();
+        try {
+            return DebugDataFactory.create(
+                    execution, executionLoader.loadStatements(execution));
+        } catch (MonitorException | RuntimeException ex) {
+            LOG.error("Can't load debug data for: {}",
+                    execution.getDirectory(), ex);
+            return null;
+        }
+    }
+
     private void updateDebugData(Execution execution) throws MonitorException {
         ExecutionLoader executionLoader = new ExecutionLoader();
         updateExecutionDebugData(
@@ -148,21 +318,26 @@ class ExecutionStorage
      * Return last part of the execution IRI after the last '/'.
      */
     public Execution getExecutionById(String id) {
-        for (Execution execution : executions) {
-            if (execution.getId().equals(id)) {
-                return execution;
-            }
-        }
-        return null;
+        return executionsById.get(id);
     }
 
     public Execution getExecutionByIri(String iri) {
-        for (Execution execution : executions) {
-            if (execution.getIri().equals(iri)) {
-                return execution;
-            }
+        return executionsByIri.get(iri);
+    }
+
+    /**
+     * Return executions with last change after given time.
+     */
+    public Collection<Execution> getExecutionsChangedAfter(Date date) {
+        return changes.changedAfter(date);
+    }
+
+    public Collection<Execution> getExecutionsForPipeline(Resource pipeline) {
+        Set<Execution> result = executionsByPipeline.get(pipeline);
+        if (result == null) {
+            return Collections.emptyList();
         }
-        return null;
+        return new ArrayList<>(result);
     }
 
     @Override
@@ -174,12 +349,7 @@ class ExecutionStorage
             LOG.error("Invalid overview object.", ex);
             return null;
         }
-        for (Execution execution : executions) {
-            if (execution.getIri().equals(iri)) {
-                return execution;
-            }
-        }
-        return null;
+        return executionsByIri.get(iri);
     }
 
     @Override
@@ -217,6 +387,7 @@ class ExecutionStorage
         }
         if (ExecutionStatus.isFinished(execution.getStatus())) {
             execution.setHasFinalData(true);
+            index.add(execution);
             eventListener.onExecutionHasFinalData(execution);
         }
     }
@@ -282,6 +453,8 @@ class ExecutionStorage
                 execution,
                 overviewFactory.createDeleted(execution, new Date()));
         this.directoriesToDelete.add(execution.getDirectory());
+        this.tombstones.add(execution);
+        index.remove(execution);
     }
 
     private Date getNowShiftedBySeconds(int secondsChange) {
@@ -293,10 +466,13 @@ class ExecutionStorage
     }
 
     public void updateExecutions() {
-        for (Execution execution : executions) {
+        for (Execution execution : new ArrayList<>(executionsToUpdate)) {
             if (shouldUpdate(execution)) {
                 update(execution);
             }
+            if (!shouldUpdate(execution)) {
+                executionsToUpdate.remove(execution);
+            }
         }
         this.deleteTombstones(new Date());
         this.deleteDirectories();
@@ -312,14 +488,13 @@ class ExecutionStorage
 
     private void deleteTombstones(Date time) {
         Collection<Execution> toDelete = new ArrayList<>(2);
-        for (Execution execution : executions) {
-            if (execution.getStatus() == ExecutionStatus.DELETED) {
-                if (execution.getTimeToLive().before(time)) {
-                    toDelete.add(execution);
-                }
+        for (Execution execution : tombstones) {
+            if (execution.getTimeToLive().before(time)) {
+                toDelete.add(execution);
             }
         }
-        this.executions.removeAll(toDelete);
+        toDelete.forEach(this::removeExecution);
+        this.tombstones.removeAll(toDelete);
     }
 
     private void deleteDirectories() {
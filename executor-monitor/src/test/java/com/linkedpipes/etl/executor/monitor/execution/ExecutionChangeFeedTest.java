@@ -0,0 +1,39 @@
+package com.linkedpipes.etl.executor.monitor.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+public class ExecutionChangeFeedTest {
+
+    @Test
+    public void changedAfter() {
+        ExecutionChangeFeed feed = new ExecutionChangeFeed();
+        Execution first = createExecution("http://execution/1", 1000);
+        Execution second = createExecution("http://execution/2", 2000);
+        feed.onChange(first);
+        feed.onChange(second);
+        Assertions.assertEquals(
+                List.of(first, second), feed.changedAfter(new Date(0)));
+        Assertions.assertEquals(
+                List.of(second), feed.changedAfter(new Date(1000)));
+        // Change moves the execution to the end.
+        first.setLastChange(new Date(3000));
+        feed.onChange(first);
+        Assertions.assertEquals(
+                List.of(first), feed.changedAfter(new Date(2000)));
+        feed.remove(first);
+        Assertions.assertEquals(
+                List.of(second), feed.changedAfter(new Date(0)));
+    }
+
+    private Execution createExecution(String iri, long lastChange) {
+        Execution execution = new Execution();
+        execution.setIri(iri);
+        execution.setLastChange(new Date(lastChange));
+        return execution;
+    }
+
+}
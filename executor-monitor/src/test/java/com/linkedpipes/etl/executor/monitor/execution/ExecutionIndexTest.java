@@ -0,0 +1,68 @@
+package com.linkedpipes.etl.executor.monitor.execution;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedpipes.etl.executor.monitor.execution.overview.OverviewFactory;
+import com.linkedpipes.etl.library.rdf.Statements;
+import com.linkedpipes.etl.library.rdf.StatementsBuilder;
+import com.linkedpipes.etl.library.rdf.StatementsCompare;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.SKOS;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Map;
+
+public class ExecutionIndexTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    public void addAndRestore() {
+        ExecutionIndex index =
+                new ExecutionIndex(new File(directory, "index.jsonl"));
+        Execution finished = createFinished("http://execution/1");
+        Execution deleted = createFinished("http://execution/2");
+        index.add(finished);
+        index.add(deleted);
+        index.remove(deleted);
+
+        Map<String, JsonNode> summaries = index.load();
+        Assertions.assertEquals(1, summaries.size());
+        Assertions.assertTrue(index.shouldCompact());
+
+        Execution actual = new Execution();
+        actual.setIri(finished.getIri());
+        index.restore(actual, summaries.get(finished.getId()));
+        Assertions.assertEquals(ExecutionStatus.FINISHED, actual.getStatus());
+        Assertions.assertEquals(finished.getPipeline(), actual.getPipeline());
+        Assertions.assertTrue(actual.isHasFinalData());
+        Assertions.assertTrue(StatementsCompare.isIsomorphic(
+                Statements.wrap(finished.getPipelineStatements()),
+                Statements.wrap(actual.getPipelineStatements())));
+    }
+
+    private Execution createFinished(String iri) {
+        Execution execution = new Execution();
+        execution.setIri(iri);
+        execution.setPipeline(SimpleValueFactory.getInstance()
+                .createIRI("http://pipeline"));
+        StatementsBuilder statements = Statements.arrayList().builder();
+        statements.setDefaultGraph(execution.getListGraph());
+        statements.add(execution.getPipeline(), SKOS.PREF_LABEL,
+                SimpleValueFactory.getInstance().createLiteral(
+                        "Pipeline", "en"));
+        execution.setPipelineStatements(statements);
+        ObjectNode overview = (ObjectNode)
+                (new OverviewFactory()).createQueued(execution);
+        overview.put("executionFinished", "2022-01-01T10:00:00.000");
+        execution.setOverviewJson(overview);
+        StatusSetter.setStatus(execution, ExecutionStatus.FINISHED);
+        execution.setHasFinalData(true);
+        return execution;
+    }
+
+}
@@ -34,6 +34,24 @@ public class ConfigurationHolder {
         return new File(configuration.pluginsDirectory);
     }
 
+    public int getComponentConcurrency() {
+        if (configuration.componentConcurrency == null) {
+            return 1;
+        }
+        return configuration.componentConcurrency;
+    }
+
+    /**
+     * Return null if the result cache is disabled.
+     */
+    public File getResultCacheDirectory() {
+        if (configuration.resultCacheDirectory == null
+                || configuration.resultCacheDirectory.isBlank()) {
+            return null;
+        }
+        return new File(configuration.resultCacheDirectory);
+    }
+
     public List<String> getBannedJarPatterns() {
         return configuration.bannedPluginIriPatterns;
     }
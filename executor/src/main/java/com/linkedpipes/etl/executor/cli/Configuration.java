@@ -40,6 +40,18 @@ public class Configuration {
      */
     public String pluginsDirectory;
 
+    /**
+     * Maximum number of pipeline components executed at the same time.
+     * Components are executed one by one if not set.
+     */
+    public Integer componentConcurrency;
+
+    /**
+     * Directory with component results shared by executions.
+     * Results are not reused if not set.
+     */
+    public String resultCacheDirectory;
+
     /**
      * List of regular expressions. If component IRI match any of the
      * patterns and is used in execution the execution fail before
@@ -70,6 +82,10 @@ public class Configuration {
                 osgiLibrariesDirectory, other.osgiLibrariesDirectory);
         result.pluginsDirectory = mergeProperty(
                 pluginsDirectory, other.pluginsDirectory);
+        result.componentConcurrency = mergeProperty(
+                componentConcurrency, other.componentConcurrency);
+        result.resultCacheDirectory = mergeProperty(
+                resultCacheDirectory, other.resultCacheDirectory);
 
         // Banning components is additive.
         result.bannedPluginIriPatterns = new ArrayList<>();
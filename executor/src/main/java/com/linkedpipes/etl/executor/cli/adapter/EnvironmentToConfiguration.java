@@ -21,6 +21,10 @@ public class EnvironmentToConfiguration {
                 "LP_ETL_EXECUTOR_LIBRARIES") ;
         next.pluginsDirectory =getEnv(
                 "LP_ETL_STORAGE_PLUGINS") ;
+        next.componentConcurrency = getEnvInteger(
+                "LP_ETL_EXECUTOR_COMPONENT_CONCURRENCY");
+        next.resultCacheDirectory = getEnv(
+                "LP_ETL_EXECUTOR_RESULT_CACHE");
         return defaults.merge(next);
     }
 
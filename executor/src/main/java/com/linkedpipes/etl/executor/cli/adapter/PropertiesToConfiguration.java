@@ -38,6 +38,10 @@ public class PropertiesToConfiguration {
                 "executor.osgi.lib.directory");
         next.pluginsDirectory = instance.getString(
                 "storage.jars.directory");
+        next.componentConcurrency = instance.getInteger(
+                "executor.execution.component_concurrency");
+        next.resultCacheDirectory = instance.getString(
+                "executor.execution.result_cache_directory");
         next.bannedPluginIriPatterns = instance.getList(
                 "executor.banned_jar_iri_patterns");
 
@@ -55,6 +55,12 @@ public class RdfToConfiguration {
     private static final String LOG_LEVEL =
             PREFIX + "logLevel";
 
+    private static final String COMPONENT_CONCURRENCY =
+            PREFIX + "componentConcurrency";
+
+    private static final String RESULT_CACHE_DIRECTORY =
+            PREFIX + "resultCacheDirectory";
+
     private static final String BANNED_PLUGINS =
             PREFIX + "bannedPluginIriPatterns";
 
@@ -125,6 +131,14 @@ public class RdfToConfiguration {
                         next.httpPort = literal.intValue();
                     }
                     break;
+                case COMPONENT_CONCURRENCY:
+                    if (value instanceof Literal literal) {
+                        next.componentConcurrency = literal.intValue();
+                    }
+                    break;
+                case RESULT_CACHE_DIRECTORY:
+                    next.resultCacheDirectory = value.stringValue();
+                    break;
                 default:
                     break;
             }
@@ -8,6 +8,9 @@ import com.linkedpipes.etl.executor.execution.model.ExecutionComponent;
 import com.linkedpipes.etl.executor.pipeline.Pipeline;
 import com.linkedpipes.etl.executor.pipeline.model.PipelineComponent;
 
+import java.io.File;
+import java.util.Map;
+
 /**
  * Interface of component executor. The component executor is responsible
  * for execution of a component in given way.
@@ -46,4 +49,17 @@ public interface ComponentExecutor {
         }
     }
 
+    /**
+     * Create executor that loads component outputs from given directories
+     * instead of executing the component.
+     */
+    static ComponentExecutor createMapFromCache(
+            ExecutionObserver execution, PipelineComponent component,
+            Map<String, File> directories) {
+        ExecutionComponent execComponent =
+                execution.getModel().getComponent(component);
+        return new MapFromCacheComponent(
+                execution, execComponent, directories);
+    }
+
 }
@@ -0,0 +1,46 @@
+package com.linkedpipes.etl.executor.component;
+
+import com.linkedpipes.etl.executor.ExecutorException;
+import com.linkedpipes.etl.executor.dataunit.DataUnitManager;
+import com.linkedpipes.etl.executor.execution.ExecutionObserver;
+import com.linkedpipes.etl.executor.execution.model.ExecutionComponent;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * Represent an execution of a component with result found in the result
+ * cache. The component is not executed, instead its output data units
+ * are loaded from the execution that produced them.
+ */
+class MapFromCacheComponent implements ComponentExecutor {
+
+    private final ExecutionObserver execution;
+
+    private final ExecutionComponent execComponent;
+
+    private final Map<String, File> directories;
+
+    public MapFromCacheComponent(
+            ExecutionObserver execution, ExecutionComponent execComponent,
+            Map<String, File> directories) {
+        this.execution = execution;
+        this.execComponent = execComponent;
+        this.directories = directories;
+    }
+
+    @Override
+    public boolean execute(DataUnitManager dataUnitManager) {
+        execution.onMapComponentBegin(execComponent);
+        try {
+            dataUnitManager.onComponentMapFromCache(
+                    execComponent, directories);
+        } catch (ExecutorException ex) {
+            execution.onMapComponentFailed(execComponent, ex);
+            return false;
+        }
+        execution.onMapComponentSuccessful(execComponent);
+        return true;
+    }
+
+}
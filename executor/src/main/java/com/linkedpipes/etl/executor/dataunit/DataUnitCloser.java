@@ -13,7 +13,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-
+/**
+ * Close data units once they are no longer needed. As components may be
+ * executed in parallel the methods are synchronized.
+ */
 class DataUnitCloser {
 
     private final Map<DataUnit, DataUnitContainer> dataUnits;
@@ -34,17 +37,17 @@ class DataUnitCloser {
         this.pipelineQuery = pipelineQuery;
     }
 
-    public void addComponentDataUnits(ExecutionComponent component) {
+    public synchronized void addComponentDataUnits(ExecutionComponent component) {
         for (DataUnit dataUnit : component.getDataUnits()) {
             this.owners.put(dataUnit, component);
         }
     }
 
-    public void onComponentExecuted(ExecutionComponent component) {
+    public synchronized void onComponentExecuted(ExecutionComponent component) {
         this.executedComponents.add(component.getIri());
     }
 
-    public void closeUnusedDataUnits() throws ExecutorException {
+    public synchronized void closeUnusedDataUnits() throws ExecutorException {
         // Collect ports to close.
         List<DataUnit> toClose = new ArrayList<>();
         for (Map.Entry<DataUnit, DataUnitContainer> entry :
@@ -69,6 +72,10 @@ class DataUnitCloser {
         ExecutionComponent owner = this.owners.get(dataUnit);
         // 'owner' would be null for only non-initialized components,
         // so that should never happen.
+        if (!this.executedComponents.contains(owner.getIri())) {
+            // The owner may still be running in parallel.
+            return false;
+        }
         return this.pipelineQuery.isNoLongerUsed(
                 this.executedComponents, owner, dataUnit);
     }
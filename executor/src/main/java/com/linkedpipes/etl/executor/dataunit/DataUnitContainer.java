@@ -41,7 +41,7 @@ class DataUnitContainer {
     /**
      * Internal status of the container.
      */
-    private Status status;
+    private volatile Status status;
 
     public DataUnitContainer(ManageableDataUnit instance, DataUnit metadata) {
         this.instance = instance;
@@ -168,6 +168,23 @@ class DataUnitContainer {
         this.status = Status.MAPPED;
     }
 
+    /**
+     * Compute hash of the content, return null if the content is not
+     * loaded or the data unit does not support hashing.
+     */
+    public String computeContentHash() throws ExecutorException {
+        if (this.status != Status.AFTER_EXECUTION
+                && this.status != Status.SAVED) {
+            return null;
+        }
+        try {
+            return this.instance.computeContentHash();
+        } catch (LpException ex) {
+            throw new ExecutorException("Can't compute hash of: {}",
+                    this.metadata.getIri(), ex);
+        }
+    }
+
     public boolean openWithData() {
         return this.status == Status.AFTER_EXECUTION
                 || this.status == Status.SAVED
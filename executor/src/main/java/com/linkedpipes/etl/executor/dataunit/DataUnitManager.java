@@ -131,6 +131,47 @@ public class DataUnitManager {
         }
         // After this there are no new data-units that can be closed.
         this.portCloser.addComponentDataUnits(component);
+        this.portCloser.onComponentExecuted(component);
+    }
+
+    /**
+     * Load output data units of given component from given directories,
+     * as if the component was executed. Input data units are not loaded.
+     *
+     * @param directories Map of data unit IRIs to data directories.
+     */
+    public void onComponentMapFromCache(
+            ExecutionComponent component, Map<String, File> directories)
+            throws ExecutorException {
+        for (DataUnit dataUnit : component.getDataUnits()) {
+            File directory = directories.get(dataUnit.getIri());
+            if (directory == null) {
+                continue;
+            }
+            DataUnitContainer container = getContainer(dataUnit);
+            container.initialize(directory);
+            container.onComponentDidExecute();
+            if (dataUnit.getPort().isSaveDebugData()) {
+                container.save();
+            }
+        }
+        this.portCloser.addComponentDataUnits(component);
+        this.portCloser.onComponentExecuted(component);
+        this.portCloser.closeUnusedDataUnits();
+    }
+
+    /**
+     * Return hash of the data unit content, or null if the hash
+     * is not available.
+     */
+    public String getContentHash(String iri) throws ExecutorException {
+        for (Map.Entry<DataUnit, DataUnitContainer> entry
+                : this.dataUnits.entrySet()) {
+            if (entry.getKey().getIri().equals(iri)) {
+                return entry.getValue().computeContentHash();
+            }
+        }
+        return null;
     }
 
 }
@@ -98,7 +98,7 @@ public class ExecutionObserver {
         }
     }
 
-    public void onExecutionBegin() {
+    public synchronized void onExecutionBegin() {
         LOG.info("onExecutionBegin");
         this.pipelineMessages.onExecutionBegin();
         this.overview.onExecutionBegin(new Date());
@@ -106,7 +106,7 @@ public class ExecutionObserver {
         this.writeOverviewToDisk();
     }
 
-    public void onCantLoadComponentJar(
+    public synchronized void onCantLoadComponentJar(
             PipelineComponent pplComponent, LpException ex) {
         // This is special case as the component is not being executed.
         ExecutionComponent component = execution.getComponent(pplComponent);
@@ -134,11 +134,11 @@ public class ExecutionObserver {
         this.componentMessages.remove(component);
     }
 
-    public void onBeforeComponentExecution(ExecutionComponent component) {
+    public synchronized void onBeforeComponentExecution(ExecutionComponent component) {
         createComponentWriter(component);
     }
 
-    public void onAfterComponentExecution(
+    public synchronized void onAfterComponentExecution(
             ExecutionComponent component) throws IOException {
         this.getComponentWriter(component).save();
         removeComponentWriter(component);
@@ -149,7 +149,7 @@ public class ExecutionObserver {
         return this.componentMessages.get(component);
     }
 
-    public void onComponentEvent(ExecutionComponent component, Event event) {
+    public synchronized void onComponentEvent(ExecutionComponent component, Event event) {
         this.getComponentWriter(component).addEvent(component, event);
         this.writeComponentMessagesToDisk(component);
     }
@@ -162,7 +162,7 @@ public class ExecutionObserver {
         }
     }
 
-    public void onMapComponentBegin(ExecutionComponent component) {
+    public synchronized void onMapComponentBegin(ExecutionComponent component) {
         LOG.info("onMapComponentBegin : {}",
                 component.getIri());
         this.overview.onComponentBegin();
@@ -172,7 +172,7 @@ public class ExecutionObserver {
         this.writeComponentMessagesToDisk(component);
     }
 
-    public void onMapComponentFailed(
+    public synchronized void onMapComponentFailed(
             ExecutionComponent component, LpException exception) {
         LOG.error("onMapComponentFailed : {}",
                 component.getIri(), exception);
@@ -183,7 +183,7 @@ public class ExecutionObserver {
         this.writeInformationToDisk();
     }
 
-    public void onMapComponentSuccessful(ExecutionComponent component) {
+    public synchronized void onMapComponentSuccessful(ExecutionComponent component) {
         LOG.info("onMapComponentSuccessful : {}",
                 component.getIri());
         this.overview.onComponentMapped();
@@ -191,7 +191,7 @@ public class ExecutionObserver {
         this.writeInformationToDisk();
     }
 
-    public void onExecuteComponentInitializing(ExecutionComponent component) {
+    public synchronized void onExecuteComponentInitializing(ExecutionComponent component) {
         LOG.info("onExecuteComponentInitializing : {}",
                 component.getIri());
         this.overview.onComponentBegin();
@@ -201,7 +201,7 @@ public class ExecutionObserver {
         this.writeComponentMessagesToDisk(component);
     }
 
-    public void onExecuteComponentFailed(
+    public synchronized void onExecuteComponentFailed(
             ExecutionComponent component, LpException exception) {
         LOG.error("onExecuteComponentFailed : {}",
                 component.getIri(), exception);
@@ -213,7 +213,7 @@ public class ExecutionObserver {
         this.writeComponentMessagesToDisk(component);
     }
 
-    public void onExecuteComponentSuccessful(
+    public synchronized void onExecuteComponentSuccessful(
             ExecutionComponent component, boolean cancelled) {
         LOG.info("onExecuteComponentSuccessful : {}",
                 component.getIri());
@@ -224,7 +224,7 @@ public class ExecutionObserver {
         this.writeInformationToDisk();
     }
 
-    public void onExecuteComponentCantSaveDataUnit(
+    public synchronized void onExecuteComponentCantSaveDataUnit(
             ExecutionComponent component, LpException exception) {
         LOG.error("onExecuteComponentFailed : {}",
                 component.getIri(), exception);
@@ -232,23 +232,23 @@ public class ExecutionObserver {
         // TODO Add message.
     }
 
-    public void onComponentUserCodeBegin(ExecutionComponent component) {
+    public synchronized void onComponentUserCodeBegin(ExecutionComponent component) {
         LOG.info("onComponentUserCodeBegin : {}",
                 component.getIri());
     }
 
-    public void onComponentUserCodeFailed(
+    public synchronized void onComponentUserCodeFailed(
             ExecutionComponent component, Throwable throwable) {
         LOG.info("onComponentUserCodeFailed : {}",
                 component.getIri());
     }
 
-    public void onComponentUserCodeSuccessful(ExecutionComponent component) {
+    public synchronized void onComponentUserCodeSuccessful(ExecutionComponent component) {
         LOG.info("onComponentUserCodeSuccessful : {}",
                 component.getIri());
     }
 
-    public void onCantCreateComponentExecutor(
+    public synchronized void onCantCreateComponentExecutor(
             ExecutionComponent component, LpException exception) {
         LOG.error("onCantCreateComponentExecutor : {}",
                 component.getIri(), exception);
@@ -256,7 +256,7 @@ public class ExecutionObserver {
         // TODO Add message.
     }
 
-    public void onPipelineLoaded(PipelineModel pipeline) {
+    public synchronized void onPipelineLoaded(PipelineModel pipeline) {
         LOG.info("onPipelineLoaded");
         this.status.onPipelineLoaded();
         this.execution.initialize(pipeline);
@@ -266,43 +266,43 @@ public class ExecutionObserver {
         this.writeOverviewToDisk();
     }
 
-    public void onCantLoadPipeline(LpException exception) {
+    public synchronized void onCantLoadPipeline(LpException exception) {
         LOG.info("onCantLoadPipeline", exception);
         this.status.onInvalidPipeline();
         // TODO Add message.
     }
 
-    public void onCantPreparePipeline(LpException exception) {
+    public synchronized void onCantPreparePipeline(LpException exception) {
         LOG.error("onCantLoadPipeline", exception);
         this.status.onCantPreparePipeline();
         // TODO Add message.
     }
 
-    public void onObserverBeginFailed(LpException exception) {
+    public synchronized void onObserverBeginFailed(LpException exception) {
         LOG.error("onObserverBeginFailed", exception);
         this.status.onObserverBeginFailed();
         // TODO Add message.
     }
 
-    public void onDataUnitsLoadingFailed(LpException exception) {
+    public synchronized void onDataUnitsLoadingFailed(LpException exception) {
         LOG.error("onDataUnitsLoadingFailed", exception);
         this.status.onDataUnitsLoadingFailed();
         // TODO Add message.
     }
 
-    public void onComponentsLoadingFailed(LpException exception) {
+    public synchronized void onComponentsLoadingFailed(LpException exception) {
         LOG.error("onComponentsLoadingFailed", exception);
         this.status.onComponentsLoadingFailed();
         // TODO Add message.
     }
 
-    public void onExecutionFailedOnThrowable(Throwable exception) {
+    public synchronized void onExecutionFailedOnThrowable(Throwable exception) {
         LOG.error("onExecutionFailedOnThrowable", exception);
         this.status.onExecutionFailedOnThrowable();
         // TODO Add message.
     }
 
-    public void onExecutionEnd() {
+    public synchronized void onExecutionEnd() {
         LOG.info("onExecutionEnd");
         this.pipelineMessages.onExecutionEnd();
         this.status.onExecutionEnd();
@@ -316,7 +316,7 @@ public class ExecutionObserver {
         }
     }
 
-    public void onCancelRequest() {
+    public synchronized void onCancelRequest() {
         LOG.info("onCancelRequest");
         this.status.onCancelRequest();
         this.overview.onExecutionCancelling();
@@ -324,24 +324,24 @@ public class ExecutionObserver {
         this.writeOverviewToDisk();
     }
 
-    public void onObserverEndFailed(LpException exception) {
+    public synchronized void onObserverEndFailed(LpException exception) {
         LOG.error("onObserverEndFailed", exception);
         this.status.onObserverEndFailed();
         // TODO Add message.
     }
 
-    public void onCantSaveComponentMessages(
+    public synchronized void onCantSaveComponentMessages(
             ExecutionComponent component, Exception exception) {
         LOG.error("onCantSaveComponentMessages", exception);
         this.status.onCantSaveComponentMessages();
     }
 
 
-    public void onComponentsExecutionBegin() {
+    public synchronized void onComponentsExecutionBegin() {
         this.status.onComponentsExecutionBegin();
     }
 
-    public void onComponentsExecutionEnd() {
+    public synchronized void onComponentsExecutionEnd() {
         // No operation here.
     }
 
@@ -357,7 +357,7 @@ public class ExecutionObserver {
         return pipelineMessages;
     }
 
-    public Statements getComponentMessages(ExecutionComponent component)
+    public synchronized Statements getComponentMessages(ExecutionComponent component)
             throws IOException {
         ComponentMessageWriter writer = this.componentMessages.get(component);
         if (writer != null) {
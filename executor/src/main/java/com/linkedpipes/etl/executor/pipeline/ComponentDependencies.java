@@ -0,0 +1,59 @@
+package com.linkedpipes.etl.executor.pipeline;
+
+import com.linkedpipes.etl.executor.pipeline.model.Connection;
+import com.linkedpipes.etl.executor.pipeline.model.PipelineComponent;
+import com.linkedpipes.etl.executor.pipeline.model.PipelineModel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency graph of pipeline components, build from the pipeline
+ * connections. Both data and run-after connections are considered,
+ * as in both cases the target must wait for the source.
+ */
+class ComponentDependencies {
+
+    /**
+     * For each component IRI store IRIs of components it depends on.
+     */
+    private final Map<String, Set<String>> dependencies = new HashMap<>();
+
+    public ComponentDependencies(PipelineModel pipeline) {
+        for (PipelineComponent component : pipeline.getComponents()) {
+            dependencies.put(component.getIri(), new HashSet<>());
+        }
+        for (Connection connection : pipeline.getConnections()) {
+            Set<String> target =
+                    dependencies.get(connection.getTargetComponent());
+            if (target == null) {
+                continue;
+            }
+            if (!dependencies.containsKey(connection.getSourceComponent())) {
+                // Source is not part of the pipeline.
+                continue;
+            }
+            target.add(connection.getSourceComponent());
+        }
+    }
+
+    public Set<String> getDependencies(PipelineComponent component) {
+        return Collections.unmodifiableSet(
+                dependencies.getOrDefault(
+                        component.getIri(), Collections.emptySet()));
+    }
+
+    /**
+     * Return true if all dependencies of given component are among
+     * given finished components.
+     */
+    public boolean isReady(
+            PipelineComponent component, Collection<String> finished) {
+        return finished.containsAll(getDependencies(component));
+    }
+
+}
@@ -0,0 +1,162 @@
+package com.linkedpipes.etl.executor.pipeline;
+
+import com.linkedpipes.etl.executor.pipeline.model.PipelineComponent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Execute components as soon as all components they depend on
+ * are finished. At most given number of components run at the same
+ * time. Ready components are started in the execution order. Once
+ * a component fails or the execution is cancelled, no new component
+ * is started and we wait for the running ones to finish.
+ */
+class ComponentScheduler {
+
+    @FunctionalInterface
+    interface ComponentRunner {
+
+        /**
+         * Return false if execution failed.
+         */
+        boolean execute(PipelineComponent component);
+
+    }
+
+    interface CancelControl {
+
+        boolean isCancelled();
+
+        /**
+         * Called when the scheduling thread is interrupted.
+         */
+        void cancel();
+
+    }
+
+    private static class ComponentResult {
+
+        final PipelineComponent component;
+
+        final boolean successful;
+
+        ComponentResult(PipelineComponent component, boolean successful) {
+            this.component = component;
+            this.successful = successful;
+        }
+
+    }
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ComponentScheduler.class);
+
+    private final List<PipelineComponent> components;
+
+    private final ComponentDependencies dependencies;
+
+    private final int concurrency;
+
+    private final ComponentRunner runner;
+
+    private final CancelControl cancelControl;
+
+    private boolean interrupted = false;
+
+    public ComponentScheduler(
+            List<PipelineComponent> components,
+            ComponentDependencies dependencies, int concurrency,
+            ComponentRunner runner, CancelControl cancelControl) {
+        this.components = components;
+        this.dependencies = dependencies;
+        this.concurrency = concurrency;
+        this.runner = runner;
+        this.cancelControl = cancelControl;
+    }
+
+    public void execute() {
+        List<PipelineComponent> waiting = new ArrayList<>(components);
+        Set<String> finished = new HashSet<>();
+        BlockingQueue<ComponentResult> results = new LinkedBlockingQueue<>();
+        ExecutorService executorService =
+                Executors.newFixedThreadPool(concurrency);
+        int running = 0;
+        boolean failed = false;
+        try {
+            while (true) {
+                if (!failed && !cancelControl.isCancelled()) {
+                    Iterator<PipelineComponent> iterator = waiting.iterator();
+                    while (iterator.hasNext() && running < concurrency) {
+                        PipelineComponent next = iterator.next();
+                        if (!dependencies.isReady(next, finished)) {
+                            continue;
+                        }
+                        iterator.remove();
+                        ++running;
+                        executorService.submit(() -> results.add(
+                                executeInWorker(next)));
+                    }
+                }
+                if (running == 0) {
+                    if (!failed && !cancelControl.isCancelled()
+                            && !waiting.isEmpty()) {
+                        LOG.error("Can't schedule remaining components: {}",
+                                waiting.size());
+                    }
+                    break;
+                }
+                ComponentResult result = takeResult(results);
+                --running;
+                if (result.successful) {
+                    finished.add(result.component.getIri());
+                } else {
+                    failed = true;
+                }
+            }
+        } finally {
+            executorService.shutdown();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private ComponentResult executeInWorker(PipelineComponent component) {
+        try {
+            return new ComponentResult(component, runner.execute(component));
+        } catch (Throwable t) {
+            LOG.error("Component execution failed on throwable: {}",
+                    component.getIri(), t);
+            return new ComponentResult(component, false);
+        }
+    }
+
+    /**
+     * Interrupt is handled as a cancel request, we still wait for
+     * the running components to finish. The interrupt flag is restored
+     * once the execution is over.
+     */
+    private ComponentResult takeResult(BlockingQueue<ComponentResult> queue) {
+        while (true) {
+            try {
+                return queue.take();
+            } catch (InterruptedException ex) {
+                if (!interrupted) {
+                    LOG.info("Interrupted, cancelling execution.");
+                    interrupted = true;
+                    cancelControl.cancel();
+                }
+            }
+        }
+    }
+
+}
@@ -9,19 +9,24 @@ import com.linkedpipes.etl.rdf.utils.RdfUtils;
 import com.linkedpipes.etl.rdf.utils.RdfUtilsException;
 import com.linkedpipes.etl.rdf.utils.model.BackendTripleWriter;
 import com.linkedpipes.etl.rdf.rdf4j.Rdf4jSource;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryResult;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
 import org.eclipse.rdf4j.repository.util.Repositories;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
 import org.eclipse.rdf4j.sail.nativerdf.NativeStore;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -140,6 +145,32 @@ public class Pipeline {
         }
     }
 
+    /**
+     * Return statements in given graph as sorted N-Triples lines.
+     * Blank node identifiers are kept as they are.
+     */
+    public List<String> getGraphAsLines(String graph)
+            throws ExecutorException {
+        List<String> result = new ArrayList<>();
+        try (RepositoryConnection connection = repository.getConnection();
+             RepositoryResult<Statement> statements =
+                     connection.getStatements(null, null, null,
+                             repository.getValueFactory().createIRI(graph))) {
+            for (Statement statement : statements) {
+                result.add(NTriplesUtil.toNTriplesString(
+                        statement.getSubject())
+                        + " " + NTriplesUtil.toNTriplesString(
+                        statement.getPredicate())
+                        + " " + NTriplesUtil.toNTriplesString(
+                        statement.getObject()) + " .");
+            }
+        } catch (RuntimeException ex) {
+            throw new ExecutorException("Can't read graph: {}", graph, ex);
+        }
+        Collections.sort(result);
+        return result;
+    }
+
     public void closeRepository() {
         if (repository != null) {
             repository.shutDown();
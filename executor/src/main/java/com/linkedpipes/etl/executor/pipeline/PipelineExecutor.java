@@ -33,7 +33,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 public class PipelineExecutor {
 
@@ -55,10 +57,22 @@ public class PipelineExecutor {
     private boolean cancelExecution = false;
 
     /**
-     * Current component executor, we need to access to this
+     * Maximum number of components executed at the same time.
+     */
+    private final int componentConcurrency;
+
+    /**
+     * Directory with result cache, null if the cache is disabled.
+     */
+    private final File resultCacheDirectory;
+
+    private ResultCache resultCache = null;
+
+    /**
+     * Current component executors, we need to access to this
      * objects because of {@link #cancelExecution()}.
      */
-    private ComponentExecutor executor = null;
+    private final Set<ComponentExecutor> executors = new HashSet<>();
 
     private final Map<String, PluginV1Instance>
             componentsInstances = new HashMap<>();
@@ -72,6 +86,43 @@ public class PipelineExecutor {
      */
     public PipelineExecutor(
             File directory, String iri, PluginServiceHolder modules) {
+        this(directory, iri, modules, 1);
+    }
+
+    /**
+     * Create the pipeline executor.
+     *
+     * @param directory            Execution directory.
+     * @param iri                  ExecutionObserver IRI.
+     * @param modules              Module service.
+     * @param componentConcurrency Maximum number of components to run
+     *                             at the same time, 1 for sequential
+     *                             execution.
+     */
+    public PipelineExecutor(
+            File directory, String iri, PluginServiceHolder modules,
+            int componentConcurrency) {
+        this(directory, iri, modules, componentConcurrency, null);
+    }
+
+    /**
+     * Create the pipeline executor.
+     *
+     * @param directory            Execution directory.
+     * @param iri                  ExecutionObserver IRI.
+     * @param modules              Module service.
+     * @param componentConcurrency Maximum number of components to run
+     *                             at the same time, 1 for sequential
+     *                             execution.
+     * @param resultCacheDirectory Directory with cached component results
+     *                             shared by executions, null to disable
+     *                             the cache.
+     */
+    public PipelineExecutor(
+            File directory, String iri, PluginServiceHolder modules,
+            int componentConcurrency, File resultCacheDirectory) {
+        this.componentConcurrency = Math.max(1, componentConcurrency);
+        this.resultCacheDirectory = resultCacheDirectory;
         // We assume that the directory we are executing is in the
         // directory with other executions.
         MDC.put(ExecutionLogger.EXECUTION_MDC, null);
@@ -116,9 +167,8 @@ public class PipelineExecutor {
             MDC.put(ExecutionLogger.EXECUTION_MDC, null);
             LOG.info("ExecutionObserver cancelled!");
             cancelExecution = true;
-            // Notify the executor if it's not null.
-            final ComponentExecutor currentExecutor = executor;
-            if (currentExecutor != null) {
+            // Notify all running executors.
+            for (ComponentExecutor currentExecutor : executors) {
                 LOG.info("Cancelling component!");
                 currentExecutor.cancel();
             }
@@ -157,6 +207,11 @@ public class PipelineExecutor {
             execution.onDataUnitsLoadingFailed(ex);
             return false;
         }
+        if (resultCacheDirectory != null) {
+            resultCache = new ResultCache(
+                    resultCacheDirectory, resources,
+                    execution.getModel().getIri(), pipeline, moduleFacade);
+        }
         try {
             loadComponents();
         } catch (ExecutorException ex) {
@@ -314,19 +369,68 @@ public class PipelineExecutor {
     }
 
     private void executeComponents() {
+        if (componentConcurrency > 1) {
+            executeComponentsInParallel();
+        } else {
+            executeComponentsSequentially();
+        }
+    }
+
+    private void executeComponentsSequentially() {
         for (PipelineComponent pplComponent
                 : pipeline.getModel().getComponents()) {
             if (!executeComponent(pplComponent)) {
                 break;
             }
-            synchronized (this) {
-                if (cancelExecution) {
-                    break;
-                }
+            if (isCancelled()) {
+                break;
             }
         }
     }
 
+    /**
+     * Execute components in parallel, see {@link ComponentScheduler}.
+     * Interrupt of the scheduling thread cancels the execution.
+     */
+    private void executeComponentsInParallel() {
+        LOG.info("Executing components in parallel, concurrency: {}",
+                componentConcurrency);
+        ComponentScheduler scheduler = new ComponentScheduler(
+                pipeline.getModel().getComponents(),
+                new ComponentDependencies(pipeline.getModel()),
+                componentConcurrency,
+                this::executeComponentInWorker,
+                new ComponentScheduler.CancelControl() {
+
+                    @Override
+                    public boolean isCancelled() {
+                        return PipelineExecutor.this.isCancelled();
+                    }
+
+                    @Override
+                    public void cancel() {
+                        cancelExecution();
+                    }
+
+                });
+        scheduler.execute();
+    }
+
+    private boolean executeComponentInWorker(PipelineComponent pplComponent) {
+        MDC.put(ExecutionLogger.EXECUTION_MDC, null);
+        try {
+            return executeComponent(pplComponent);
+        } finally {
+            MDC.remove(ExecutionLogger.EXECUTION_MDC);
+        }
+    }
+
+    private boolean isCancelled() {
+        synchronized (this) {
+            return cancelExecution;
+        }
+    }
+
     /**
      * Return false if execution failed.
      */
@@ -336,19 +440,51 @@ public class PipelineExecutor {
 
         this.execution.onBeforeComponentExecution(execComponent);
 
-        try {
-            this.executor = getExecutor(pplComponent);
-        } catch (ExecutorException ex) {
-            this.execution.onCantCreateComponentExecutor(execComponent, ex);
-            return this.afterComponentExecution(execComponent);
+        String cacheKey = createCacheKey(pplComponent);
+        Map<String, File> cachedResult = null;
+        if (cacheKey != null) {
+            cachedResult = resultCache.lookup(cacheKey, pplComponent);
         }
 
-        boolean shouldContinue = this.executor.execute(this.dataUnitManager);
+        ComponentExecutor executor;
+        if (cachedResult == null) {
+            try {
+                executor = getExecutor(pplComponent);
+            } catch (ExecutorException ex) {
+                this.execution.onCantCreateComponentExecutor(
+                        execComponent, ex);
+                return this.afterComponentExecution(execComponent);
+            }
+        } else {
+            executor = ComponentExecutor.createMapFromCache(
+                    execution, pplComponent, cachedResult);
+        }
+        synchronized (this) {
+            executors.add(executor);
+        }
+        boolean shouldContinue = executor.execute(this.dataUnitManager);
+        if (shouldContinue && cacheKey != null && cachedResult == null
+                && !isCancelled()) {
+            resultCache.store(cacheKey, execComponent);
+        }
         boolean messagesSaved = this.afterComponentExecution(execComponent);
-        this.executor = null;
+        synchronized (this) {
+            executors.remove(executor);
+        }
         return shouldContinue && messagesSaved;
     }
 
+    /**
+     * Return null if the result cache is not used for given component.
+     */
+    private String createCacheKey(PipelineComponent component) {
+        if (resultCache == null
+                || component.getExecutionType() != ExecutionType.EXECUTE) {
+            return null;
+        }
+        return resultCache.createKey(component, dataUnitManager);
+    }
+
     private boolean afterComponentExecution(ExecutionComponent component) {
         try {
             this.execution.onAfterComponentExecution(component);
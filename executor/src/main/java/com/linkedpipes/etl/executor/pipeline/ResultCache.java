@@ -0,0 +1,330 @@
+package com.linkedpipes.etl.executor.pipeline;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedpipes.etl.executor.ExecutorException;
+import com.linkedpipes.etl.executor.dataunit.DataUnitManager;
+import com.linkedpipes.etl.executor.execution.ResourceManager;
+import com.linkedpipes.etl.executor.execution.model.DataUnit;
+import com.linkedpipes.etl.executor.execution.model.ExecutionComponent;
+import com.linkedpipes.etl.executor.pipeline.model.Connection;
+import com.linkedpipes.etl.executor.pipeline.model.PipelineComponent;
+import com.linkedpipes.etl.executor.pipeline.model.Port;
+import com.linkedpipes.etl.executor.plugin.PluginHolder;
+import com.linkedpipes.etl.executor.plugin.PluginServiceHolder;
+import com.linkedpipes.etl.executor.plugin.v1.PluginV1Holder;
+import com.linkedpipes.etl.library.template.plugin.model.PluginType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Content addressed cache of component results shared by executions.
+ * The key is computed from the component template, the plugin file,
+ * the component configuration and the content of data units connected
+ * to the component inputs. A cache entry points to the saved output data
+ * units of the execution that produced them.
+ *
+ * <p>Only transformers with at least one data input are cached, as
+ * other components may depend on resources outside the pipeline.
+ * A result is stored only when all output data units are saved
+ * and the working data are kept after the execution. Entries
+ * pointing to missing data are removed on lookup.
+ */
+class ResultCache {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ResultCache.class);
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final String EXECUTION = "execution";
+
+    private static final String COMPONENT = "component";
+
+    private static final String DATA_UNITS = "dataUnits";
+
+    /**
+     * Plugin files do not change while the executor is running, unless
+     * they are replaced, so we key the hashes by path, size and
+     * modification time.
+     */
+    private static final Map<String, String> PLUGIN_HASHES =
+            new ConcurrentHashMap<>();
+
+    private final File directory;
+
+    private final ResourceManager resources;
+
+    private final String executionIri;
+
+    private final Pipeline pipeline;
+
+    private final PluginServiceHolder plugins;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * Content of a data unit does not change once the component that
+     * produced it is executed, so each hash is computed only once.
+     */
+    private final Map<String, String> dataUnitHashes =
+            new ConcurrentHashMap<>();
+
+    public ResultCache(
+            File directory, ResourceManager resources, String executionIri,
+            Pipeline pipeline, PluginServiceHolder plugins) {
+        this.directory = directory;
+        this.resources = resources;
+        this.executionIri = executionIri;
+        this.pipeline = pipeline;
+        this.plugins = plugins;
+    }
+
+    /**
+     * Return cache key for given component, or null if the result
+     * of the component can not be cached. Must be called once all
+     * components the given component depends on are executed.
+     */
+    public String createKey(
+            PipelineComponent component, DataUnitManager dataUnits) {
+        try {
+            return createKeyOrNull(component, dataUnits);
+        } catch (ExecutorException | IOException ex) {
+            LOG.warn("Can't compute cache key for: {}",
+                    component.getIri(), ex);
+            return null;
+        }
+    }
+
+    private String createKeyOrNull(
+            PipelineComponent component, DataUnitManager dataUnits)
+            throws ExecutorException, IOException {
+        PluginHolder plugin = plugins.getPlugin(pipeline, component.getIri());
+        if (!(plugin instanceof PluginV1Holder holder)
+                || holder.pluginFile() == null
+                || holder.template().type() != PluginType.TRANSFORMER) {
+            return null;
+        }
+        if (component.getPorts().stream().allMatch(Port::isInput)) {
+            return null;
+        }
+        List<String> inputs = new ArrayList<>();
+        for (Connection connection : pipeline.getModel().getConnections()) {
+            if (!connection.isDataConnection()
+                    || !component.getIri().equals(
+                    connection.getTargetComponent())) {
+                continue;
+            }
+            String hash = getSourceHash(connection, dataUnits);
+            if (hash == null) {
+                return null;
+            }
+            inputs.add(connection.getTargetBinding() + " " + hash);
+        }
+        if (inputs.isEmpty()) {
+            return null;
+        }
+        // The order of sources for a single port does not matter.
+        Collections.sort(inputs);
+        MessageDigest digest = createDigest();
+        update(digest, component.getTemplate());
+        update(digest, getPluginHash(holder.pluginFile()));
+        if (component.getConfigurationGraph() != null) {
+            for (String line : pipeline.getGraphAsLines(
+                    component.getConfigurationGraph())) {
+                update(digest, line);
+            }
+        }
+        for (String input : inputs) {
+            update(digest, input);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String getSourceHash(
+            Connection connection, DataUnitManager dataUnits)
+            throws ExecutorException {
+        PipelineComponent source = pipeline.getModel().getComponent(
+                connection.getSourceComponent());
+        if (source == null) {
+            return null;
+        }
+        for (Port port : source.getPorts()) {
+            if (!port.getBinding().equals(connection.getSourceBinding())) {
+                continue;
+            }
+            String hash = dataUnitHashes.get(port.getIri());
+            if (hash == null) {
+                hash = dataUnits.getContentHash(port.getIri());
+                if (hash != null) {
+                    dataUnitHashes.put(port.getIri(), hash);
+                }
+            }
+            return hash;
+        }
+        return null;
+    }
+
+    private String getPluginHash(File file) throws IOException {
+        String key = file.getAbsolutePath() + ":" + file.length()
+                + ":" + file.lastModified();
+        String hash = PLUGIN_HASHES.get(key);
+        if (hash != null) {
+            return hash;
+        }
+        MessageDigest digest = createDigest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream stream = Files.newInputStream(file.toPath())) {
+            int length;
+            while ((length = stream.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+        }
+        hash = HexFormat.of().formatHex(digest.digest());
+        PLUGIN_HASHES.put(key, hash);
+        return hash;
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Missing " + HASH_ALGORITHM, ex);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    /**
+     * Return directories with data of output data units for given
+     * component, or null if there is no valid entry for given key.
+     */
+    public Map<String, File> lookup(String key, PipelineComponent component) {
+        File file = entryFile(key);
+        if (!file.exists()) {
+            return null;
+        }
+        JsonNode root;
+        try {
+            root = mapper.readTree(file);
+        } catch (IOException ex) {
+            LOG.warn("Can't read cache entry: {}", file, ex);
+            deleteEntry(file);
+            return null;
+        }
+        String execution = root.path(EXECUTION).asText(null);
+        JsonNode dataUnitsNode = root.path(DATA_UNITS);
+        Map<String, File> result = new HashMap<>();
+        for (Port port : component.getPorts()) {
+            if (port.isInput()) {
+                continue;
+            }
+            String path = dataUnitsNode.path(port.getBinding()).asText(null);
+            if (execution == null || path == null) {
+                deleteEntry(file);
+                return null;
+            }
+            File dataDirectory = resources.resolveExecutionPath(
+                    execution, path);
+            if (!dataDirectory.isDirectory()) {
+                LOG.info("Removing cache entry with missing data: {}", key);
+                deleteEntry(file);
+                return null;
+            }
+            result.put(port.getIri(), dataDirectory);
+        }
+        LOG.info("Using cached result for: {} from: {}",
+                component.getIri(), execution);
+        return result;
+    }
+
+    /**
+     * Store result of given component executed in this execution.
+     */
+    public void store(String key, ExecutionComponent component) {
+        if (pipeline.getModel().isDeleteWorkingData()) {
+            return;
+        }
+        ObjectNode root = mapper.createObjectNode();
+        root.put(EXECUTION, executionIri);
+        root.put(COMPONENT, component.getIri());
+        ObjectNode dataUnitsNode = root.putObject(DATA_UNITS);
+        for (DataUnit dataUnit : component.getDataUnits()) {
+            Port port = dataUnit.getPort();
+            if (port.isInput()) {
+                continue;
+            }
+            if (dataUnit.getRelativeSaveDataPath() == null) {
+                // The output is not saved, so it can not be reused.
+                return;
+            }
+            dataUnitsNode.put(
+                    port.getBinding(), dataUnit.getRelativeSaveDataPath());
+        }
+        File file = entryFile(key);
+        try {
+            writeEntry(root, file);
+        } catch (IOException ex) {
+            LOG.warn("Can't write cache entry for: {}",
+                    component.getIri(), ex);
+        }
+    }
+
+    /**
+     * The entry is written to a temporary file and then moved,
+     * so a concurrent lookup never reads a partial entry.
+     */
+    private void writeEntry(ObjectNode root, File file) throws IOException {
+        directory.mkdirs();
+        Path temp = Files.createTempFile(
+                directory.toPath(), file.getName(), ".tmp");
+        try {
+            mapper.writeValue(temp.toFile(), root);
+            try {
+                Files.move(temp, file.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void deleteEntry(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException ex) {
+            LOG.warn("Can't delete cache entry: {}", file, ex);
+        }
+    }
+
+    private File entryFile(String key) {
+        return new File(directory, key + ".json");
+    }
+
+}
@@ -55,9 +55,7 @@ public class PluginServiceHolder
 
     public PluginV1Instance getComponent(Pipeline pipeline, String component)
             throws ExecutorException {
-        String template = getComponentTemplateIri(pipeline, component);
-        checkIfBundleIsAllowed(template);
-        PluginHolder pluginHolder = osgi.getPlugin(template);
+        PluginHolder pluginHolder = getPlugin(pipeline, component);
         if (pluginHolder instanceof PluginV1Holder v1Holder) {
             return v1Holder.createInstance(pipeline, component);
         }
@@ -65,6 +63,16 @@ public class PluginServiceHolder
                 pluginHolder.getClass().getName());
     }
 
+    /**
+     * Return plugin used to execute given component.
+     */
+    public PluginHolder getPlugin(Pipeline pipeline, String component)
+            throws ExecutorException {
+        String template = getComponentTemplateIri(pipeline, component);
+        checkIfBundleIsAllowed(template);
+        return osgi.getPlugin(template);
+    }
+
     private String getComponentTemplateIri(Pipeline pipeline, String component)
             throws ExecutorException {
         String query = getComponentTemplateQuery(
@@ -13,6 +13,7 @@ import org.osgi.framework.wiring.BundleWiring;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.net.URL;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -30,7 +31,10 @@ class OsgiClassLoader {
 
     private final Map<String, Class<?>> classes = new HashMap<>(2);
 
+    private final File pluginFile;
+
     protected OsgiClassLoader(JavaPlugin javaPlugin) {
+        this.pluginFile = javaPlugin.file();
         for (PluginTemplate template : javaPlugin.templates()) {
             templates.put(template.resource().stringValue(), template);
         }
@@ -111,13 +115,15 @@ class OsgiClassLoader {
             Class<?> componentClass = classes.values().iterator().next();
             return Collections.singletonMap(
                     template.resource().stringValue(),
-                    new PluginV1Holder(template, componentClass));
+                    new PluginV1Holder(
+                            template, componentClass, pluginFile));
         }
         Map<String, PluginHolder> result = new HashMap<>();
         for (Map.Entry<String, Class<?>> classEntry : classes.entrySet()) {
             PluginTemplate template = templates.get(classEntry.getKey());
             result.put(classEntry.getKey(),
-                    new PluginV1Holder(template, classEntry.getValue()));
+                    new PluginV1Holder(
+                            template, classEntry.getValue(), pluginFile));
         }
         return result;
     }
@@ -8,15 +8,25 @@ import com.linkedpipes.etl.executor.plugin.PluginHolder;
 import com.linkedpipes.etl.executor.rdf.RdfSourceWrap;
 import com.linkedpipes.etl.library.template.plugin.model.PluginTemplate;
 
+import java.io.File;
+
 public class PluginV1Holder implements PluginHolder {
 
     private final PluginTemplate template;
 
     private final Class<?> componentClass;
 
-    public PluginV1Holder(PluginTemplate template, Class<?> componentClass) {
+    /**
+     * File the plugin was loaded from, can be null.
+     */
+    private final File pluginFile;
+
+    public PluginV1Holder(
+            PluginTemplate template, Class<?> componentClass,
+            File pluginFile) {
         this.template = template;
         this.componentClass = componentClass;
+        this.pluginFile = pluginFile;
     }
 
     @Override
@@ -24,6 +34,10 @@ public class PluginV1Holder implements PluginHolder {
         return template;
     }
 
+    public File pluginFile() {
+        return pluginFile;
+    }
+
     public PluginV1Instance createInstance(
             Pipeline pipeline, String component)
             throws ExecutorException {
@@ -2,6 +2,7 @@ package com.linkedpipes.etl.executor.web.servlet;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedpipes.etl.executor.ConfigurationHolder;
 import com.linkedpipes.etl.executor.ExecutorException;
 import com.linkedpipes.etl.executor.execution.model.ExecutionComponent;
 import com.linkedpipes.etl.executor.execution.model.ExecutionModel;
@@ -34,15 +35,19 @@ class ExecutionServlet {
 
     private final TaskExecutor taskExecutor;
 
+    private final ConfigurationHolder configuration;
+
     private PipelineExecutor executor = null;
 
     private final Object lock = new Object();
 
     @Autowired
     public ExecutionServlet(
-            PluginServiceHolder modules, TaskExecutor taskExecutor) {
+            PluginServiceHolder modules, TaskExecutor taskExecutor,
+            ConfigurationHolder configuration) {
         this.modules = modules;
         this.taskExecutor = taskExecutor;
+        this.configuration = configuration;
     }
 
     @ResponseBody
@@ -66,7 +71,9 @@ class ExecutionServlet {
                 return false;
             }
             PipelineExecutor newExecutor = new PipelineExecutor(
-                    executionDirectory, iri, modules);
+                    executionDirectory, iri, modules,
+                    configuration.getComponentConcurrency(),
+                    configuration.getResultCacheDirectory());
             executor = newExecutor;
             taskExecutor.execute(() -> {
                 executor.execute();
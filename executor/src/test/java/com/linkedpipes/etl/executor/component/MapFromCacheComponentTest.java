@@ -0,0 +1,36 @@
+package com.linkedpipes.etl.executor.component;
+
+import com.linkedpipes.etl.executor.ExecutorException;
+import com.linkedpipes.etl.executor.dataunit.DataUnitManager;
+import com.linkedpipes.etl.executor.execution.ExecutionObserver;
+import com.linkedpipes.etl.executor.execution.model.ExecutionComponent;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+
+public class MapFromCacheComponentTest {
+
+    @Test
+    public void execute() throws ExecutorException {
+        ExecutionObserver execution = Mockito.mock(ExecutionObserver.class);
+        ExecutionComponent execComponent =
+                Mockito.mock(ExecutionComponent.class);
+        Map<String, File> directories = Collections.singletonMap(
+                "http://dataunit", new File("data"));
+        MapFromCacheComponent executor = new MapFromCacheComponent(
+                execution, execComponent, directories);
+        DataUnitManager dataUnits = Mockito.mock(DataUnitManager.class);
+        executor.execute(dataUnits);
+        //
+        Mockito.verify(dataUnits, Mockito.times(1))
+                .onComponentMapFromCache(execComponent, directories);
+        Mockito.verify(execution, Mockito.times(1))
+                .onMapComponentBegin(execComponent);
+        Mockito.verify(execution, Mockito.times(1))
+                .onMapComponentSuccessful(execComponent);
+    }
+
+}
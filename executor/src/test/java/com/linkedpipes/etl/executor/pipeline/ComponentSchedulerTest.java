@@ -0,0 +1,208 @@
+package com.linkedpipes.etl.executor.pipeline;
+
+import com.linkedpipes.etl.executor.pipeline.model.Connection;
+import com.linkedpipes.etl.executor.pipeline.model.PipelineComponent;
+import com.linkedpipes.etl.executor.pipeline.model.PipelineModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ComponentSchedulerTest {
+
+    private static class Cancel implements ComponentScheduler.CancelControl {
+
+        volatile boolean cancelled = false;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+    }
+
+    private final List<PipelineComponent> components = new ArrayList<>();
+
+    private final List<Connection> connections = new ArrayList<>();
+
+    private final List<String> executed =
+            Collections.synchronizedList(new ArrayList<>());
+
+    private final Cancel cancel = new Cancel();
+
+    @Test
+    public void executeInDependencyOrder() {
+        // Listed in reversed order, so the order must come from connections.
+        PipelineComponent third = component("third");
+        PipelineComponent second = component("second");
+        PipelineComponent first = component("first");
+        connect(first, second);
+        connect(second, third);
+        createScheduler(4, component -> {
+            executed.add(component.getIri());
+            return true;
+        }).execute();
+        Assertions.assertEquals(
+                List.of("first", "second", "third"), executed);
+    }
+
+    @Test
+    public void executeIndependentBranchesConcurrently() {
+        PipelineComponent left = component("left");
+        PipelineComponent right = component("right");
+        PipelineComponent join = component("join");
+        connect(left, join);
+        connect(right, join);
+        // Both branches must be running at the same time to pass.
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        createScheduler(2, component -> {
+            if (component != join) {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception ex) {
+                    return false;
+                }
+            }
+            executed.add(component.getIri());
+            return true;
+        }).execute();
+        Assertions.assertEquals(3, executed.size());
+        Assertions.assertEquals("join", executed.get(2));
+    }
+
+    @Test
+    public void failureStopsScheduling() {
+        PipelineComponent failing = component("failing");
+        PipelineComponent dependent = component("dependent");
+        component("independent");
+        connect(failing, dependent);
+        createScheduler(1, component -> {
+            executed.add(component.getIri());
+            return component != failing;
+        }).execute();
+        Assertions.assertEquals(List.of("failing"), executed);
+    }
+
+    @Test
+    public void throwableIsFailure() {
+        component("throwing");
+        component("next");
+        createScheduler(1, component -> {
+            executed.add(component.getIri());
+            throw new RuntimeException("Failure");
+        }).execute();
+        Assertions.assertEquals(List.of("throwing"), executed);
+    }
+
+    @Test
+    public void runningComponentsFinishAfterFailure() {
+        PipelineComponent failing = component("failing");
+        component("running");
+        component("waiting");
+        CountDownLatch failed = new CountDownLatch(1);
+        createScheduler(2, component -> {
+            executed.add(component.getIri());
+            if (component == failing) {
+                failed.countDown();
+                return false;
+            }
+            try {
+                failed.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                return false;
+            }
+            return true;
+        }).execute();
+        Assertions.assertEquals(2, executed.size());
+        Assertions.assertFalse(executed.contains("waiting"));
+    }
+
+    @Test
+    public void cancelStopsScheduling() {
+        PipelineComponent first = component("first");
+        PipelineComponent second = component("second");
+        connect(first, second);
+        createScheduler(2, component -> {
+            executed.add(component.getIri());
+            cancel.cancel();
+            return true;
+        }).execute();
+        Assertions.assertEquals(List.of("first"), executed);
+    }
+
+    @Test
+    public void interruptCancelsExecution() throws Exception {
+        PipelineComponent first = component("first");
+        PipelineComponent second = component("second");
+        connect(first, second);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ComponentScheduler scheduler = createScheduler(2, component -> {
+            executed.add(component.getIri());
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                return false;
+            }
+            return true;
+        });
+        AtomicBoolean interruptRestored = new AtomicBoolean(false);
+        Thread thread = new Thread(() -> {
+            scheduler.execute();
+            interruptRestored.set(Thread.currentThread().isInterrupted());
+        });
+        thread.start();
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        thread.interrupt();
+        // Wait for the interrupt to be handled.
+        for (int i = 0; i < 100 && !cancel.isCancelled(); ++i) {
+            Thread.sleep(50);
+        }
+        Assertions.assertTrue(cancel.isCancelled());
+        release.countDown();
+        thread.join(10_000);
+        Assertions.assertFalse(thread.isAlive());
+        Assertions.assertTrue(interruptRestored.get());
+        Assertions.assertEquals(List.of("first"), executed);
+    }
+
+    private PipelineComponent component(String iri) {
+        PipelineComponent component = Mockito.mock(PipelineComponent.class);
+        Mockito.when(component.getIri()).thenReturn(iri);
+        components.add(component);
+        return component;
+    }
+
+    private void connect(PipelineComponent source, PipelineComponent target) {
+        Connection connection = Mockito.mock(Connection.class);
+        String sourceIri = source.getIri();
+        String targetIri = target.getIri();
+        Mockito.when(connection.getSourceComponent()).thenReturn(sourceIri);
+        Mockito.when(connection.getTargetComponent()).thenReturn(targetIri);
+        connections.add(connection);
+    }
+
+    private ComponentScheduler createScheduler(
+            int concurrency, ComponentScheduler.ComponentRunner runner) {
+        PipelineModel model = Mockito.mock(PipelineModel.class);
+        Mockito.when(model.getComponents()).thenReturn(components);
+        Mockito.when(model.getConnections()).thenReturn(connections);
+        return new ComponentScheduler(
+                components, new ComponentDependencies(model),
+                concurrency, runner, cancel);
+    }
+
+}
@@ -0,0 +1,183 @@
+package com.linkedpipes.etl.executor.pipeline;
+
+import com.linkedpipes.etl.executor.dataunit.DataUnitManager;
+import com.linkedpipes.etl.executor.execution.ResourceManager;
+import com.linkedpipes.etl.executor.execution.model.DataUnit;
+import com.linkedpipes.etl.executor.execution.model.ExecutionComponent;
+import com.linkedpipes.etl.executor.pipeline.model.Connection;
+import com.linkedpipes.etl.executor.pipeline.model.PipelineComponent;
+import com.linkedpipes.etl.executor.pipeline.model.PipelineModel;
+import com.linkedpipes.etl.executor.pipeline.model.Port;
+import com.linkedpipes.etl.executor.plugin.PluginServiceHolder;
+import com.linkedpipes.etl.executor.plugin.v1.PluginV1Holder;
+import com.linkedpipes.etl.library.template.plugin.model.PluginTemplate;
+import com.linkedpipes.etl.library.template.plugin.model.PluginType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+public class ResultCacheTest {
+
+    private static final String EXECUTION =
+            "http://localhost/resources/executions/execution";
+
+    private static final String COMPONENT = "http://localhost/component";
+
+    private static final String SOURCE = "http://localhost/source";
+
+    private static final String SOURCE_OUTPUT = "http://localhost/source/out";
+
+    private static final String OUTPUT = "http://localhost/component/out";
+
+    @TempDir
+    File directory;
+
+    private Pipeline pipeline;
+
+    private PipelineModel model;
+
+    private PipelineComponent component;
+
+    private Port outputPort;
+
+    private PluginServiceHolder plugins;
+
+    private DataUnitManager dataUnits;
+
+    private ResultCache cache;
+
+    @BeforeEach
+    public void before() throws Exception {
+        Port inputPort = createPort(
+                "http://localhost/component/in", "in", true);
+        outputPort = createPort(OUTPUT, "out", false);
+        component = Mockito.mock(PipelineComponent.class);
+        Mockito.when(component.getIri()).thenReturn(COMPONENT);
+        Mockito.when(component.getTemplate())
+                .thenReturn("http://localhost/template");
+        Mockito.when(component.getPorts())
+                .thenReturn(List.of(inputPort, outputPort));
+        PipelineComponent source = Mockito.mock(PipelineComponent.class);
+        Port sourcePort = createPort(SOURCE_OUTPUT, "sourceOut", false);
+        Mockito.when(source.getPorts()).thenReturn(List.of(sourcePort));
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.isDataConnection()).thenReturn(true);
+        Mockito.when(connection.getSourceComponent()).thenReturn(SOURCE);
+        Mockito.when(connection.getSourceBinding()).thenReturn("sourceOut");
+        Mockito.when(connection.getTargetComponent()).thenReturn(COMPONENT);
+        Mockito.when(connection.getTargetBinding()).thenReturn("in");
+        model = Mockito.mock(PipelineModel.class);
+        Mockito.when(model.getConnections()).thenReturn(List.of(connection));
+        Mockito.when(model.getComponent(SOURCE)).thenReturn(source);
+        pipeline = Mockito.mock(Pipeline.class);
+        Mockito.when(pipeline.getModel()).thenReturn(model);
+        //
+        File pluginFile = new File(directory, "plugin.jar");
+        Files.writeString(pluginFile.toPath(), "plugin");
+        PluginTemplate template = Mockito.mock(PluginTemplate.class);
+        Mockito.when(template.type()).thenReturn(PluginType.TRANSFORMER);
+        plugins = Mockito.mock(PluginServiceHolder.class);
+        Mockito.when(plugins.getPlugin(pipeline, COMPONENT)).thenReturn(
+                new PluginV1Holder(template, Object.class, pluginFile));
+        //
+        dataUnits = Mockito.mock(DataUnitManager.class);
+        Mockito.when(dataUnits.getContentHash(SOURCE_OUTPUT))
+                .thenReturn("content");
+        cache = createCache();
+    }
+
+    private static Port createPort(String iri, String binding, boolean input) {
+        Port port = Mockito.mock(Port.class);
+        Mockito.when(port.getIri()).thenReturn(iri);
+        Mockito.when(port.getBinding()).thenReturn(binding);
+        Mockito.when(port.isInput()).thenReturn(input);
+        return port;
+    }
+
+    @Test
+    public void keyDependsOnInputContent() throws Exception {
+        String key = cache.createKey(component, dataUnits);
+        Assertions.assertNotNull(key);
+        Assertions.assertEquals(key, cache.createKey(component, dataUnits));
+        // The data unit hash is computed only once per execution.
+        Mockito.verify(dataUnits, Mockito.times(1))
+                .getContentHash(SOURCE_OUTPUT);
+        //
+        DataUnitManager otherDataUnits = Mockito.mock(DataUnitManager.class);
+        Mockito.when(otherDataUnits.getContentHash(SOURCE_OUTPUT))
+                .thenReturn("other content");
+        String otherKey = createCache().createKey(component, otherDataUnits);
+        Assertions.assertNotNull(otherKey);
+        Assertions.assertNotEquals(key, otherKey);
+    }
+
+    @Test
+    public void noKeyWithoutInputHash() throws Exception {
+        DataUnitManager otherDataUnits = Mockito.mock(DataUnitManager.class);
+        Assertions.assertNull(cache.createKey(component, otherDataUnits));
+    }
+
+    @Test
+    public void storeAndLookup() throws Exception {
+        String key = cache.createKey(component, dataUnits);
+        Assertions.assertNull(cache.lookup(key, component));
+        cache.store(key, createExecutionComponent());
+        File data = new File(directory, "executions/execution/data/out");
+        data.mkdirs();
+        //
+        Map<String, File> result = cache.lookup(key, component);
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(Map.of(OUTPUT, data), result);
+    }
+
+    @Test
+    public void doNotStoreWhenWorkingDataAreDeleted() throws Exception {
+        Mockito.when(model.isDeleteWorkingData()).thenReturn(true);
+        String key = cache.createKey(component, dataUnits);
+        cache.store(key, createExecutionComponent());
+        new File(directory, "executions/execution/data/out").mkdirs();
+        Assertions.assertNull(cache.lookup(key, component));
+    }
+
+    @Test
+    public void removeEntryWithMissingData() throws Exception {
+        String key = cache.createKey(component, dataUnits);
+        cache.store(key, createExecutionComponent());
+        File entry = new File(directory, "cache/" + key + ".json");
+        Assertions.assertTrue(entry.exists());
+        // The data directory does not exist.
+        Assertions.assertNull(cache.lookup(key, component));
+        Assertions.assertFalse(entry.exists());
+        // Once the data are back, the entry is gone anyway.
+        new File(directory, "executions/execution/data/out").mkdirs();
+        Assertions.assertNull(cache.lookup(key, component));
+    }
+
+    private ResultCache createCache() {
+        ResourceManager resources = new ResourceManager(
+                new File(directory, "executions"),
+                new File(directory, "executions/execution"));
+        return new ResultCache(
+                new File(directory, "cache"), resources, EXECUTION,
+                pipeline, plugins);
+    }
+
+    private ExecutionComponent createExecutionComponent() {
+        DataUnit dataUnit = Mockito.mock(DataUnit.class);
+        Mockito.when(dataUnit.getPort()).thenReturn(outputPort);
+        Mockito.when(dataUnit.getRelativeSaveDataPath())
+                .thenReturn("data/out");
+        ExecutionComponent result = Mockito.mock(ExecutionComponent.class);
+        Mockito.when(result.getIri()).thenReturn(COMPONENT);
+        Mockito.when(result.getDataUnits()).thenReturn(List.of(dataUnit));
+        return result;
+    }
+
+}
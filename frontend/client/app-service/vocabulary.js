@@ -61,6 +61,7 @@
         "TOMBSTONE" : LP + "Tombstone",
         "HAS_REPO_POLICY": LP + "rdfRepositoryPolicy",
         "HAS_REPO_TYPE": LP + "rdfRepositoryType",
+        "HAS_CHUNK_FORMAT": LP + "chunkFormat",
         "UPDATE_OPTIONS" : LP + "UpdateOptions",
         "HAS_IMPORT_TEMPLATES": LP +  "importTemplates",
         "HAS_UPDATE_TEMPLATES": LP + "updateTemplates",
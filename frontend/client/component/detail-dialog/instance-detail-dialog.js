@@ -9,7 +9,8 @@ define([
   const LP = {
     "template": "http://linkedpipes.com/ontology/template",
     "color": "http://linkedpipes.com/ontology/color",
-    "configurationGraph": "http://linkedpipes.com/ontology/configurationGraph"
+    "configurationGraph": "http://linkedpipes.com/ontology/configurationGraph",
+    "rdfRepositoryType": "http://linkedpipes.com/ontology/rdfRepositoryType"
   };
 
   const SKOS = {
@@ -70,6 +71,9 @@ define([
       }
       jsonld.r.setStrings(newComponent, SKOS.note,
           $scope.componentToEdit.note);
+      // Empty value means the pipeline default is used.
+      jsonld.r.setIRIs(newComponent, LP.rdfRepositoryType,
+        $scope.componentToEdit.rdfRepositoryType);
       $mdDialog.hide({
         "saved": true,
         "component": newComponent,
@@ -117,7 +121,9 @@ define([
         "color": i18.str(jsonld.r.getString(
           component, LP.color)),
         "note": i18.str(jsonld.r.getString(
-            component, SKOS.note))
+            component, SKOS.note)),
+        "rdfRepositoryType": jsonld.r.getIRI(
+          component, LP.rdfRepositoryType) || ""
       };
 
       $scope.infoLink = template._coreReference.infoLink;
@@ -66,6 +66,8 @@
         $scope.profile.rdfRepositoryPolicy);
       jsonld.r.setIRIs(model.profile, LP.HAS_REPO_TYPE,
         $scope.profile.rdfRepositoryType);
+      jsonld.r.setIRIs(model.profile, LP.HAS_CHUNK_FORMAT,
+        $scope.profile.chunkFormat);
     }
 
     return {
@@ -93,7 +95,9 @@
       "rdfRepositoryPolicy":
         jsonld.r.getIRI(model.profile, LP.HAS_REPO_POLICY),
       "rdfRepositoryType":
-        jsonld.r.getIRI(model.profile, LP.HAS_REPO_TYPE)
+        jsonld.r.getIRI(model.profile, LP.HAS_REPO_TYPE),
+      "chunkFormat":
+        jsonld.r.getIRI(model.profile, LP.HAS_CHUNK_FORMAT)
     };
   }
 
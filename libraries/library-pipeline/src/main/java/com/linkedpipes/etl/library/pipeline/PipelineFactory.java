@@ -37,7 +37,7 @@ public class PipelineFactory {
                 valueFactory.createIRI(NATIVE_STORE),
                 DataRetentionPolicy.DEFAULT,
                 DataRetentionPolicy.DEFAULT,
-                null, null);
+                null, null, null);
     }
 
 }
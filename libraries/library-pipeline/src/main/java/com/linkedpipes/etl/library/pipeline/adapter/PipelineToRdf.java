@@ -66,6 +66,9 @@ public class PipelineToRdf {
         statements.add(profile.resource(),
                 LP_V1.HAS_RDF_REPOSITORY_TYPE,
                 profile.rdfRepositoryType());
+        statements.add(profile.resource(),
+                LP_V1.HAS_CHUNK_FORMAT,
+                profile.chunkFormat());
         statements.add(profile.resource(),
                 LP_V1.HAS_LOG_RETENTION,
                 profile.logRetentionPolicy().asIri());
@@ -110,6 +113,9 @@ public class PipelineToRdf {
         if (definition.disabled()) {
             statements.add(definition.resource(), LP_V1.HAS_DISABLED, true);
         }
+        statements.add(definition.resource(),
+                LP_V1.HAS_RDF_REPOSITORY_TYPE,
+                definition.rdfRepositoryType());
         if (definition.configuration() != null &&
                 !definition.configuration().isEmpty()) {
             statements.addAll(definition.configuration()
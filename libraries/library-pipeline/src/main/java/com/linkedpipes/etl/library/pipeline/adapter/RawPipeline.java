@@ -110,7 +110,8 @@ public class RawPipeline {
                         executionProfile.logRetentionPolicy,
                         executionProfile.logRetentionPolicy,
                         executionProfile.failedExecutionLimit,
-                        executionProfile.successfulExecutionLimit
+                        executionProfile.successfulExecutionLimit,
+                        executionProfile.chunkFormat
                 ),
                 components.stream().map(
                         item -> new PipelineComponent(
@@ -122,6 +123,7 @@ public class RawPipeline {
                                 item.x, item.y,
                                 item.template,
                                 item.disabled,
+                                item.rdfRepositoryType,
                                 item.configuration,
                                 item.configurationGraph
                         )
@@ -50,6 +50,11 @@ public class RawPipelineComponent {
      */
     public boolean disabled = false;
 
+    /**
+     * RDF repository type for data units of this component, can be null.
+     */
+    public Resource rdfRepositoryType;
+
     /**
      * Configuration without graph.
      */
@@ -73,6 +78,7 @@ public class RawPipelineComponent {
         this.y = other.y;
         this.template = other.template;
         this.disabled = other.disabled;
+        this.rdfRepositoryType = other.rdfRepositoryType;
         this.configuration = Statements.arrayList();
         this.configuration.addAll(other.configuration);
         this.configurationGraph = other.configurationGraph;
@@ -60,6 +60,12 @@ public class RawPipelineExecutionProfile {
      */
     public Integer successfulExecutionLimit;
 
+    /**
+     * Can be null; if set determine encoding of chunks
+     * for chunked data units.
+     */
+    public Resource chunkFormat;
+
     public RawPipelineExecutionProfile() {
     }
 
@@ -71,6 +77,7 @@ public class RawPipelineExecutionProfile {
         this.debugDataRetentionPolicy = other.debugDataRetentionPolicy;
         this.failedExecutionLimit = other.failedExecutionLimit;
         this.successfulExecutionLimit = other.successfulExecutionLimit;
+        this.chunkFormat = other.chunkFormat;
     }
 
 }
@@ -142,6 +142,11 @@ public class RdfToRawPipeline {
                         profile.rdfRepositoryType = iri;
                     }
                     break;
+                case LP_V1.HAS_CHUNK_FORMAT:
+                    if (value instanceof IRI iri) {
+                        profile.chunkFormat = iri;
+                    }
+                    break;
                 case LP_V1.HAS_LOG_RETENTION:
                     if (value instanceof IRI iri) {
                         profile.logRetentionPolicy = DataRetentionPolicy
@@ -221,6 +226,12 @@ public class RdfToRawPipeline {
                     if (value instanceof Literal literal) {
                         result.disabled = literal.booleanValue();
                     }
+                    break;
+                case LP_V1.HAS_RDF_REPOSITORY_TYPE:
+                    if (value instanceof Resource resource) {
+                        result.rdfRepositoryType = resource;
+                    }
+                    break;
                 default:
                     break;
             }
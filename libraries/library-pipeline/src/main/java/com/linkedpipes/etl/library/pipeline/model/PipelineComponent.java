@@ -41,6 +41,11 @@ public record PipelineComponent(
          * True if execution of this component is disabled.
          */
         boolean disabled,
+        /*
+         * RDF repository type for data units of this component, can be null.
+         * Data units in the same group share a repository.
+         */
+        Resource rdfRepositoryType,
         /*
          * Configuration stored without graph. Can be null.
          */
@@ -66,6 +71,7 @@ public record PipelineComponent(
                 other.y,
                 other.template,
                 other.disabled,
+                other.rdfRepositoryType,
                 other.configuration,
                 other.configurationGraph
         );
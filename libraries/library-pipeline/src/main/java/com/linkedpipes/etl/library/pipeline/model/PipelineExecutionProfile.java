@@ -39,7 +39,12 @@ public record PipelineExecutionProfile(
          * Can be null, if set limit the number of successful pipeline
          * executions stored. Apply only to full execution.
          */
-        Integer successfulExecutionLimit
+        Integer successfulExecutionLimit,
+        /*
+         * Can be null, if set determine encoding of chunks
+         * for chunked data units.
+         */
+        Resource chunkFormat
 ) {
 
     /**
@@ -73,6 +73,9 @@ final public class LP_V1 {
     public static final String MEMORY_STORE =
             PREFIX_LP + "repository/MemoryStore";
 
+    public static final String HAS_CHUNK_FORMAT =
+            PREFIX_LP + "chunkFormat";
+
     public static final String HAS_LOG_POLICY =
             PREFIX_LP + "logPolicy";
 
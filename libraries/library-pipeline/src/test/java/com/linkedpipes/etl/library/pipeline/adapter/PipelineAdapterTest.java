@@ -38,7 +38,7 @@ public class PipelineAdapterTest {
                         valueFactory.createIRI("http://type"),
                         DataRetentionPolicy.DEFAULT,
                         DataRetentionPolicy.DEFAULT,
-                        1, 3),
+                        1, 3, null),
                 List.of(
                         new PipelineComponent(
                                 valueFactory.createIRI("http://component/1"),
@@ -46,6 +46,7 @@ public class PipelineAdapterTest {
                                 "red", 10, 20,
                                 valueFactory.createIRI("http://template"),
                                 false,
+                                valueFactory.createIRI("http://type"),
                                 null,
                                 valueFactory.createIRI(
                                         "http://first/configuration")),
@@ -56,6 +57,7 @@ public class PipelineAdapterTest {
                                 valueFactory.createIRI("http://template"),
                                 false,
                                 null,
+                                null,
                                 valueFactory.createIRI(
                                         "http://first/configuration"))),
                 List.of(new PipelineDataFlow(
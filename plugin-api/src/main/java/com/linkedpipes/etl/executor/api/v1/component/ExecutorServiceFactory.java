@@ -0,0 +1,63 @@
+package com.linkedpipes.etl.executor.api.v1.component;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Create executor services for components with workers.
+ *
+ * <p>Virtual threads are available since Java 21, as we compile for
+ * older versions the executor is obtained using reflection. When virtual
+ * threads are not available a fixed pool of platform threads is used,
+ * the size of the pool is limited as the number of workers can be high.
+ */
+public final class ExecutorServiceFactory {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ExecutorServiceFactory.class);
+
+    /**
+     * Maximum number of platform threads used instead of virtual threads.
+     */
+    static final int MAX_PLATFORM_THREADS = 64;
+
+    private ExecutorServiceFactory() {
+    }
+
+    /**
+     * Create executor service for given number of workers.
+     */
+    public static ExecutorService create(int workers, boolean virtual) {
+        if (virtual) {
+            ExecutorService result = createVirtualThreadExecutor();
+            if (result != null) {
+                return result;
+            }
+            int threads = Math.min(workers, MAX_PLATFORM_THREADS);
+            LOG.warn("Virtual threads are not supported, "
+                    + "using {} platform threads instead.", threads);
+            return Executors.newFixedThreadPool(threads);
+        }
+        return Executors.newFixedThreadPool(workers);
+    }
+
+    /**
+     * Return executor with a new virtual thread for each task or null
+     * if virtual threads are not supported.
+     */
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod(
+                    "newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            // Missing method or preview features are not enabled.
+            return null;
+        }
+    }
+
+}
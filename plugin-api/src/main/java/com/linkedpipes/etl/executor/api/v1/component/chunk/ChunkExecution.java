@@ -2,6 +2,7 @@ package com.linkedpipes.etl.executor.api.v1.component.chunk;
 
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
+import com.linkedpipes.etl.executor.api.v1.component.ExecutorServiceFactory;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
 import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
 import org.slf4j.Logger;
@@ -11,7 +12,6 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 public abstract class ChunkExecution<Chunk, Product>
@@ -27,8 +27,12 @@ public abstract class ChunkExecution<Chunk, Product>
 
     protected Iterator<Chunk> chunkSource;
 
-    protected boolean terminateExecution = false;
+    protected volatile boolean terminateExecution = false;
 
+    /**
+     * Guards the chunk source only, results are submitted without
+     * holding this lock.
+     */
     protected Object lock = new Object();
 
     @Override
@@ -51,12 +55,20 @@ public abstract class ChunkExecution<Chunk, Product>
     protected abstract Iterator<Chunk> chunks() throws LpException;
 
     protected ExecutorService createExecutorService() {
-        int threads = getThreadCount();
-        return Executors.newFixedThreadPool(threads);
+        return ExecutorServiceFactory.create(
+                getThreadCount(), useVirtualThreads());
     }
 
     protected abstract int getThreadCount();
 
+    /**
+     * Override to use virtual threads, if supported by the JVM,
+     * for I/O bound transformers.
+     */
+    protected boolean useVirtualThreads() {
+        return false;
+    }
+
     protected abstract long getChunkCount();
 
     protected List<ChunkTransformer<Chunk, Product>> createExecutors() {
@@ -128,19 +140,22 @@ public abstract class ChunkExecution<Chunk, Product>
         }
     }
 
-    public synchronized void submit(Product product) throws LpException {
-        synchronized (lock) {
-            try {
-                submitInternal(product);
-            } catch (LpException ex) {
-                throw new LpException("Can't submit chunk results.", ex);
-            }
-            progressReport.entryProcessed();
+    /**
+     * Can be called by multiple workers at the same time, so a worker
+     * writing its result does not block others from getting next chunk.
+     */
+    public void submit(Product product) throws LpException {
+        try {
+            submitInternal(product);
+        } catch (LpException ex) {
+            throw new LpException("Can't submit chunk results.", ex);
         }
+        progressReport.entryProcessed();
     }
 
     /**
-     * Do not call this method directly.
+     * Do not call this method directly. The method is called concurrently
+     * by the workers, so the implementation must be thread safe.
      *
      * @param product Content of this object may change, later.
      */
@@ -26,17 +26,25 @@ public abstract class ChunkTransformer<Chunk, Product> implements Runnable {
     public void run() {
         MDC.setContextMap(contextMap);
         LOG.info("Executor is running ...");
-        while(true) {
-            Chunk next = owner.next();
-            if (next == null) {
-                break;
+        try {
+            while (true) {
+                Chunk next = owner.next();
+                if (next == null) {
+                    break;
+                }
+                try {
+                    Product result = processChunk(next);
+                    owner.submit(result);
+                } catch (Throwable ex) {
+                    owner.terminate();
+                    LOG.error("Executor caught throwable.", ex);
+                }
             }
+        } finally {
             try {
-                Product result = processChunk(next);
-                owner.submit(result);
+                onFinish();
             } catch (Throwable ex) {
-                owner.terminate();
-                LOG.error("Executor caught throwable.", ex);
+                LOG.error("Can't release executor resources.", ex);
             }
         }
         this.finished = true;
@@ -45,6 +53,14 @@ public abstract class ChunkTransformer<Chunk, Product> implements Runnable {
 
     protected abstract Product processChunk(Chunk chunk) throws LpException;
 
+    /**
+     * Called once when there are no more chunks to process, can be used
+     * to release resources reused between chunks.
+     */
+    protected void onFinish() {
+        // No operation here.
+    }
+
     public boolean isFinished() {
         return finished;
     }
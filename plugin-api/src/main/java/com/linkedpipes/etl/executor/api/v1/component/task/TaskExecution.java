@@ -2,6 +2,7 @@ package com.linkedpipes.etl.executor.api.v1.component.task;
 
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
+import com.linkedpipes.etl.executor.api.v1.component.ExecutorServiceFactory;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
 import com.linkedpipes.etl.executor.api.v1.report.ReportWriter;
 import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
@@ -13,7 +14,6 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -55,7 +55,7 @@ public abstract class TaskExecution<T extends Task>
                 taskSource, configuration.numberOfThreads);
         onExecutionWillBegin(tasks);
         ExecutorService executorService = createExecutorService(
-                configuration.numberOfThreads);
+                configuration);
         executeTasks(executorService, executors);
         waitForShutdown(executorService);
         onExecutionDidFinished();
@@ -111,8 +111,11 @@ public abstract class TaskExecution<T extends Task>
         progressReport.start(tasks);
     }
 
-    private ExecutorService createExecutorService(int numberOfThreads) {
-        return Executors.newFixedThreadPool(numberOfThreads);
+    private ExecutorService createExecutorService(
+            TaskExecutionConfiguration configuration) {
+        return ExecutorServiceFactory.create(
+                configuration.numberOfThreads,
+                configuration.useVirtualThreads);
     }
 
     /**
@@ -17,6 +17,13 @@ public class TaskExecutionConfiguration {
      */
     public int numberOfThreadsPerGroup = 1;
 
+    /**
+     * If true, use virtual threads when supported by the JVM (Java 21+).
+     * Otherwise a limited number of platform threads is used,
+     * see ExecutorServiceFactory.
+     */
+    public boolean useVirtualThreads = false;
+
     /**
      * It true failed tasks do not halt the execution.
      */
@@ -33,8 +40,8 @@ public class TaskExecutionConfiguration {
      * before executing another. This time is applied for successful and
      * failed tasks alike.
      *
-     * If maximumNumberOfRunningTasksInGroup is greater than one,
-     * the behavior is not defined.
+     * If numberOfThreadsPerGroup is greater than one, each slot
+     * in the group waits after its task independently.
      */
     public long waitAfterTaskMs = 0;
 
@@ -4,16 +4,27 @@ import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.report.ReportWriter;
 import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
 
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Each group has a queue of tasks ready for execution. Groups that
+ * have a ready task and a free slot are kept in a queue, so a task
+ * is found without scanning all groups. Delayed actions, i.e. release
+ * of a group slot after waitAfterTaskMs or retry of a task after
+ * waitAfterFailedTaskMs, are stored in a queue ordered by time.
+ *
+ * <p>Waiting consumers are woken up when the state changes or when
+ * the next delayed action is due.
+ */
 class TaskSource<T extends Task> {
 
     /**
@@ -22,26 +33,56 @@ class TaskSource<T extends Task> {
     private static class TaskGroup<T extends Task> {
 
         /**
-         * All tasks for execution.
+         * Tasks ready for execution.
          */
-        public Set<TaskWrap<T>> tasksForExecution = new HashSet<>();
+        public final Deque<TaskWrap<T>> readyTasks = new ArrayDeque<>();
 
         /**
          * Map of running tasks.
          */
-        public Map<String, TaskWrap<T>> runningTasks = new HashMap<>();
+        public final Map<String, TaskWrap<T>> runningTasks = new HashMap<>();
 
         /**
-         * Next task from this group can not be executed before given time.
-         * We need one value for each thread.
+         * Number of slots blocked by waitAfterTaskMs.
          */
-        public Map<Thread, LocalTime> nextExecutionTimes = new HashMap<>();
+        public int blockedSlots = 0;
+
+        /**
+         * True if the group is in the queue of available groups.
+         */
+        public boolean available = false;
 
         public int numberOfFailedTasks = 0;
 
     }
 
-    private static final int SLEEP_TIME_MS = 100;
+    /**
+     * Action to execute at given time.
+     */
+    private static class DelayedAction
+            implements Comparable<DelayedAction> {
+
+        public final long time;
+
+        public final Runnable action;
+
+        public DelayedAction(long time, Runnable action) {
+            this.time = time;
+            this.action = action;
+        }
+
+        @Override
+        public int compareTo(DelayedAction other) {
+            return Long.compare(time, other.time);
+        }
+
+    }
+
+    /**
+     * The cancellation is not signalled, so waiting consumers
+     * must check it periodically.
+     */
+    private static final long CANCEL_CHECK_MS = 1000;
 
     /**
      * Set to true to stop execution as soon as possible, by not
@@ -52,7 +93,12 @@ class TaskSource<T extends Task> {
     /**
      * Source wide lock.
      */
-    private final Object lock = new Object();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled when a task may be available or execution ended.
+     */
+    private final Condition stateChanged = lock.newCondition();
 
     private final Component.Context context;
 
@@ -64,6 +110,16 @@ class TaskSource<T extends Task> {
 
     private final Map<String, TaskGroup<T>> groups;
 
+    private final Deque<TaskGroup<T>> availableGroups = new ArrayDeque<>();
+
+    private final PriorityQueue<DelayedAction> delayedActions =
+            new PriorityQueue<>();
+
+    /**
+     * Number of tasks that are not finished or failed.
+     */
+    private int remainingTasks = 0;
+
     TaskSource(Component.Context context,
                ProgressReport progressReport,
                ReportWriter reportWriter,
@@ -74,6 +130,13 @@ class TaskSource<T extends Task> {
         this.reportWriter = reportWriter;
         this.configuration = configuration;
         this.groups = splitTasksToGroups(tasks);
+        lock.lock();
+        try {
+            this.groups.values().forEach(this::updateAvailability);
+        } finally {
+            lock.unlock();
+        }
+        this.shouldBeTerminated = remainingTasks == 0;
     }
 
     private Map<String, TaskGroup<T>> splitTasksToGroups(Collection<T> tasks) {
@@ -82,7 +145,8 @@ class TaskSource<T extends Task> {
             TaskGroup<T> group = result.computeIfAbsent(
                     task.getGroup(),
                     (x) -> new TaskGroup<>());
-            group.tasksForExecution.add(new TaskWrap<>(task));
+            group.readyTasks.add(new TaskWrap<>(task));
+            ++remainingTasks;
         });
         return result;
     }
@@ -93,15 +157,21 @@ class TaskSource<T extends Task> {
      * This call also return null if execution was cancelled.
      */
     public T getTaskOrWait() {
-        while (true) {
-            if (context.isCancelled() || shouldBeTerminated) {
-                return null;
-            }
-            T result = getTaskWrap();
-            if (result != null) {
-                return result;
+        lock.lock();
+        try {
+            while (true) {
+                if (context.isCancelled() || shouldBeTerminated) {
+                    return null;
+                }
+                long waitMs = executeDelayedActions();
+                TaskWrap<T> result = getNextTaskForExecution();
+                if (result != null) {
+                    return result.task;
+                }
+                waitForChange(Math.min(waitMs, CANCEL_CHECK_MS));
             }
-            waitBeforeNextTry();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -109,118 +179,141 @@ class TaskSource<T extends Task> {
      * Used mostly for tests of the source, where we do not want to wait.
      */
     public T getTaskWrap() {
-        synchronized (lock) {
+        lock.lock();
+        try {
+            executeDelayedActions();
             TaskWrap<T> result = getNextTaskForExecution();
             if (result == null) {
                 return null;
             }
             return result.task;
+        } finally {
+            lock.unlock();
         }
     }
 
     /**
-     * Code in this method must be called from one thread at most.
+     * Execute actions that are due and return time in milliseconds
+     * till the next action.
      */
-    private TaskWrap<T> getNextTaskForExecution() {
-        LocalTime now = LocalTime.now();
-        TaskWrap<T> taskForExecution = null;
-        // Search for each group.
-        boolean areThereRunningOrWaitingTasks = false;
-        for (var entry : groups.entrySet()) {
-            TaskGroup<T> group = entry.getValue();
-            // Check number of running tasks.
-            if (group.runningTasks.size()
-                    >= configuration.numberOfThreadsPerGroup) {
-                areThereRunningOrWaitingTasks = true;
-                continue;
-            }
-            // Check there is something to execute, we check after running
-            // to properly set areThereTasksForExecution.
-            if (group.tasksForExecution.isEmpty()) {
-                continue;
+    private long executeDelayedActions() {
+        long now = System.currentTimeMillis();
+        while (!delayedActions.isEmpty()) {
+            DelayedAction next = delayedActions.peek();
+            if (next.time > now) {
+                return next.time - now;
             }
-            // There are waiting tasks.
-            areThereRunningOrWaitingTasks = true;
-            // Check next execution time for the group.
-            LocalTime nextExecutionTime =
-                    group.nextExecutionTimes.get(Thread.currentThread());
-            if (nextExecutionTime != null && nextExecutionTime.isAfter(now)) {
-                continue;
-            }
-            // Search for task to execute.
-            for (TaskWrap<T> task : group.tasksForExecution) {
-                // Check for next execution time.
-                if (task.nextExecutionTime != null
-                    && task.nextExecutionTime.isAfter(now)) {
-                    continue;
-                }
-                // We have the task for execution.
-                taskForExecution = task;
-                break;
-            }
-            if (taskForExecution == null) {
-                continue;
-            }
-            // Update the group.
-            group.runningTasks.put(
-                    taskForExecution.task.getIri(), taskForExecution);
-            group.tasksForExecution.remove(taskForExecution);
-            break;
+            delayedActions.poll();
+            next.action.run();
         }
-        if (!areThereRunningOrWaitingTasks) {
-            // There is nothing more to execute.
-            shouldBeTerminated = true;
+        return Long.MAX_VALUE;
+    }
+
+    private void waitForChange(long waitMs) {
+        try {
+            stateChanged.await(waitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            // We ignore it here.
         }
-        if (taskForExecution == null) {
+    }
+
+    /**
+     * Must be called under the lock.
+     */
+    private TaskWrap<T> getNextTaskForExecution() {
+        TaskGroup<T> group = availableGroups.poll();
+        if (group == null) {
             return null;
         }
-        taskForExecution.executionStart = new Date();
-        return taskForExecution;
+        group.available = false;
+        TaskWrap<T> result = group.readyTasks.poll();
+        group.runningTasks.put(result.task.getIri(), result);
+        // Put the group to the end of the queue, so groups take turns.
+        updateAvailability(group);
+        result.executionStart = new Date();
+        return result;
     }
 
     /**
-     * Put caller thread to sleep.
+     * Add the group to the queue of available groups if it has a ready
+     * task and a free slot. Must be called under the lock.
      */
-    private void waitBeforeNextTry() {
-        try {
-            Thread.sleep(SLEEP_TIME_MS);
-        } catch (InterruptedException ex) {
-            // We ignore it here.
+    private void updateAvailability(TaskGroup<T> group) {
+        if (group.available || group.readyTasks.isEmpty()) {
+            return;
         }
+        int usedSlots = group.runningTasks.size() + group.blockedSlots;
+        if (usedSlots >= configuration.numberOfThreadsPerGroup) {
+            return;
+        }
+        group.available = true;
+        availableGroups.add(group);
+        stateChanged.signal();
     }
 
     public void onTaskFinished(T task) {
-        TaskGroup<T> group = groups.get(task.getGroup());
-        TaskWrap<T> wrap = group.runningTasks.get(task.getIri());
-        synchronized (lock) {
-            updateGroupNextTime(group);
-            group.runningTasks.remove(task.getIri());
+        lock.lock();
+        try {
+            TaskGroup<T> group = groups.get(task.getGroup());
+            TaskWrap<T> wrap = group.runningTasks.remove(task.getIri());
+            releaseSlot(group);
+            onTaskDone();
             // Report progress.
             progressReport.entryProcessed();
             reportWriter.onTaskFinished(task, wrap.executionStart, new Date());
+        } finally {
+            lock.unlock();
         }
     }
 
-    private void updateGroupNextTime(TaskGroup<T> group) {
-        if (configuration.waitAfterTaskMs == 0) {
-            return;
+    /**
+     * Release slot of a finished task, with waitAfterTaskMs the slot
+     * stays blocked for given time.
+     */
+    private void releaseSlot(TaskGroup<T> group) {
+        if (configuration.waitAfterTaskMs > 0) {
+            ++group.blockedSlots;
+            schedule(configuration.waitAfterTaskMs, () -> {
+                --group.blockedSlots;
+                updateAvailability(group);
+            });
+        } else {
+            updateAvailability(group);
         }
-        LocalTime nextTime = LocalTime.now()
-                .plus(configuration.waitAfterTaskMs, ChronoUnit.MILLIS);
-        group.nextExecutionTimes.put(Thread.currentThread(), nextTime);
+    }
+
+    private void schedule(long delayMs, Runnable action) {
+        delayedActions.add(new DelayedAction(
+                System.currentTimeMillis() + delayMs, action));
+        // Waiting consumers need to update their wait time.
+        stateChanged.signalAll();
+    }
+
+    private void onTaskDone() {
+        --remainingTasks;
+        if (remainingTasks == 0) {
+            // There is nothing more to execute.
+            terminate();
+        }
+    }
+
+    private void terminate() {
+        shouldBeTerminated = true;
+        stateChanged.signalAll();
     }
 
     public void onTaskFailed(T task, Throwable exception) {
-        TaskGroup<T> group = groups.get(task.getGroup());
-        TaskWrap<T> wrap = group.runningTasks.get(task.getIri());
-        synchronized (lock) {
-            updateGroupNextTime(group);
-            group.runningTasks.remove(task.getIri());
+        lock.lock();
+        try {
+            TaskGroup<T> group = groups.get(task.getGroup());
+            TaskWrap<T> wrap = group.runningTasks.remove(task.getIri());
             if (wrap.numerOfFailedAttempts >= configuration.numberOfRetries) {
                 // The task has failed, there is no retry.
                 ++group.numberOfFailedTasks;
+                releaseSlot(group);
+                onTaskDone();
                 if (!configuration.skipFailedTasks) {
-                    shouldBeTerminated = true;
+                    terminate();
                 }
                 // Report progress.
                 progressReport.entryProcessed();
@@ -231,22 +324,31 @@ class TaskSource<T extends Task> {
             // We should retry the task.
             ++wrap.numerOfFailedAttempts;
             if (configuration.waitAfterFailedTaskMs > 0) {
-                // Set next execution time.
-                wrap.nextExecutionTime = LocalTime.now().plus(
-                        configuration.waitAfterFailedTaskMs, ChronoUnit.MILLIS);
+                schedule(configuration.waitAfterFailedTaskMs, () -> {
+                    group.readyTasks.add(wrap);
+                    updateAvailability(group);
+                });
+            } else {
+                group.readyTasks.add(wrap);
             }
-            // Return it back for execution from running.
-            group.tasksForExecution.add(wrap);
+            releaseSlot(group);
+        } finally {
+            lock.unlock();
         }
     }
 
     public boolean hasTaskExecutionFailed() {
-        for (TaskGroup<T> group : groups.values()) {
-            if (group.numberOfFailedTasks > 0) {
-                return true;
+        lock.lock();
+        try {
+            for (TaskGroup<T> group : groups.values()) {
+                if (group.numberOfFailedTasks > 0) {
+                    return true;
+                }
             }
+            return false;
+        } finally {
+            lock.unlock();
         }
-        return false;
     }
 
 }
@@ -1,6 +1,5 @@
 package com.linkedpipes.etl.executor.api.v1.component.task;
 
-import java.time.LocalTime;
 import java.util.Date;
 
 /**
@@ -12,11 +11,6 @@ class TaskWrap<T extends Task> {
 
     public int numerOfFailedAttempts = 0;
 
-    /**
-     * When set task cannot be executed before given time.
-     */
-    public LocalTime nextExecutionTime = null;
-
     public Date executionStart = null;
 
     public TaskWrap(T task) {
@@ -58,4 +58,15 @@ public interface ManageableDataUnit extends DataUnit {
      */
     void referenceContent(File source, File destination) throws LpException;
 
+    /**
+     * Return hash of the content, data units with the same content must
+     * return the same value. Called only after the content was created
+     * or loaded. Return null if the hash is not supported, the
+     * executor then does not reuse results of components consuming
+     * this data unit.
+     */
+    default String computeContentHash() throws LpException {
+        return null;
+    }
+
 }
@@ -152,4 +152,18 @@ public class TaskExecutionTest extends TaskExecution<TaskMock> {
         this.execute(context);
     }
 
+    @Test
+    public void executeWithVirtualThreads() throws LpException {
+        this.workingDirectory = new WorkingDirectory(tempDirectory.toFile());
+        tasks = Arrays.asList(
+                new TaskMock("1", "A"),
+                new TaskMock("2", "A", 1),
+                new TaskMock("3", "B"));
+        configuration = new TaskExecutionConfiguration();
+        configuration.numberOfThreads = 16;
+        configuration.numberOfRetries = 1;
+        configuration.useVirtualThreads = true;
+        this.execute(context);
+    }
+
 }
@@ -0,0 +1,131 @@
+package com.linkedpipes.etl.executor.api.v1.component.task;
+
+import com.linkedpipes.etl.executor.api.v1.component.Component;
+import com.linkedpipes.etl.executor.api.v1.event.Event;
+import com.linkedpipes.etl.executor.api.v1.report.ReportWriter;
+import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Measure dispatch throughput of {@link TaskSource}, tasks are finished
+ * right after they are obtained so only the source is measured.
+ * This is not a test, run the main method manually.
+ */
+public class TaskSourceBenchmark {
+
+    private static final int TASKS = 100_000;
+
+    private static final int GROUPS = 1_000;
+
+    private static final int THREADS = 8;
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        for (int round = 0; round < ROUNDS; ++round) {
+            long duration = run();
+            System.out.printf("Round %d: %d ms, %d tasks/s%n",
+                    round, duration, TASKS * 1000L / Math.max(1, duration));
+        }
+    }
+
+    private static long run() throws InterruptedException {
+        TaskExecutionConfiguration configuration =
+                new TaskExecutionConfiguration();
+        configuration.numberOfThreads = THREADS;
+        configuration.numberOfThreadsPerGroup = 1;
+        List<TaskMock> tasks = new ArrayList<>(TASKS);
+        for (int index = 0; index < TASKS; ++index) {
+            tasks.add(new TaskMock(
+                    String.valueOf(index), String.valueOf(index % GROUPS)));
+        }
+        TaskSource<TaskMock> source = new TaskSource<>(
+                createContext(), createProgressReport(),
+                createReportWriter(), configuration, tasks);
+        List<Thread> threads = new ArrayList<>();
+        for (int index = 0; index < THREADS; ++index) {
+            threads.add(new Thread(() -> {
+                TaskMock task;
+                while ((task = source.getTaskOrWait()) != null) {
+                    source.onTaskFinished(task);
+                }
+            }));
+        }
+        long start = System.currentTimeMillis();
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.currentTimeMillis() - start;
+    }
+
+    private static Component.Context createContext() {
+        return new Component.Context() {
+            @Override
+            public void sendMessage(Event message) {
+                // No action.
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return false;
+            }
+        };
+    }
+
+    private static ProgressReport createProgressReport() {
+        return new ProgressReport() {
+            @Override
+            public void start(long entriesToProcess) {
+                // No action.
+            }
+
+            @Override
+            public void start(Collection<?> collection) {
+                // No action.
+            }
+
+            @Override
+            public void entryProcessed() {
+                // No action.
+            }
+
+            @Override
+            public void done() {
+                // No action.
+            }
+        };
+    }
+
+    private static ReportWriter createReportWriter() {
+        return new ReportWriter() {
+
+            @Override
+            public void onTaskFinished(Task task, Date start, Date end) {
+                // No action.
+            }
+
+            @Override
+            public void onTaskFailed(
+                    Task task, Date start, Date end, Throwable throwable) {
+                // No action.
+            }
+
+            @Override
+            public void onTaskFinishedInPreviousRun(Task task) {
+                // No action.
+            }
+
+            @Override
+            public String getIriForReport(Task task) {
+                return task.getIri();
+            }
+
+        };
+    }
+
+}
@@ -11,6 +11,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TaskSourceTest {
 
@@ -166,4 +171,106 @@ public class TaskSourceTest {
         Assertions.assertTrue(source.hasTaskExecutionFailed());
     }
 
+    @Test
+    public void retryTaskAfterWait() {
+        TaskExecutionConfiguration configuration =
+                new TaskExecutionConfiguration();
+        configuration.numberOfRetries = 1;
+        configuration.waitAfterFailedTaskMs = 50;
+        List<TaskMock> tasks = new ArrayList<>();
+        tasks.add(new TaskMock("1", "A"));
+        TaskSource<TaskMock> source = new TaskSource<>(
+                noActionContext(), noActionProgressReport(),
+                noActionReport(), configuration, tasks);
+
+        source.onTaskFailed(source.getTaskWrap(), null);
+        // The task is not ready yet.
+        Assertions.assertNull(source.getTaskWrap());
+        // Wait for the task.
+        TaskMock task = source.getTaskOrWait();
+        Assertions.assertNotNull(task);
+        source.onTaskFinished(task);
+
+        Assertions.assertNull(source.getTaskOrWait());
+        Assertions.assertFalse(source.hasTaskExecutionFailed());
+    }
+
+    @Test
+    public void waitAfterTaskInGroup() {
+        TaskExecutionConfiguration configuration =
+                new TaskExecutionConfiguration();
+        configuration.waitAfterTaskMs = 50;
+        List<TaskMock> tasks = new ArrayList<>();
+        tasks.add(new TaskMock("1", "A"));
+        tasks.add(new TaskMock("2", "A"));
+        tasks.add(new TaskMock("3", "B"));
+        TaskSource<TaskMock> source = new TaskSource<>(
+                noActionContext(), noActionProgressReport(),
+                noActionReport(), configuration, tasks);
+
+        TaskMock first = source.getTaskWrap();
+        TaskMock second = source.getTaskWrap();
+        Assertions.assertNotNull(first);
+        Assertions.assertNotNull(second);
+        Assertions.assertNotEquals(first.getGroup(), second.getGroup());
+        source.onTaskFinished(first);
+        source.onTaskFinished(second);
+        // Both groups must wait.
+        Assertions.assertNull(source.getTaskWrap());
+        TaskMock third = source.getTaskOrWait();
+        Assertions.assertNotNull(third);
+        source.onTaskFinished(third);
+
+        Assertions.assertNull(source.getTaskOrWait());
+    }
+
+    @Test
+    public void concurrentConsumersRespectGroupLimit() throws Exception {
+        TaskExecutionConfiguration configuration =
+                new TaskExecutionConfiguration();
+        configuration.numberOfThreads = 8;
+        configuration.numberOfThreadsPerGroup = 1;
+        List<TaskMock> tasks = new ArrayList<>();
+        for (int index = 0; index < 10_000; ++index) {
+            tasks.add(new TaskMock(
+                    String.valueOf(index), String.valueOf(index % 100)));
+        }
+        TaskSource<TaskMock> source = new TaskSource<>(
+                noActionContext(), noActionProgressReport(),
+                noActionReport(), configuration, tasks);
+        Set<String> executed = ConcurrentHashMap.newKeySet();
+        Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicBoolean limitExceeded = new AtomicBoolean(false);
+        AtomicBoolean duplicate = new AtomicBoolean(false);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int index = 0; index < configuration.numberOfThreads; ++index) {
+            threads.add(new Thread(() -> {
+                TaskMock task;
+                while ((task = source.getTaskOrWait()) != null) {
+                    AtomicInteger counter = running.computeIfAbsent(
+                            task.getGroup(), key -> new AtomicInteger());
+                    if (counter.incrementAndGet() > 1) {
+                        limitExceeded.set(true);
+                    }
+                    if (!executed.add(task.getIri())) {
+                        duplicate.set(true);
+                    }
+                    counter.decrementAndGet();
+                    source.onTaskFinished(task);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join(60_000);
+            Assertions.assertFalse(thread.isAlive());
+        }
+
+        Assertions.assertEquals(tasks.size(), executed.size());
+        Assertions.assertFalse(limitExceeded.get());
+        Assertions.assertFalse(duplicate.get());
+        Assertions.assertFalse(source.hasTaskExecutionFailed());
+    }
+
 }
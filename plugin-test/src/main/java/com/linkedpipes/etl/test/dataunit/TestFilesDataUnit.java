@@ -6,12 +6,14 @@ import com.linkedpipes.etl.executor.api.v1.LpException;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
+import java.util.zip.ZipFile;
 
 public class TestFilesDataUnit
         implements FilesDataUnit, WritableFilesDataUnit {
@@ -31,6 +33,24 @@ public class TestFilesDataUnit
         return file;
     }
 
+    /**
+     * The file is extracted right away.
+     */
+    @Override
+    public void addArchiveFile(
+            String fileName, File archive, String archiveEntry, long size)
+            throws LpException {
+        final File file = createFile(fileName);
+        file.getParentFile().mkdirs();
+        try (ZipFile zip = new ZipFile(archive);
+             InputStream stream = zip.getInputStream(
+                     zip.getEntry(archiveEntry))) {
+            Files.copy(stream, file.toPath());
+        } catch (IOException ex) {
+            throw new LpException("Can't extract file.", ex);
+        }
+    }
+
     @Override
     public File getWriteDirectory() {
         return directory;
@@ -60,6 +60,7 @@ public final class HttpGetFiles extends TaskExecution<DownloadTask> {
         result.numberOfThreads = configuration.getThreads();
         result.numberOfThreadsPerGroup =
                 configuration.getThreadsPerGroup();
+        result.useVirtualThreads = configuration.isVirtualThreads();
         result.skipFailedTasks = configuration.isSkipOnError();
         result.numberOfRetries = configuration.getRetryCount();
         result.waitAfterFailedTaskMs = configuration.getRetryWaitTimeMs();
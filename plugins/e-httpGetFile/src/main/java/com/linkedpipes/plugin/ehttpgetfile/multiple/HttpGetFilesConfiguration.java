@@ -44,6 +44,12 @@ public class HttpGetFilesConfiguration {
     @RdfToPojo.Property(iri = HttpGetFilesVocabulary.HAS_THREADS_PER_GROUP)
     private int threadsPerGroup = 1;
 
+    /**
+     * If true use virtual threads when running on Java 21 or newer.
+     */
+    @RdfToPojo.Property(iri = HttpGetFilesVocabulary.HAS_VIRTUAL_THREADS)
+    private boolean virtualThreads = false;
+
     @RdfToPojo.Property(iri = HttpGetFilesVocabulary.ENCODE_URL)
     private boolean encodeUrl = false;
 
@@ -123,6 +129,14 @@ public class HttpGetFilesConfiguration {
         this.threadsPerGroup = threadsPerGroup;
     }
 
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public boolean isEncodeUrl() {
         return encodeUrl;
     }
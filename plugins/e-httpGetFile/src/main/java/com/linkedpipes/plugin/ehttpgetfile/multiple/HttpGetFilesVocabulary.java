@@ -49,6 +49,9 @@ public final class HttpGetFilesVocabulary {
     public static final String HAS_THREADS_PER_GROUP =
             PREFIX + "threadsPerGroup";
 
+    public static final String HAS_VIRTUAL_THREADS =
+            PREFIX + "virtualThreads";
+
     public static final String HAS_HEADER_OBJECT = PREFIX + "hasHeaderObject";
 
     public static final String HAS_RESPONSE_LINE = PREFIX + "responseLine";
@@ -32,6 +32,10 @@ define([], function () {
             "$type" : "int",
             "$label" : "Threads per group"
         },
+        "virtualThreads": {
+            "$type" : "bool",
+            "$label" : "Use virtual threads if available"
+        },
         "encodeUrl": {
             "$type" : "bool",
             "$label" : "Encode input URL"
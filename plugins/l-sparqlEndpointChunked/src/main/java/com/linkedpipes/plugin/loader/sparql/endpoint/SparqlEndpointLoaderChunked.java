@@ -23,9 +23,12 @@ import org.eclipse.rdf4j.repository.sparql.SPARQLRepository;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class SparqlEndpointLoaderChunked implements Component,
         SequentialExecution {
@@ -43,6 +46,11 @@ public class SparqlEndpointLoaderChunked implements Component,
     @Component.Inject
     public ProgressReport progressReport;
 
+    /**
+     * Number of decoded batches waiting in the queue per worker.
+     */
+    private static final int PREFETCH_PER_WORKER = 2;
+
     @Override
     public void execute() throws LpException {
         // Create repository.
@@ -86,40 +94,84 @@ public class SparqlEndpointLoaderChunked implements Component,
         }
     }
 
-    private void loadDataFromRepository(Repository repository) throws LpException {
+    /**
+     * Chunks are decoded in this thread and batches of statements are
+     * passed through a bounded queue to upload workers.
+     */
+    private void loadDataFromRepository(Repository repository)
+            throws LpException {
         final IRI graph = SimpleValueFactory.getInstance().createIRI(
                 configuration.getTargetGraphName());
+        final int threads = Math.max(1, configuration.getThreads());
+        final BlockingQueue<List<Statement>> queue =
+                new ArrayBlockingQueue<>(threads * PREFETCH_PER_WORKER);
+        final List<UploadWorker> workers = new ArrayList<>(threads);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int index = 0; index < threads; ++index) {
+            UploadWorker worker = new UploadWorker(
+                    index, repository, graph, queue,
+                    configuration.getRetryCount(),
+                    configuration.getRetryWaitTimeMs());
+            workers.add(worker);
+            executor.submit(worker);
+        }
         progressReport.start(inputRdf.size());
-        for (ChunkedTriples.Chunk chunk : inputRdf) {
-            final Collection<Statement> statements = chunk.toCollection();
-            if (statements.size() < configuration.getCommitSize()) {
-                // Commit all at once.
-                loadData(repository, statements, graph);
+        try {
+            // Statements are read in a streaming fashion, so we need to
+            // hold in memory only the batches in the queue.
+            final List<Statement> batch = new ArrayList<>(
+                    configuration.getCommitSize());
+            for (ChunkedTriples.Chunk chunk : inputRdf) {
+                chunk.forEach((statement) -> {
+                    batch.add(statement);
+                    if (batch.size() >= configuration.getCommitSize()) {
+                        submit(queue, new ArrayList<>(batch), workers);
+                        batch.clear();
+                    }
+                });
                 progressReport.entryProcessed();
-                continue;
             }
-            // Split.
-            final List<Statement> toAdd = new ArrayList<>(
-                    configuration.getCommitSize());
-            final Iterator<Statement> iterator = statements.iterator();
-            while (iterator.hasNext()) {
-                toAdd.add(iterator.next());
-                if (toAdd.size() >= configuration.getCommitSize()) {
-                    loadData(repository, toAdd, graph);
-                    toAdd.clear();
-                }
+            if (!batch.isEmpty()) {
+                submit(queue, batch, workers);
             }
-            if (!toAdd.isEmpty()) {
-                loadData(repository, toAdd, graph);
+            for (int index = 0; index < threads; ++index) {
+                submit(queue, UploadWorker.END, workers);
             }
-            progressReport.entryProcessed();
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while loading data.", ex);
+        } finally {
+            executor.shutdownNow();
         }
+        checkWorkers(workers);
         progressReport.done();
     }
 
-    private void loadData(Repository repository, Collection<Statement> statements, IRI graph) {
-        try (final RepositoryConnection remote = repository.getConnection()) {
-            remote.add(statements, graph);
+    /**
+     * Wait for a place in the queue, fail when a worker fails as there
+     * may be no one to take the batch.
+     */
+    private void submit(
+            BlockingQueue<List<Statement>> queue, List<Statement> batch,
+            List<UploadWorker> workers) throws LpException {
+        try {
+            while (!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+                checkWorkers(workers);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while loading data.", ex);
+        }
+    }
+
+    private void checkWorkers(List<UploadWorker> workers) throws LpException {
+        for (UploadWorker worker : workers) {
+            if (worker.getException() != null) {
+                throw new LpException(
+                        "Can't load data.", worker.getException());
+            }
         }
     }
 
@@ -141,7 +193,11 @@ public class SparqlEndpointLoaderChunked implements Component,
                             configuration.getUserName(),
                             configuration.getPassword()));
         }
+        // Each worker use its own connection.
+        final int threads = Math.max(1, configuration.getThreads());
         return HttpClients.custom()
+                .setMaxConnPerRoute(threads)
+                .setMaxConnTotal(threads)
                 .setDefaultCredentialsProvider(credsProvider).build();
     }
 
@@ -32,6 +32,24 @@ public class SparqlEndpointLoaderChunkedConfiguration {
             iri = SparqlEndpointLoaderChunkedVocabulary.HAS_COMMIT_SIZE)
     private int commitSize = 100000;
 
+    /**
+     * Number of parallel upload workers.
+     */
+    @RdfToPojo.Property(
+            iri = SparqlEndpointLoaderChunkedVocabulary.HAS_THREADS)
+    private int threads = 1;
+
+    /**
+     * Number of attempts to upload a failed batch again.
+     */
+    @RdfToPojo.Property(
+            iri = SparqlEndpointLoaderChunkedVocabulary.HAS_RETRY_COUNT)
+    private int retryCount = 0;
+
+    @RdfToPojo.Property(
+            iri = SparqlEndpointLoaderChunkedVocabulary.HAS_RETRY_WAIT_TIME)
+    private int retryWaitTimeMs = 0;
+
     public SparqlEndpointLoaderChunkedConfiguration() {
     }
 
@@ -90,4 +108,29 @@ public class SparqlEndpointLoaderChunkedConfiguration {
     public void setCommitSize(int commitSize) {
         this.commitSize = commitSize;
     }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getRetryCount() {
+        return retryCount;
+    }
+
+    public void setRetryCount(int retryCount) {
+        this.retryCount = retryCount;
+    }
+
+    public int getRetryWaitTimeMs() {
+        return retryWaitTimeMs;
+    }
+
+    public void setRetryWaitTimeMs(int retryWaitTimeMs) {
+        this.retryWaitTimeMs = retryWaitTimeMs;
+    }
+
 }
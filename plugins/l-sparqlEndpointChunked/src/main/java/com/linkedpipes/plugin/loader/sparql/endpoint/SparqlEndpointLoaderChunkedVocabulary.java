@@ -21,6 +21,12 @@ final class SparqlEndpointLoaderChunkedVocabulary {
 
     public static final String HAS_COMMIT_SIZE = PREFIX + "commitSize";
 
+    public static final String HAS_THREADS = PREFIX + "threads";
+
+    public static final String HAS_RETRY_COUNT = PREFIX + "retryCount";
+
+    public static final String HAS_RETRY_WAIT_TIME = PREFIX + "retryWaitTime";
+
     private SparqlEndpointLoaderChunkedVocabulary() {
     }
 
@@ -0,0 +1,126 @@
+package com.linkedpipes.plugin.loader.sparql.endpoint;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Take batches from the queue and upload them using a single connection.
+ * Failed batch is uploaded again using a new connection, so only
+ * the batch is loaded again not the whole graph.
+ */
+class UploadWorker implements Runnable {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(UploadWorker.class);
+
+    /**
+     * Marks end of the input.
+     */
+    static final List<Statement> END = List.of();
+
+    private final int index;
+
+    private final Repository repository;
+
+    private final IRI graph;
+
+    private final BlockingQueue<List<Statement>> queue;
+
+    private final int retryCount;
+
+    private final int retryWaitTimeMs;
+
+    private RepositoryConnection connection = null;
+
+    private long statementCounter = 0;
+
+    private long uploadTimeMs = 0;
+
+    private volatile Exception exception = null;
+
+    public UploadWorker(
+            int index, Repository repository, IRI graph,
+            BlockingQueue<List<Statement>> queue,
+            int retryCount, int retryWaitTimeMs) {
+        this.index = index;
+        this.repository = repository;
+        this.graph = graph;
+        this.queue = queue;
+        this.retryCount = retryCount;
+        this.retryWaitTimeMs = retryWaitTimeMs;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                List<Statement> batch = queue.take();
+                if (batch == END) {
+                    break;
+                }
+                upload(batch);
+            }
+        } catch (Exception ex) {
+            exception = ex;
+        } finally {
+            closeConnection();
+        }
+        LOG.info("Worker {} uploaded {} statements in {} ms ({} per s)",
+                index, statementCounter, uploadTimeMs,
+                uploadTimeMs == 0 ? 0 :
+                        statementCounter * 1000 / uploadTimeMs);
+    }
+
+    private void upload(List<Statement> batch) throws Exception {
+        int attempt = 0;
+        while (true) {
+            long start = System.currentTimeMillis();
+            try {
+                if (connection == null) {
+                    connection = repository.getConnection();
+                }
+                connection.add(batch, graph);
+                uploadTimeMs += System.currentTimeMillis() - start;
+                statementCounter += batch.size();
+                return;
+            } catch (RuntimeException ex) {
+                closeConnection();
+                if (attempt >= retryCount) {
+                    throw ex;
+                }
+                ++attempt;
+                LOG.warn("Worker {} failed to upload batch of size {}, "
+                                + "attempt {} of {}.",
+                        index, batch.size(), attempt, retryCount, ex);
+                Thread.sleep(retryWaitTimeMs);
+            }
+        }
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (RuntimeException ex) {
+            LOG.warn("Can't close connection.", ex);
+        }
+        connection = null;
+    }
+
+    /**
+     * Exception that caused the worker to stop or null.
+     */
+    public Exception getException() {
+        return exception;
+    }
+
+}
@@ -24,6 +24,18 @@ define([], function () {
             "$type": "int",
             "$label": "Commit size"
         },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of upload threads"
+        },
+        "retryCount": {
+            "$type": "int",
+            "$label": "Retry count"
+        },
+        "retryWaitTime": {
+            "$type": "int",
+            "$label": "Wait time before retry (ms)"
+        },
         "useAuthentication": {
             "$type": "bool",
             "$label": "Use authentication"
@@ -11,6 +11,16 @@ public class ChunkSplitterConfiguration {
     @RdfToPojo.Property(iri = ChunkSplitterVocabulary.HAS_INCOMING_LEVEL_DEPTH)
     private int incomingLevelDepth = 0;
 
+    @RdfToPojo.Property(iri = ChunkSplitterVocabulary.HAS_THREADS)
+    private int threads = 1;
+
+    /**
+     * Entities are added to an output chunk until it contains at least
+     * this number of statements. With zero each entity is in its own chunk.
+     */
+    @RdfToPojo.Property(iri = ChunkSplitterVocabulary.HAS_CHUNK_SIZE)
+    private int chunkSize = 0;
+
     public ChunkSplitterConfiguration() {
     }
 
@@ -30,4 +40,20 @@ public class ChunkSplitterConfiguration {
         this.incomingLevelDepth = incomingLevelDepth;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
 }
@@ -0,0 +1,203 @@
+package com.linkedpipes.plugin.transformer.chunksplitter;
+
+import com.linkedpipes.etl.dataunit.core.rdf.ChunkedTriples;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import com.linkedpipes.etl.executor.api.v1.component.chunk.ChunkExecution;
+import com.linkedpipes.etl.executor.api.v1.component.chunk.ChunkTransformer;
+import com.linkedpipes.etl.executor.api.v1.vocabulary.RDF;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Split a single input chunk. The reverse index contains only links
+ * that can be reached from the root resources within the incoming level
+ * depth, so its size is bounded by the neighbourhood of the roots
+ * instead of the whole chunk.
+ */
+class ChunkSplitterTransformer
+        extends ChunkTransformer<ChunkedTriples.Chunk, List<List<Statement>>> {
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ChunkSplitterTransformer.class);
+
+    private final String type;
+
+    private final int incomingLevelDepth;
+
+    private final int chunkSize;
+
+    /**
+     * Store all statements about given resource.
+     */
+    private final Map<Resource, List<Statement>> entities = new HashMap<>();
+
+    /**
+     * For given subject store all objects that point towards it.
+     */
+    private final Map<Resource, List<Resource>> reverseResourceMap =
+            new HashMap<>();
+
+    public ChunkSplitterTransformer(
+            ChunkExecution<ChunkedTriples.Chunk, List<List<Statement>>> owner,
+            ChunkSplitterConfiguration configuration) {
+        super(owner);
+        this.type = configuration.getType();
+        this.incomingLevelDepth = configuration.getIncomingLevelDepth();
+        this.chunkSize = configuration.getChunkSize();
+    }
+
+    @Override
+    protected List<List<Statement>> processChunk(ChunkedTriples.Chunk chunk)
+            throws LpException {
+        Collection<Statement> statements = chunk.toCollection();
+        try {
+            Set<Resource> roots = createEntityMap(statements);
+            if (incomingLevelDepth > 0) {
+                createReverseMap(statements, roots);
+            }
+            List<List<Statement>> result = new ArrayList<>();
+            // Roots in the same chunk can share resources, so we
+            // use a set to add each statement only once.
+            Set<Statement> output = new LinkedHashSet<>();
+            for (Resource resource : roots) {
+                addEntity(resource, output);
+                if (output.size() >= chunkSize) {
+                    result.add(new ArrayList<>(output));
+                    output.clear();
+                }
+            }
+            if (!output.isEmpty()) {
+                result.add(new ArrayList<>(output));
+            }
+            LOG.debug("Chunk with {} roots split to {} new chunks",
+                    roots.size(), result.size());
+            return result;
+        } finally {
+            entities.clear();
+            reverseResourceMap.clear();
+        }
+    }
+
+    /**
+     * Return resources of given type in order of appearance.
+     */
+    private Set<Resource> createEntityMap(Collection<Statement> statements) {
+        Set<Resource> roots = new LinkedHashSet<>();
+        for (Statement statement : statements) {
+            Resource subject = statement.getSubject();
+            entities.computeIfAbsent(subject, key -> new ArrayList<>())
+                    .add(statement);
+            if (RDF.TYPE.equals(statement.getPredicate().stringValue())
+                    && type.equals(statement.getObject().stringValue())) {
+                roots.add(subject);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * Collect the incoming links level by level starting from the roots,
+     * each resource is expanded once using its shortest distance from
+     * any root.
+     */
+    private void createReverseMap(
+            Collection<Statement> statements, Set<Resource> roots) {
+        Set<Resource> visited = new HashSet<>(roots);
+        Set<Resource> level = roots;
+        for (int depth = 0; depth < incomingLevelDepth; ++depth) {
+            Set<Resource> next = new HashSet<>();
+            for (Statement statement : statements) {
+                Value object = statement.getObject();
+                if (!(object instanceof Resource) || !level.contains(object)) {
+                    continue;
+                }
+                Resource subject = statement.getSubject();
+                reverseResourceMap
+                        .computeIfAbsent((Resource) object,
+                                key -> new ArrayList<>())
+                        .add(subject);
+                if (visited.add(subject)) {
+                    next.add(subject);
+                }
+            }
+            if (next.isEmpty()) {
+                break;
+            }
+            level = next;
+        }
+    }
+
+    private void addEntity(Resource resource, Collection<Statement> output) {
+        Set<Resource> added = new HashSet<>();
+        Deque<Resource> resourcesToAdd = new ArrayDeque<>();
+        resourcesToAdd.push(resource);
+        // Add sub-tree.
+        while (!resourcesToAdd.isEmpty()) {
+            Resource resourceToAdd = resourcesToAdd.pop();
+            if (!added.add(resourceToAdd)) {
+                continue;
+            }
+            for (Statement statement : statementsForResource(resourceToAdd)) {
+                output.add(statement);
+                Value object = statement.getObject();
+                if (object instanceof Resource && !added.contains(object)) {
+                    resourcesToAdd.push((Resource) object);
+                }
+            }
+        }
+        // Add reverse tree.
+        for (Resource item : collectReverseResources(resource)) {
+            if (added.add(item)) {
+                output.addAll(statementsForResource(item));
+            }
+        }
+    }
+
+    private List<Statement> statementsForResource(Resource resource) {
+        return entities.getOrDefault(resource, Collections.emptyList());
+    }
+
+    /**
+     * Return resources linking to given resource within the incoming
+     * level depth, using breadth-first search.
+     */
+    private Set<Resource> collectReverseResources(Resource resource) {
+        Set<Resource> result = new LinkedHashSet<>();
+        if (incomingLevelDepth == 0) {
+            return result;
+        }
+        Set<Resource> visited = new HashSet<>();
+        visited.add(resource);
+        List<Resource> level = Collections.singletonList(resource);
+        for (int depth = 0; depth < incomingLevelDepth; ++depth) {
+            List<Resource> next = new ArrayList<>();
+            for (Resource item : level) {
+                for (Resource source : reverseResourceMap.getOrDefault(
+                        item, Collections.emptyList())) {
+                    if (visited.add(source)) {
+                        next.add(source);
+                        result.add(source);
+                    }
+                }
+            }
+            level = next;
+        }
+        return result;
+    }
+
+}
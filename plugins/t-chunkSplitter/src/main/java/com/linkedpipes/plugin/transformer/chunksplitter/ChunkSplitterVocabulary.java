@@ -12,4 +12,8 @@ final class ChunkSplitterVocabulary {
     public static final String HAS_INCOMING_LEVEL_DEPTH =
             PREFIX + "incomingLevelDepth";
 
+    public static final String HAS_THREADS = PREFIX + "threads";
+
+    public static final String HAS_CHUNK_SIZE = PREFIX + "chunkSize";
+
 }
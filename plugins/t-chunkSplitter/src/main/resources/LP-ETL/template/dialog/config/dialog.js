@@ -15,6 +15,14 @@ define([], function () {
         "incomingLevelDepth": {
             "$type": "int",
             "$label": "Reverse resource depth"
+        },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of threads to use"
+        },
+        "chunkSize": {
+            "$type": "int",
+            "$label": "Target output chunk size"
         }
     };
 
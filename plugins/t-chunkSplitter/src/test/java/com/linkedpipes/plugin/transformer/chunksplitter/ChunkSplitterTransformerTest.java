@@ -0,0 +1,166 @@
+package com.linkedpipes.plugin.transformer.chunksplitter;
+
+import com.linkedpipes.etl.dataunit.core.rdf.ChunkedTriples;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import com.linkedpipes.etl.executor.api.v1.vocabulary.RDF;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+public class ChunkSplitterTransformerTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final String PREFIX = "http://localhost/";
+
+    private static final String TYPE = PREFIX + "Root";
+
+    private final List<Statement> statements = new ArrayList<>();
+
+    @Test
+    public void sharedSubResourceInSameChunk() throws Exception {
+        root("a");
+        root("b");
+        link("a", "shared");
+        link("b", "shared");
+        value("shared");
+        List<List<Statement>> chunks = split(0, 10);
+        Assertions.assertEquals(1, chunks.size());
+        List<Statement> chunk = chunks.get(0);
+        Assertions.assertEquals(chunk.size(), new HashSet<>(chunk).size());
+        Assertions.assertEquals(new HashSet<>(statements),
+                new HashSet<>(chunk));
+    }
+
+    @Test
+    public void sharedSubResourceInEachChunk() throws Exception {
+        root("a");
+        root("b");
+        link("a", "shared");
+        link("b", "shared");
+        Statement shared = value("shared");
+        List<List<Statement>> chunks = split(0, 0);
+        Assertions.assertEquals(2, chunks.size());
+        Assertions.assertTrue(chunks.get(0).contains(shared));
+        Assertions.assertTrue(chunks.get(1).contains(shared));
+    }
+
+    @Test
+    public void cycle() throws Exception {
+        root("a");
+        link("a", "x");
+        link("x", "y");
+        link("y", "x");
+        link("x", "a");
+        List<List<Statement>> chunks = split(1, 0);
+        Assertions.assertEquals(1, chunks.size());
+        List<Statement> chunk = chunks.get(0);
+        Assertions.assertEquals(statements.size(), chunk.size());
+        Assertions.assertEquals(new HashSet<>(statements),
+                new HashSet<>(chunk));
+    }
+
+    @Test
+    public void incomingLevelDepth() throws Exception {
+        root("a");
+        Statement first = link("first", "a");
+        Statement second = link("second", "first");
+        Assertions.assertFalse(split(0, 0).get(0).contains(first));
+        List<Statement> depthOne = split(1, 0).get(0);
+        Assertions.assertTrue(depthOne.contains(first));
+        Assertions.assertFalse(depthOne.contains(second));
+        List<Statement> depthTwo = split(2, 0).get(0);
+        Assertions.assertTrue(depthTwo.contains(first));
+        Assertions.assertTrue(depthTwo.contains(second));
+    }
+
+    @Test
+    public void rootReachableViaIncomingLink() throws Exception {
+        Statement typeA = root("a");
+        Statement typeB = root("b");
+        Statement link = link("b", "a");
+        List<List<Statement>> chunks = split(1, 0);
+        Assertions.assertEquals(2, chunks.size());
+        // Chunk of "a" contains "b" as it links to "a".
+        Assertions.assertEquals(
+                new HashSet<>(List.of(typeA, typeB, link)),
+                new HashSet<>(chunks.get(0)));
+        // Chunk of "b" contains "a" as its sub-resource.
+        Assertions.assertEquals(
+                new HashSet<>(List.of(typeA, typeB, link)),
+                new HashSet<>(chunks.get(1)));
+    }
+
+    @Test
+    public void chunkSizeGroupsRoots() throws Exception {
+        for (int index = 0; index < 5; ++index) {
+            root("r" + index);
+            value("r" + index);
+        }
+        List<List<Statement>> chunks = split(0, 4);
+        Assertions.assertEquals(3, chunks.size());
+        Assertions.assertEquals(4, chunks.get(0).size());
+        Assertions.assertEquals(4, chunks.get(1).size());
+        Assertions.assertEquals(2, chunks.get(2).size());
+    }
+
+    private Statement root(String name) {
+        return add(VF.createStatement(iri(name),
+                VF.createIRI(RDF.TYPE), VF.createIRI(TYPE)));
+    }
+
+    private Statement link(String source, String target) {
+        return add(VF.createStatement(iri(source),
+                VF.createIRI(PREFIX + "link"), iri(target)));
+    }
+
+    private Statement value(String name) {
+        return add(VF.createStatement(iri(name),
+                VF.createIRI(PREFIX + "value"), VF.createLiteral(name)));
+    }
+
+    private Statement add(Statement statement) {
+        statements.add(statement);
+        return statement;
+    }
+
+    private static IRI iri(String name) {
+        return VF.createIRI(PREFIX + name);
+    }
+
+    private List<List<Statement>> split(int depth, int chunkSize)
+            throws LpException {
+        ChunkSplitterConfiguration configuration =
+                new ChunkSplitterConfiguration();
+        configuration.setType(TYPE);
+        configuration.setIncomingLevelDepth(depth);
+        configuration.setChunkSize(chunkSize);
+        ChunkSplitterTransformer transformer =
+                new ChunkSplitterTransformer(null, configuration);
+        return transformer.processChunk(new ChunkedTriples.Chunk() {
+
+            @Override
+            public Collection<Statement> toCollection() {
+                return statements;
+            }
+
+            @Override
+            public void forEach(ChunkedTriples.StatementHandler handler)
+                    throws LpException {
+                for (Statement statement : statements) {
+                    handler.accept(statement);
+                }
+            }
+
+        });
+    }
+
+}
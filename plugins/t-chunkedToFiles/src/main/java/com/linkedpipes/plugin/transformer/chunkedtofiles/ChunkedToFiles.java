@@ -116,7 +116,7 @@ public class ChunkedToFiles implements Component, SequentialExecution {
         RDFWriter rdfWriter = createWriter(streamWriter);
         rdfWriter.startRDF();
         addNamespaces(rdfWriter);
-        chunk.toCollection().forEach((st) -> rdfWriter.handleStatement(st));
+        chunk.forEach(rdfWriter::handleStatement);
         rdfWriter.endRDF();
     }
 
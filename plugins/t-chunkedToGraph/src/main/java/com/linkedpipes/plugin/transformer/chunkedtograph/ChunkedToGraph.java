@@ -28,7 +28,11 @@ public final class ChunkedToGraph implements Component, SequentialExecution {
         progressReport.start(inputRdf.size());
         for (ChunkedTriples.Chunk chunk : inputRdf) {
             outputRdf.execute((connection) -> {
-                connection.add(chunk.toCollection(), outputGraph);
+                connection.begin();
+                chunk.forEach((statement) -> {
+                    connection.add(statement, outputGraph);
+                });
+                connection.commit();
             });
             progressReport.entryProcessed();
         }
@@ -0,0 +1,72 @@
+package com.linkedpipes.plugin.transformer.filehasher;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Compute all digests in a single pass over the file. Instances are not
+ * thread safe, use one instance per thread.
+ *
+ * <p>We read into a large heap buffer instead of mapping the file,
+ * as digests copy content of direct buffers into a small array anyway.
+ */
+class FileDigest {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final List<HashAlgorithm> algorithms;
+
+    private final MessageDigest[] digests;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    public FileDigest(List<HashAlgorithm> algorithms) throws LpException {
+        this.algorithms = algorithms;
+        this.digests = new MessageDigest[algorithms.size()];
+        for (int index = 0; index < digests.length; ++index) {
+            digests[index] = algorithms.get(index).createDigest();
+        }
+    }
+
+    public List<HashAlgorithm> getAlgorithms() {
+        return algorithms;
+    }
+
+    /**
+     * Return hex encoded digests in order of the algorithms.
+     */
+    public String[] compute(File file) throws IOException {
+        for (MessageDigest digest : digests) {
+            digest.reset();
+        }
+        try (FileChannel channel = FileChannel.open(
+                file.toPath(), StandardOpenOption.READ)) {
+            buffer.clear();
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                for (MessageDigest digest : digests) {
+                    digest.update(
+                            buffer.array(), buffer.position(),
+                            buffer.remaining());
+                }
+                buffer.clear();
+            }
+        }
+        HexFormat hex = HexFormat.of();
+        String[] result = new String[digests.length];
+        for (int index = 0; index < digests.length; ++index) {
+            // Digest also resets the instance for the next file.
+            result[index] = hex.formatHex(digests[index].digest());
+        }
+        return result;
+    }
+
+}
@@ -1,25 +1,57 @@
 package com.linkedpipes.plugin.transformer.filehasher;
 
 import com.linkedpipes.etl.dataunit.core.files.FilesDataUnit;
+import com.linkedpipes.etl.dataunit.core.rdf.SingleGraphDataUnit;
 import com.linkedpipes.etl.dataunit.core.rdf.WritableSingleGraphDataUnit;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
+import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
+import org.eclipse.rdf4j.common.transaction.IsolationLevels;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+/**
+ * Files are hashed in parallel, each thread computes all digests in
+ * a single pass over a file. Results are written by the main thread
+ * in batches.
+ */
 public class FileHasher implements Component, SequentialExecution {
 
-    private static final int BUFFER_SIZE = 4096;
+    /**
+     * Number of statements written in a single transaction.
+     */
+    private static final int BATCH_SIZE = 50_000;
+
+    private static class HashedFile {
+
+        final FilesDataUnit.Entry entry;
+
+        final String[] checksums;
+
+        HashedFile(FilesDataUnit.Entry entry, String[] checksums) {
+            this.entry = entry;
+            this.checksums = checksums;
+        }
+
+    }
+
+    @Component.ContainsConfiguration
+    @Component.InputPort(iri = "Configuration")
+    public SingleGraphDataUnit configurationRdf;
 
     @Component.OutputPort(iri = "InputFiles")
     public FilesDataUnit inputFiles;
@@ -27,77 +59,140 @@ public class FileHasher implements Component, SequentialExecution {
     @Component.OutputPort(iri = "OutputRdf")
     public WritableSingleGraphDataUnit outputRdf;
 
+    @Component.Configuration
+    public FileHasherConfiguration configuration;
+
+    @Component.Inject
+    public ProgressReport progressReport;
+
+    private final ValueFactory valueFactory =
+            SimpleValueFactory.getInstance();
+
+    private final IRI hasFileName =
+            valueFactory.createIRI(FileHasherVocabulary.HAS_FILE_NAME);
+
+    private final IRI hasChecksum =
+            valueFactory.createIRI(FileHasherVocabulary.HAS_CHECKSUM);
+
+    private final IRI checksum =
+            valueFactory.createIRI(FileHasherVocabulary.CHECKSUM);
+
+    private final IRI hasAlgorithm =
+            valueFactory.createIRI(FileHasherVocabulary.HAS_ALGORITHM);
+
+    private final IRI hasChecksumValue =
+            valueFactory.createIRI(FileHasherVocabulary.HAS_CHECKSUM_VALUE);
+
+    private final IRI hexBinary = valueFactory.createIRI(
+            "http://www.w3.org/2001/XMLSchema#hexBinary");
+
+    private final List<Statement> batch = new ArrayList<>(BATCH_SIZE);
+
+    private List<HashAlgorithm> algorithms;
+
+    /**
+     * Digests are not thread safe, so each thread has its own.
+     */
+    private final ThreadLocal<FileDigest> digests = new ThreadLocal<>();
+
     @Override
     public void execute() throws LpException {
-        final ValueFactory vf = SimpleValueFactory.getInstance();
-        final IRI typeHexBinary = vf.createIRI(
-                "http://www.w3.org/2001/XMLSchema#hexBinary");
-        for (FilesDataUnit.Entry entry : inputFiles) {
-            // Compute checksum.
-            final String checkSum;
-            try {
-                checkSum = computeChecksum(entry.toFile());
-            } catch (IOException ex) {
-                throw new LpException("Can't read file.", ex);
-            } catch (NoSuchAlgorithmException ex) {
-                throw new LpException("Missing algorithm.", ex);
+        algorithms = loadAlgorithms();
+        List<FilesDataUnit.Entry> entries = new ArrayList<>();
+        inputFiles.forEach(entries::add);
+        progressReport.start(entries.size());
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, configuration.getThreads()));
+        try {
+            CompletionService<HashedFile> completionService =
+                    new ExecutorCompletionService<>(executor);
+            for (FilesDataUnit.Entry entry : entries) {
+                completionService.submit(() -> hash(entry));
             }
-            // Create RDF output.
-            outputRdf.execute((connection) -> {
-                final Resource root = vf.createBNode();
-                final Resource checkSumNode = vf.createBNode();
-                connection.begin();
-                // Root object.
-                connection.add(vf.createStatement(root,
-                        vf.createIRI(FileHasherVocabulary.HAS_FILE_NAME),
-                        vf.createLiteral(entry.getFileName())
-                ), outputRdf.getWriteGraph());
-                connection.add(vf.createStatement(root,
-                        vf.createIRI(FileHasherVocabulary.HAS_CHECKSUM),
-                        checkSumNode), outputRdf.getWriteGraph());
-                // Checksum object.
-                connection.add(vf.createStatement(checkSumNode,
-                        RDF.TYPE,
-                        vf.createIRI(FileHasherVocabulary.CHECKSUM)
-                ), outputRdf.getWriteGraph());
-                connection.add(vf.createStatement(checkSumNode,
-                        vf.createIRI(FileHasherVocabulary.HAS_ALGORITHM),
-                        vf.createIRI(FileHasherVocabulary.SHA1)
-                ), outputRdf.getWriteGraph());
-                connection.add(vf.createStatement(checkSumNode,
-                        vf.createIRI(FileHasherVocabulary.HAS_CHECKSUM_VALUE),
-                        vf.createLiteral(checkSum, typeHexBinary)
-                ), outputRdf.getWriteGraph());
-                connection.commit();
-            });
+            for (int index = 0; index < entries.size(); ++index) {
+                addToOutput(waitForResult(completionService.take()));
+                progressReport.entryProcessed();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while hashing files.", ex);
+        } finally {
+            executor.shutdownNow();
         }
+        flushBatch();
+        progressReport.done();
     }
 
-    /**
-     * Compute SHA1 checksum for given file. Based on the code example
-     * from http://www.sha1-online.com/sha1-java/ .
-     *
-     * @param file
-     * @return
-     */
-    protected String computeChecksum(File file)
-            throws NoSuchAlgorithmException, IOException {
-        final MessageDigest sha1 = MessageDigest.getInstance("SHA1");
-        try (FileInputStream stream = new FileInputStream(file)) {
-            final byte[] data = new byte[BUFFER_SIZE];
-            int read;
-            while ((read = stream.read(data)) != -1) {
-                sha1.update(data, 0, read);
+    private List<HashAlgorithm> loadAlgorithms() throws LpException {
+        List<HashAlgorithm> result = new ArrayList<>();
+        for (String name : configuration.getAlgorithms()) {
+            HashAlgorithm algorithm = HashAlgorithm.fromName(name);
+            if (!result.contains(algorithm)) {
+                result.add(algorithm);
             }
-            // Convert to string.
-            final byte[] hashBytes = sha1.digest();
-            final StringBuffer hashString = new StringBuffer();
-            for (int i = 0; i < hashBytes.length; i++) {
-                hashString.append(Integer.toString(
-                        (hashBytes[i] & 0xff) + 0x100, 16).substring(1));
-            }
-            return hashString.toString();
         }
+        if (result.isEmpty()) {
+            result.add(HashAlgorithm.SHA1);
+        }
+        return result;
+    }
+
+    private HashedFile hash(FilesDataUnit.Entry entry) throws Exception {
+        FileDigest digest = digests.get();
+        if (digest == null) {
+            digest = new FileDigest(algorithms);
+            digests.set(digest);
+        }
+        return new HashedFile(entry, digest.compute(entry.toFile()));
+    }
+
+    private HashedFile waitForResult(Future<HashedFile> future)
+            throws LpException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            throw new LpException("Can't read file.", ex.getCause());
+        }
+    }
+
+    private void addToOutput(HashedFile hashedFile) throws LpException {
+        IRI graph = outputRdf.getWriteGraph();
+        Resource root = valueFactory.createBNode();
+        batch.add(valueFactory.createStatement(
+                root, hasFileName,
+                valueFactory.createLiteral(hashedFile.entry.getFileName()),
+                graph));
+        for (int index = 0; index < algorithms.size(); ++index) {
+            Resource checkSumNode = valueFactory.createBNode();
+            batch.add(valueFactory.createStatement(
+                    root, hasChecksum, checkSumNode, graph));
+            batch.add(valueFactory.createStatement(
+                    checkSumNode, RDF.TYPE, checksum, graph));
+            batch.add(valueFactory.createStatement(
+                    checkSumNode, hasAlgorithm,
+                    valueFactory.createIRI(algorithms.get(index).getIri()),
+                    graph));
+            batch.add(valueFactory.createStatement(
+                    checkSumNode, hasChecksumValue,
+                    valueFactory.createLiteral(
+                            hashedFile.checksums[index], hexBinary),
+                    graph));
+        }
+        if (batch.size() >= BATCH_SIZE) {
+            flushBatch();
+        }
+    }
+
+    private void flushBatch() throws LpException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        outputRdf.execute((connection) -> {
+            connection.begin(IsolationLevels.NONE);
+            connection.add(batch);
+            connection.commit();
+        });
+        batch.clear();
     }
 
 }
@@ -0,0 +1,43 @@
+package com.linkedpipes.plugin.transformer.filehasher;
+
+import com.linkedpipes.etl.executor.api.v1.rdf.RdfToPojo;
+
+import java.util.LinkedList;
+import java.util.List;
+
+@RdfToPojo.Type(iri = FileHasherVocabulary.CONFIG)
+public class FileHasherConfiguration {
+
+    /**
+     * Names of digest algorithms, all are computed in a single pass
+     * over the file. When empty SHA-1 is used.
+     */
+    @RdfToPojo.Property(iri = FileHasherVocabulary.HAS_ALGORITHM_NAME)
+    private List<String> algorithms = new LinkedList<>();
+
+    /**
+     * Number of files hashed in parallel.
+     */
+    @RdfToPojo.Property(iri = FileHasherVocabulary.HAS_THREADS)
+    private int threads = 1;
+
+    public FileHasherConfiguration() {
+    }
+
+    public List<String> getAlgorithms() {
+        return algorithms;
+    }
+
+    public void setAlgorithms(List<String> algorithms) {
+        this.algorithms = algorithms;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+}
@@ -5,6 +5,12 @@ public final class FileHasherVocabulary {
     private static final String PREFIX
             = "http://plugins.linkedpipes.com/ontology/t-filehash#";
 
+    static final String CONFIG = PREFIX + "Configuration";
+
+    static final String HAS_ALGORITHM_NAME = PREFIX + "algorithm";
+
+    static final String HAS_THREADS = PREFIX + "threads";
+
     static final String HAS_FILE_NAME = PREFIX + "fileName";
 
     private static final String SPDX
@@ -20,6 +26,16 @@ public final class FileHasherVocabulary {
 
     static final String SHA1 = SPDX + "checksumAlgorithm_sha1";
 
+    static final String SHA224 = SPDX + "checksumAlgorithm_sha224";
+
+    static final String SHA256 = SPDX + "checksumAlgorithm_sha256";
+
+    static final String SHA384 = SPDX + "checksumAlgorithm_sha384";
+
+    static final String SHA512 = SPDX + "checksumAlgorithm_sha512";
+
+    static final String MD5 = SPDX + "checksumAlgorithm_md5";
+
     private FileHasherVocabulary() {
     }
 
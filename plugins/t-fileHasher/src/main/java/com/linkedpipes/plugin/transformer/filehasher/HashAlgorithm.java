@@ -0,0 +1,54 @@
+package com.linkedpipes.plugin.transformer.filehasher;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Supported digest algorithms with SPDX checksum algorithm.
+ */
+enum HashAlgorithm {
+
+    SHA1("SHA-1", FileHasherVocabulary.SHA1),
+    SHA224("SHA-224", FileHasherVocabulary.SHA224),
+    SHA256("SHA-256", FileHasherVocabulary.SHA256),
+    SHA384("SHA-384", FileHasherVocabulary.SHA384),
+    SHA512("SHA-512", FileHasherVocabulary.SHA512),
+    MD5("MD5", FileHasherVocabulary.MD5);
+
+    private final String javaName;
+
+    private final String iri;
+
+    HashAlgorithm(String javaName, String iri) {
+        this.javaName = javaName;
+        this.iri = iri;
+    }
+
+    public String getIri() {
+        return iri;
+    }
+
+    public MessageDigest createDigest() throws LpException {
+        try {
+            return MessageDigest.getInstance(javaName);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new LpException("Missing algorithm: {}", javaName, ex);
+        }
+    }
+
+    /**
+     * Accept names like "SHA-256", "sha256" or "md5".
+     */
+    public static HashAlgorithm fromName(String name) throws LpException {
+        String normalized = name.replace("-", "").trim();
+        for (HashAlgorithm algorithm : values()) {
+            if (algorithm.name().equalsIgnoreCase(normalized)) {
+                return algorithm;
+            }
+        }
+        throw new LpException("Unsupported algorithm: {}", name);
+    }
+
+}
@@ -0,0 +1,48 @@
+define([], function () {
+    "use strict";
+
+    const DESC = {
+        "$namespace": "http://plugins.linkedpipes.com/ontology/t-filehash#",
+        "$type": "Configuration",
+        "$options": {
+            "$predicate": "auto",
+            "$control": "auto"
+        },
+        "algorithm": {
+            "$array": true,
+            "$type": "str",
+            "$label": "Algorithms",
+            "$onLoad": (value) => {
+                return value.join(",");
+            },
+            "$onSave": (value) => {
+                return value.split(",")
+                    .map((item) => item.trim())
+                    .filter((item) => item !== "");
+            }
+        },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of threads"
+        }
+    };
+
+    function controller($scope, $service) {
+
+        if ($scope.dialog === undefined) {
+            $scope.dialog = {};
+        }
+
+        const dialogManager = $service.v1.manager(DESC, $scope.dialog);
+
+        $service.onStore = function () {
+            dialogManager.save();
+        };
+
+        dialogManager.load();
+
+    }
+
+    controller.$inject = ['$scope', '$service'];
+    return controller;
+});
@@ -0,0 +1,97 @@
+package com.linkedpipes.plugin.transformer.filehasher;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measure hashing throughput in MB/s for different algorithms and number
+ * of threads. Files are hashed twice, so the second round is served
+ * from the page cache. This is not a test, run the main method manually.
+ */
+public class FileDigestBenchmark {
+
+    private static final int FILES = 64;
+
+    private static final int FILE_SIZE = 16 * 1024 * 1024;
+
+    private static final int[] THREADS = {1, 2, 4, 8};
+
+    private static final List<List<HashAlgorithm>> ALGORITHMS = List.of(
+            List.of(HashAlgorithm.SHA1),
+            List.of(HashAlgorithm.SHA256),
+            List.of(HashAlgorithm.SHA256, HashAlgorithm.SHA512,
+                    HashAlgorithm.MD5));
+
+    public static void main(String[] args) throws Exception {
+        File directory = Files.createTempDirectory("lp-hash-").toFile();
+        try {
+            List<File> files = createFiles(directory);
+            for (List<HashAlgorithm> algorithms : ALGORITHMS) {
+                for (int threads : THREADS) {
+                    run(files, algorithms, threads);
+                    long duration = run(files, algorithms, threads);
+                    long megabytes = (long) FILES * FILE_SIZE / 1024 / 1024;
+                    System.out.printf("%s threads: %d %d ms %d MB/s%n",
+                            algorithms, threads, duration,
+                            megabytes * 1000 / Math.max(1, duration));
+                }
+            }
+        } finally {
+            for (File file : directory.listFiles()) {
+                file.delete();
+            }
+            directory.delete();
+        }
+    }
+
+    private static List<File> createFiles(File directory) throws IOException {
+        Random random = new Random(0);
+        byte[] content = new byte[FILE_SIZE];
+        List<File> result = new ArrayList<>();
+        for (int index = 0; index < FILES; ++index) {
+            random.nextBytes(content);
+            File file = new File(directory, index + ".bin");
+            try (OutputStream stream = new FileOutputStream(file)) {
+                stream.write(content);
+            }
+            result.add(file);
+        }
+        return result;
+    }
+
+    private static long run(
+            List<File> files, List<HashAlgorithm> algorithms, int threads)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger next = new AtomicInteger();
+        long start = System.currentTimeMillis();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int index = 0; index < threads; ++index) {
+            futures.add(executor.submit(() -> {
+                FileDigest digest = new FileDigest(algorithms);
+                int fileIndex;
+                while ((fileIndex = next.getAndIncrement()) < files.size()) {
+                    digest.compute(files.get(fileIndex));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long duration = System.currentTimeMillis() - start;
+        executor.shutdown();
+        return duration;
+    }
+
+}
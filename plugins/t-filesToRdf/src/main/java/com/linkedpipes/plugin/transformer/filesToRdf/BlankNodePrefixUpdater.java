@@ -6,9 +6,16 @@ import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFHandlerException;
 
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
 
 class BlankNodePrefixUpdater implements RDFHandler {
 
+    /**
+     * Files can be parsed at the same time, so the time alone is not
+     * enough to make the prefix unique.
+     */
+    private static final AtomicLong COUNTER = new AtomicLong();
+
     private final RDFHandler handler;
 
     private ValueFactory valueFactory = SimpleValueFactory.getInstance();
@@ -22,7 +29,8 @@ class BlankNodePrefixUpdater implements RDFHandler {
     @Override
     public void startRDF() throws RDFHandlerException {
         handler.startRDF();
-        prefix = Long.toString((new Date()).getTime()) + "_";
+        prefix = Long.toString((new Date()).getTime()) + "_"
+                + COUNTER.incrementAndGet() + "_";
     }
 
     @Override
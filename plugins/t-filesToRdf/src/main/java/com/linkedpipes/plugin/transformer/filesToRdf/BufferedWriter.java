@@ -8,7 +8,9 @@ import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFHandlerException;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 class BufferedWriter implements RDFHandler {
 
@@ -20,6 +22,11 @@ class BufferedWriter implements RDFHandler {
 
     private IRI targetGraph;
 
+    /**
+     * Prefixes we have already checked in the repository.
+     */
+    private final Set<String> knownPrefixes = new HashSet<>();
+
     public BufferedWriter(int commitSize,
             WritableGraphListDataUnit dataUnit) {
         this.commitSize = commitSize;
@@ -40,6 +47,9 @@ class BufferedWriter implements RDFHandler {
     @Override
     public void handleNamespace(String prefix, String uri)
             throws RDFHandlerException {
+        if (!knownPrefixes.add(prefix)) {
+            return;
+        }
         try {
             dataUnit.execute((connection) -> {
                 if (connection.getNamespace(prefix) == null) {
@@ -20,6 +20,8 @@ public final class FilesToRdf implements Component, SequentialExecution {
 
     private static final Logger LOG = LoggerFactory.getLogger(FilesToRdf.class);
 
+    static final String BASE_IRI = "http://localhost/base/";
+
     @Component.ContainsConfiguration
     @Component.InputPort(iri = "Configuration")
     public SingleGraphDataUnit configurationRdf;
@@ -43,6 +45,14 @@ public final class FilesToRdf implements Component, SequentialExecution {
     @Override
     public void execute() throws LpException {
         prepareDefaultFormat();
+        if (configuration.getThreads() > 1) {
+            ParallelLoader loader = new ParallelLoader(
+                    configuration, outputRdf, progressReport,
+                    (fileName, handler) -> createParser(
+                            getFormat(fileName), handler));
+            loader.load(inputFiles);
+            return;
+        }
         prepareStatementInserter();
         loadFiles();
     }
@@ -86,9 +96,9 @@ public final class FilesToRdf implements Component, SequentialExecution {
 
     private void loadEntry(FilesDataUnit.Entry entry) throws LpException {
         RDFFormat format = getFormat(entry.getFileName());
-        RDFParser parser = createParser(format);
+        RDFParser parser = createParser(format, inserter);
         try (InputStream fileStream = new FileInputStream(entry.toFile())) {
-            parser.parse(fileStream, "http://localhost/base/");
+            parser.parse(fileStream, BASE_IRI);
         } catch (IOException | RDFHandlerException | RDFParseException ex) {
             handleLoadingException(entry.getFileName(), ex);
         }
@@ -106,8 +116,7 @@ public final class FilesToRdf implements Component, SequentialExecution {
         return format.get();
     }
 
-    private RDFParser createParser(RDFFormat format) {
-        RDFHandler handler = inserter;
+    private RDFParser createParser(RDFFormat format, RDFHandler handler) {
         if (format == RDFFormat.JSONLD) {
             handler = new BlankNodePrefixUpdater(handler);
         }
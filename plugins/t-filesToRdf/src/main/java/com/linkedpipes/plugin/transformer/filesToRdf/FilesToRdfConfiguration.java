@@ -14,6 +14,12 @@ public class FilesToRdfConfiguration {
     @RdfToPojo.Property(iri = FilesToRdfVocabulary.HAS_SKIP_ON_FAILURE)
     private boolean skipOnFailure = false;
 
+    /**
+     * With more than one thread files are parsed in parallel.
+     */
+    @RdfToPojo.Property(iri = FilesToRdfVocabulary.HAS_THREADS)
+    private int threads = 1;
+
     public FilesToRdfConfiguration() {
     }
 
@@ -41,4 +47,12 @@ public class FilesToRdfConfiguration {
         this.skipOnFailure = skipOnFailure;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
 }
@@ -13,6 +13,8 @@ public final class FilesToRdfVocabulary {
 
     public static final String HAS_SKIP_ON_FAILURE = PREFIX + "softFail";
 
+    public static final String HAS_THREADS = PREFIX + "threads";
+
     private FilesToRdfVocabulary() {
     }
 
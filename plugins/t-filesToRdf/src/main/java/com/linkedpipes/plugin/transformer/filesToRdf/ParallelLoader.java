@@ -0,0 +1,265 @@
+package com.linkedpipes.plugin.transformer.filesToRdf;
+
+import com.linkedpipes.etl.dataunit.core.files.FilesDataUnit;
+import com.linkedpipes.etl.dataunit.core.rdf.WritableGraphListDataUnit;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Parse files using multiple threads. Parsed statements are passed
+ * in small batches through a bounded queue to a single writer, running
+ * in the calling thread. The writer collects statements from multiple
+ * files and writes them in one transaction per commit size.
+ */
+class ParallelLoader {
+
+    @FunctionalInterface
+    interface ParserFactory {
+
+        RDFParser create(String fileName, RDFHandler handler)
+                throws LpException;
+
+    }
+
+    /**
+     * Statements parsed from a single file. The last batch for each
+     * file has the last flag set, if the parsing failed it also
+     * contains the failure.
+     */
+    private record Batch(
+            String fileName,
+            List<Statement> statements,
+            Map<String, String> namespaces,
+            boolean last,
+            Exception failure) {
+    }
+
+    /**
+     * Size of batches passed from parsers to the writer.
+     */
+    private static final int BATCH_SIZE = 1024;
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(ParallelLoader.class);
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private final FilesToRdfConfiguration configuration;
+
+    private final WritableGraphListDataUnit output;
+
+    private final ProgressReport progressReport;
+
+    private final ParserFactory parserFactory;
+
+    private final BlockingQueue<Batch> queue;
+
+    private final List<Statement> statements;
+
+    /**
+     * Namespaces we have already seen, so we check each prefix in the
+     * repository only once.
+     */
+    private final Map<String, String> knownNamespaces = new HashMap<>();
+
+    private final Map<String, String> namespacesToAdd = new LinkedHashMap<>();
+
+    public ParallelLoader(
+            FilesToRdfConfiguration configuration,
+            WritableGraphListDataUnit output,
+            ProgressReport progressReport,
+            ParserFactory parserFactory) {
+        this.configuration = configuration;
+        this.output = output;
+        this.progressReport = progressReport;
+        this.parserFactory = parserFactory;
+        this.queue = new ArrayBlockingQueue<>(configuration.getThreads() * 4);
+        this.statements = new ArrayList<>(configuration.getCommitSize());
+    }
+
+    public void load(FilesDataUnit files) throws LpException {
+        List<FilesDataUnit.Entry> entries = new ArrayList<>();
+        files.forEach(entries::add);
+        progressReport.start(entries.size());
+        ExecutorService executor =
+                Executors.newFixedThreadPool(configuration.getThreads());
+        try {
+            for (FilesDataUnit.Entry entry : entries) {
+                // Graphs are created by this thread in order of the files.
+                IRI graph = output.createGraph();
+                executor.submit(() -> parseEntry(entry, graph));
+            }
+            int remaining = entries.size();
+            while (remaining > 0) {
+                Batch batch = queue.take();
+                if (batch.failure() != null) {
+                    handleFailure(batch);
+                }
+                addBatch(batch);
+                if (batch.last()) {
+                    --remaining;
+                    progressReport.entryProcessed();
+                }
+            }
+            flush();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while loading files.", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+        progressReport.done();
+    }
+
+    private void handleFailure(Batch batch) throws LpException {
+        if (configuration.isSkipOnFailure()) {
+            LOG.error("Can't load file: {}", batch.fileName(),
+                    batch.failure());
+        } else {
+            throw new LpException(
+                    "Can't parse file: {}", batch.fileName(), batch.failure());
+        }
+    }
+
+    private void addBatch(Batch batch) throws LpException {
+        batch.namespaces().forEach((prefix, uri) -> {
+            if (!knownNamespaces.containsKey(prefix)) {
+                knownNamespaces.put(prefix, uri);
+                namespacesToAdd.put(prefix, uri);
+            }
+        });
+        statements.addAll(batch.statements());
+        if (statements.size() >= configuration.getCommitSize()) {
+            flush();
+        }
+    }
+
+    private void flush() throws LpException {
+        if (statements.isEmpty() && namespacesToAdd.isEmpty()) {
+            return;
+        }
+        output.execute((connection) -> {
+            connection.begin();
+            for (Map.Entry<String, String> entry
+                    : namespacesToAdd.entrySet()) {
+                if (connection.getNamespace(entry.getKey()) == null) {
+                    connection.setNamespace(entry.getKey(), entry.getValue());
+                }
+            }
+            connection.add(statements);
+            connection.commit();
+        });
+        statements.clear();
+        namespacesToAdd.clear();
+    }
+
+    /**
+     * Executed by the parser threads.
+     */
+    private void parseEntry(FilesDataUnit.Entry entry, IRI graph) {
+        BatchCollector collector =
+                new BatchCollector(entry.getFileName(), graph);
+        try (InputStream stream = new FileInputStream(entry.toFile())) {
+            RDFParser parser =
+                    parserFactory.create(entry.getFileName(), collector);
+            parser.parse(stream, FilesToRdf.BASE_IRI);
+            collector.finish(null);
+        } catch (Exception ex) {
+            if (Thread.currentThread().isInterrupted()) {
+                // The writer has stopped.
+                return;
+            }
+            collector.finish(ex);
+        }
+    }
+
+    private class BatchCollector implements RDFHandler {
+
+        private final String fileName;
+
+        private final IRI graph;
+
+        private List<Statement> batch = new ArrayList<>(BATCH_SIZE);
+
+        private Map<String, String> namespaces = new HashMap<>();
+
+        public BatchCollector(String fileName, IRI graph) {
+            this.fileName = fileName;
+            this.graph = graph;
+        }
+
+        @Override
+        public void startRDF() throws RDFHandlerException {
+            // No operation here.
+        }
+
+        @Override
+        public void endRDF() throws RDFHandlerException {
+            // Last batch is send by finish.
+        }
+
+        @Override
+        public void handleNamespace(String prefix, String uri)
+                throws RDFHandlerException {
+            namespaces.putIfAbsent(prefix, uri);
+        }
+
+        @Override
+        public void handleStatement(Statement st) throws RDFHandlerException {
+            batch.add(VF.createStatement(
+                    st.getSubject(), st.getPredicate(), st.getObject(),
+                    graph));
+            if (batch.size() >= BATCH_SIZE) {
+                try {
+                    send(false, null);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new RDFHandlerException("Interrupted.", ex);
+                }
+            }
+        }
+
+        @Override
+        public void handleComment(String comment) throws RDFHandlerException {
+            // No operation here.
+        }
+
+        public void finish(Exception failure) {
+            try {
+                send(true, failure);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void send(boolean last, Exception failure)
+                throws InterruptedException {
+            queue.put(new Batch(fileName, batch, namespaces, last, failure));
+            batch = new ArrayList<>(BATCH_SIZE);
+            namespaces = new HashMap<>();
+        }
+
+    }
+
+}
@@ -33,6 +33,10 @@ define([], function () {
         "softFail": {
             "$type": "bool",
             "$label": "Skip file on failure"
+        },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of threads"
         }
     };
 
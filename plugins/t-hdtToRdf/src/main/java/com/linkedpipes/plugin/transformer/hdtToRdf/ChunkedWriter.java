@@ -0,0 +1,78 @@
+package com.linkedpipes.plugin.transformer.hdtToRdf;
+
+import com.linkedpipes.etl.dataunit.core.rdf.WritableChunkedTriples;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Submit statements as a new chunk once there are at least chunk size
+ * of them and the subject changes. HDT is iterated in the subject order,
+ * so all statements about a subject end up in the same chunk.
+ */
+class ChunkedWriter implements RDFHandler {
+
+    private final int chunkSize;
+
+    private final WritableChunkedTriples dataUnit;
+
+    private final List<Statement> statements;
+
+    private Resource lastSubject = null;
+
+    public ChunkedWriter(int chunkSize, WritableChunkedTriples dataUnit) {
+        this.chunkSize = chunkSize;
+        this.dataUnit = dataUnit;
+        this.statements = new ArrayList<>(chunkSize);
+    }
+
+    @Override
+    public void startRDF() throws RDFHandlerException {
+        // No operation here.
+    }
+
+    @Override
+    public void endRDF() throws RDFHandlerException {
+        flushBuffer();
+    }
+
+    @Override
+    public void handleNamespace(String prefix, String uri)
+            throws RDFHandlerException {
+        // Chunks do not store namespaces.
+    }
+
+    @Override
+    public void handleStatement(Statement st) throws RDFHandlerException {
+        if (statements.size() >= chunkSize
+                && !st.getSubject().equals(lastSubject)) {
+            flushBuffer();
+        }
+        statements.add(st);
+        lastSubject = st.getSubject();
+    }
+
+    @Override
+    public void handleComment(String comment) throws RDFHandlerException {
+        // No operation here.
+    }
+
+    private void flushBuffer() {
+        if (statements.isEmpty()) {
+            return;
+        }
+        try {
+            dataUnit.submit(statements);
+            statements.clear();
+            lastSubject = null;
+        } catch (LpException ex) {
+            throw new RDFHandlerException(ex);
+        }
+    }
+
+}
@@ -2,16 +2,18 @@ package com.linkedpipes.plugin.transformer.hdtToRdf;
 
 import com.linkedpipes.etl.dataunit.core.files.FilesDataUnit;
 import com.linkedpipes.etl.dataunit.core.rdf.SingleGraphDataUnit;
+import com.linkedpipes.etl.dataunit.core.rdf.WritableChunkedTriples;
 import com.linkedpipes.etl.dataunit.core.rdf.WritableSingleGraphDataUnit;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
 import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
-import org.eclipse.rdf4j.rio.RDFParser;
-import org.eclipse.rdf4j.rio.n3.N3ParserFactory;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
 import org.rdfhdt.hdt.exceptions.NotFoundException;
 import org.rdfhdt.hdt.hdt.HDT;
 import org.rdfhdt.hdt.hdt.HDTManager;
+import org.rdfhdt.hdt.triples.IteratorTripleString;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,15 +33,18 @@ public final class HdtToRdf implements Component, SequentialExecution {
     @Component.OutputPort(iri = "OutputRdf")
     public WritableSingleGraphDataUnit outputRdf;
 
+    @Component.OutputPort(iri = "OutputChunkedRdf")
+    public WritableChunkedTriples outputChunkedRdf;
+
     @Component.Configuration
     public HdtToRdfConfiguration configuration;
 
     @Component.Inject
     public ProgressReport progressReport;
 
-    private BufferedWriter writer;
+    private RDFHandler writer;
 
-    private final N3ParserFactory parserFactory = new N3ParserFactory();
+    private int fileCounter = 0;
 
     @Override
     public void execute() throws LpException {
@@ -48,7 +53,13 @@ public final class HdtToRdf implements Component, SequentialExecution {
     }
 
     private void prepareStatementWriter() {
-        writer = new BufferedWriter(configuration.getCommitSize(), outputRdf);
+        if (configuration.isChunkedOutput()) {
+            writer = new ChunkedWriter(
+                    configuration.getCommitSize(), outputChunkedRdf);
+        } else {
+            writer = new BufferedWriter(
+                    configuration.getCommitSize(), outputRdf);
+        }
     }
 
     private void loadFiles() throws LpException {
@@ -60,20 +71,33 @@ public final class HdtToRdf implements Component, SequentialExecution {
         progressReport.done();
     }
 
+    /**
+     * The file is memory mapped, so only the part being converted
+     * needs to be in memory.
+     */
     private void loadEntry(FilesDataUnit.Entry entry) throws LpException {
-        RDFParser parser = parserFactory.getParser();
-        parser.setRDFHandler(writer);
-        try {
-            HDT hdt = HDTManager.loadHDT(entry.toFile().toString());
+        TripleStringConverter converter =
+                new TripleStringConverter((fileCounter++) + "_");
+        try (HDT hdt = HDTManager.mapHDT(entry.toFile().toString(), null)) {
             LOG.info("Converting {} triples ...", hdt.size());
-            HdtN3Reader reader = new HdtN3Reader(hdt.search("", "", ""));
-            parser.parse(reader, "http://localhost/base/");
+            IteratorTripleString iterator = hdt.search("", "", "");
+            writer.startRDF();
+            while (iterator.hasNext()) {
+                writer.handleStatement(converter.convert(iterator.next()));
+            }
+            writer.endRDF();
             LOG.info("Converting {} triples ... done", hdt.size());
         } catch (IOException ex) {
             throw new LpException(
                     "Can't read file: {}", entry.getFileName(), ex);
         } catch (NotFoundException ex) {
             // This is ok, as if no triples were found there is just no output.
+        } catch (RDFHandlerException ex) {
+            if (ex.getCause() instanceof LpException) {
+                throw (LpException) ex.getCause();
+            }
+            throw new LpException(
+                    "Can't convert file: {}", entry.getFileName(), ex);
         }
     }
 
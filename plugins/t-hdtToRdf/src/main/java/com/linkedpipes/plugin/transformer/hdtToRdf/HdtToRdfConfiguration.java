@@ -8,6 +8,14 @@ public class HdtToRdfConfiguration {
     @RdfToPojo.Property(iri = HdtToRdfVocabulary.HAS_COMMIT_SIZE)
     private int commitSize = 10000;
 
+    /**
+     * When true the output is written to the chunked output port,
+     * using the commit size as the minimal chunk size. Statements about
+     * a subject are never split between chunks.
+     */
+    @RdfToPojo.Property(iri = HdtToRdfVocabulary.HAS_CHUNKED_OUTPUT)
+    private boolean chunkedOutput = false;
+
     public HdtToRdfConfiguration() {
     }
 
@@ -19,4 +27,12 @@ public class HdtToRdfConfiguration {
         this.commitSize = commitSize;
     }
 
+    public boolean isChunkedOutput() {
+        return chunkedOutput;
+    }
+
+    public void setChunkedOutput(boolean chunkedOutput) {
+        this.chunkedOutput = chunkedOutput;
+    }
+
 }
@@ -9,6 +9,8 @@ public final class HdtToRdfVocabulary {
 
     public static final String HAS_COMMIT_SIZE = PREFIX + "commitSize";
 
+    public static final String HAS_CHUNKED_OUTPUT = PREFIX + "chunkedOutput";
+
     private HdtToRdfVocabulary() {
     }
 
@@ -0,0 +1,63 @@
+package com.linkedpipes.plugin.transformer.hdtToRdf;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.rdfhdt.hdt.triples.TripleString;
+
+/**
+ * Convert HDT triples to statements. HDT stores IRIs without angle
+ * brackets, blank nodes with the "_:" prefix and literals as
+ * "label", "label"@lang or "label"^^&lt;datatype&gt;. The label is not
+ * escaped, so it may contain quotes, backslashes and new lines.
+ */
+class TripleStringConverter {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    /**
+     * Blank nodes from different files must not be merged.
+     */
+    private final String blankNodePrefix;
+
+    public TripleStringConverter(String blankNodePrefix) {
+        this.blankNodePrefix = blankNodePrefix;
+    }
+
+    public Statement convert(TripleString triple) {
+        return VF.createStatement(
+                asResource(triple.getSubject()),
+                VF.createIRI(triple.getPredicate().toString()),
+                asValue(triple.getObject()));
+    }
+
+    private Resource asResource(CharSequence value) {
+        String str = value.toString();
+        if (str.startsWith("_:")) {
+            return VF.createBNode(blankNodePrefix + str.substring(2));
+        }
+        return VF.createIRI(str);
+    }
+
+    private Value asValue(CharSequence value) {
+        if (value.length() == 0 || value.charAt(0) != '"') {
+            return asResource(value);
+        }
+        String str = value.toString();
+        int end = str.lastIndexOf('"');
+        String label = str.substring(1, end);
+        if (end + 1 == str.length()) {
+            return VF.createLiteral(label);
+        }
+        if (str.charAt(end + 1) == '@') {
+            return VF.createLiteral(label, str.substring(end + 2));
+        }
+        // The rest is in the form ^^<datatype>.
+        IRI datatype = VF.createIRI(str.substring(end + 4, str.length() - 1));
+        return VF.createLiteral(label, datatype);
+    }
+
+}
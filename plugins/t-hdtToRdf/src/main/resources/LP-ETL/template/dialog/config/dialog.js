@@ -11,6 +11,10 @@ define([], function () {
         "commitSize": {
             "$type": "int",
             "$label": "Commit size"
+        },
+        "chunkedOutput": {
+            "$type": "bool",
+            "$label": "Write to chunked output"
         }
     };
 
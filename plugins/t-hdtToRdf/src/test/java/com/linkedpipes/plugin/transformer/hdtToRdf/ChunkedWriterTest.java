@@ -0,0 +1,45 @@
+package com.linkedpipes.plugin.transformer.hdtToRdf;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChunkedWriterTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    @Test
+    public void doNotSplitSubject() {
+        List<List<Statement>> chunks = new ArrayList<>();
+        ChunkedWriter writer = new ChunkedWriter(
+                2, statements -> chunks.add(new ArrayList<>(statements)));
+        writer.startRDF();
+        writer.handleStatement(create("a", "1"));
+        writer.handleStatement(create("a", "2"));
+        writer.handleStatement(create("a", "3"));
+        writer.handleStatement(create("b", "1"));
+        writer.handleStatement(create("c", "1"));
+        writer.handleStatement(create("c", "2"));
+        writer.handleStatement(create("d", "1"));
+        writer.endRDF();
+        Assertions.assertEquals(3, chunks.size());
+        Assertions.assertEquals(3, chunks.get(0).size());
+        Assertions.assertEquals(3, chunks.get(1).size());
+        Assertions.assertEquals(1, chunks.get(2).size());
+        Assertions.assertEquals(create("b", "1"), chunks.get(1).get(0));
+        Assertions.assertEquals(create("d", "1"), chunks.get(2).get(0));
+    }
+
+    private static Statement create(String subject, String value) {
+        return VF.createStatement(
+                VF.createIRI("http://localhost/" + subject),
+                VF.createIRI("http://localhost/value"),
+                VF.createLiteral(value));
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.linkedpipes.plugin.transformer.hdtToRdf;
+
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rdfhdt.hdt.hdt.HDT;
+import org.rdfhdt.hdt.hdt.HDTManager;
+import org.rdfhdt.hdt.options.HDTSpecification;
+import org.rdfhdt.hdt.triples.IteratorTripleString;
+import org.rdfhdt.hdt.triples.TripleString;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class TripleStringConverterTest {
+
+    private static final List<String> LABELS = List.of(
+            "plain",
+            "with \"quotes\"",
+            "C:\\path\\to\\file",
+            "a\\nb",
+            "first line\nsecond line",
+            "\"\\\n\"");
+
+    @TempDir
+    File directory;
+
+    @Test
+    public void plainLiteral() {
+        for (String label : LABELS) {
+            Literal literal = convert("\"" + label + "\"");
+            Assertions.assertEquals(label, literal.getLabel());
+            Assertions.assertEquals(XSD.STRING, literal.getDatatype());
+        }
+    }
+
+    @Test
+    public void languageLiteral() {
+        for (String label : LABELS) {
+            Literal literal = convert("\"" + label + "\"@cs");
+            Assertions.assertEquals(label, literal.getLabel());
+            Assertions.assertEquals("cs", literal.getLanguage().get());
+        }
+    }
+
+    @Test
+    public void typedLiteral() {
+        for (String label : LABELS) {
+            Literal literal = convert(
+                    "\"" + label + "\"^^<" + XSD.TOKEN.stringValue() + ">");
+            Assertions.assertEquals(label, literal.getLabel());
+            Assertions.assertEquals(XSD.TOKEN, literal.getDatatype());
+        }
+    }
+
+    @Test
+    public void resources() {
+        TripleStringConverter converter = new TripleStringConverter("file-");
+        Statement statement = converter.convert(new TripleString(
+                "_:b0", "http://localhost/predicate", "http://localhost/o"));
+        Assertions.assertEquals(
+                "file-b0", statement.getSubject().stringValue());
+        Assertions.assertEquals(
+                "http://localhost/o", statement.getObject().stringValue());
+    }
+
+    @Test
+    public void roundTripThroughHdt() throws Exception {
+        List<TripleString> triples = new ArrayList<>();
+        for (String label : LABELS) {
+            triples.add(new TripleString(
+                    "http://localhost/subject", "http://localhost/predicate",
+                    "\"" + label + "\"@cs"));
+        }
+        File file = new File(directory, "data.hdt");
+        try (HDT hdt = HDTManager.generateHDT(
+                triples.iterator(), "http://localhost",
+                new HDTSpecification(), null)) {
+            hdt.saveToHDT(file.getPath(), null);
+        }
+        TripleStringConverter converter = new TripleStringConverter("");
+        Set<String> actual = new HashSet<>();
+        try (HDT hdt = HDTManager.mapHDT(file.getPath(), null)) {
+            IteratorTripleString iterator = hdt.search("", "", "");
+            while (iterator.hasNext()) {
+                Literal literal = (Literal) converter.convert(
+                        iterator.next()).getObject();
+                actual.add(literal.getLabel());
+            }
+        }
+        Assertions.assertEquals(new HashSet<>(LABELS), actual);
+    }
+
+    private Literal convert(String object) {
+        TripleStringConverter converter = new TripleStringConverter("");
+        Statement statement = converter.convert(new TripleString(
+                "http://localhost/subject", "http://localhost/predicate",
+                object));
+        return (Literal) statement.getObject();
+    }
+
+}
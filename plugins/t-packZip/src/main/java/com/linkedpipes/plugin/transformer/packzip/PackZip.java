@@ -7,16 +7,43 @@ import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
 import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
+import com.linkedpipes.etl.executor.api.v1.service.WorkingDirectory;
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.apache.commons.compress.parallel.FileBasedScatterGatherBackingStore;
+import org.apache.commons.compress.parallel.ScatterGatherBackingStoreSupplier;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
+/**
+ * With a single thread entries are written directly into the archive.
+ * With more threads entries are compressed in parallel into temporary
+ * files in the working directory and then copied into the archive.
+ */
 public final class PackZip implements Component, SequentialExecution {
 
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Files with these extensions are already compressed.
+     */
+    private static final List<String> COMPRESSED_EXTENSIONS = List.of(
+            ".gz", ".zip", ".bz2", ".xz", ".zst", ".7z");
+
     @Component.ContainsConfiguration
     @Component.InputPort(iri = "Configuration")
     public SingleGraphDataUnit configurationRdf;
@@ -33,6 +60,9 @@ public final class PackZip implements Component, SequentialExecution {
     @Component.Inject
     public ProgressReport progressReport;
 
+    @Component.Inject
+    public WorkingDirectory workingDirectory;
+
     @Override
     public void execute() throws LpException {
         if (configuration.getFileName() == null
@@ -40,16 +70,23 @@ public final class PackZip implements Component, SequentialExecution {
             throw new LpException("Missing property: {}",
                     PackZipVocabulary.HAS_FILE_NAME);
         }
+        int level = configuration.getCompressionLevel();
+        if (level < 0 || level > 9) {
+            throw new LpException("Invalid compression level: {}", level);
+        }
         //
         final File zipFile = output.createFile(
                 configuration.getFileName());
-        final byte[] buffer = new byte[8196];
         progressReport.start(input.size());
-        try (FileOutputStream fos = new FileOutputStream(zipFile);
-             ZipOutputStream zos = new ZipOutputStream(fos)) {
-            for (FilesDataUnit.Entry entry : input) {
-                addZipEntry(zos, buffer, entry);
-                progressReport.entryProcessed();
+        try (ZipArchiveOutputStream zos =
+                     new ZipArchiveOutputStream(zipFile)) {
+            zos.setLevel(level);
+            zos.setUseZip64(configuration.isForceZip64()
+                    ? Zip64Mode.Always : Zip64Mode.AsNeeded);
+            if (configuration.getThreads() > 1) {
+                writeInParallel(zos);
+            } else {
+                writeSequentially(zos);
             }
         } catch (IOException ex) {
             throw new LpException("Can't create archive.", ex);
@@ -57,28 +94,108 @@ public final class PackZip implements Component, SequentialExecution {
         progressReport.done();
     }
 
+    private void writeSequentially(ZipArchiveOutputStream zos)
+            throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        for (FilesDataUnit.Entry entry : input) {
+            final File sourceFile = entry.toFile();
+            zos.putArchiveEntry(createZipEntry(entry));
+            try (InputStream in = new FileInputStream(sourceFile)) {
+                int len;
+                while ((len = in.read(buffer)) > 0) {
+                    zos.write(buffer, 0, len);
+                }
+            }
+            zos.closeArchiveEntry();
+            progressReport.entryProcessed();
+        }
+    }
+
+    private void writeInParallel(ZipArchiveOutputStream zos)
+            throws IOException, LpException {
+        ExecutorService executor =
+                Executors.newFixedThreadPool(configuration.getThreads());
+        try {
+            ParallelScatterZipCreator creator = new ParallelScatterZipCreator(
+                    executor,
+                    createBackingStoreSupplier(),
+                    configuration.getCompressionLevel());
+            for (FilesDataUnit.Entry entry : input) {
+                final File sourceFile = entry.toFile();
+                creator.addArchiveEntry(createZipEntry(entry), () -> {
+                    try {
+                        return new ReportingInputStream(
+                                new FileInputStream(sourceFile));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+            creator.writeTo(zos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while creating archive.", ex);
+        } catch (ExecutionException ex) {
+            throw new LpException("Can't compress entry.", ex.getCause());
+        } finally {
+            // The creator shuts the executor down only on success.
+            executor.shutdownNow();
+        }
+    }
+
+    private ScatterGatherBackingStoreSupplier createBackingStoreSupplier() {
+        File directory = new File(workingDirectory, "scatter");
+        directory.mkdirs();
+        AtomicInteger counter = new AtomicInteger();
+        return () -> new FileBasedScatterGatherBackingStore(new File(
+                directory, "entry-" + counter.incrementAndGet()));
+    }
+
+    private ZipArchiveEntry createZipEntry(FilesDataUnit.Entry entry) {
+        final File sourceFile = entry.toFile();
+        final ZipArchiveEntry result =
+                new ZipArchiveEntry(entry.getFileName());
+        result.setSize(sourceFile.length());
+        result.setTime(sourceFile.lastModified());
+        if (configuration.isStoreCompressed()
+                && isCompressed(entry.getFileName())) {
+            result.setMethod(ZipEntry.STORED);
+        } else {
+            result.setMethod(ZipEntry.DEFLATED);
+        }
+        return result;
+    }
+
+    private static boolean isCompressed(String fileName) {
+        final String name = fileName.toLowerCase(Locale.ROOT);
+        for (String extension : COMPRESSED_EXTENSIONS) {
+            if (name.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
-     * Add single file into stream as zip entry.
-     *
-     * @param zos
-     * @param buffer
-     * @param entry
+     * Report entry as processed once it is read and closed.
      */
-    private void addZipEntry(ZipOutputStream zos, byte[] buffer,
-            final FilesDataUnit.Entry entry) throws LpException {
-        // Add to the zip file.
-        final File sourceFile = entry.toFile();
-        try (FileInputStream in = new FileInputStream(sourceFile)) {
-            final ZipEntry ze = new ZipEntry(entry.getFileName());
-            zos.putNextEntry(ze);
-            // Copy data into zip file.
-            int len;
-            while ((len = in.read(buffer)) > 0) {
-                zos.write(buffer, 0, len);
+    private class ReportingInputStream extends FilterInputStream {
+
+        private boolean closed = false;
+
+        ReportingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            if (!closed) {
+                closed = true;
+                progressReport.entryProcessed();
             }
-        } catch (Exception ex) {
-            throw new LpException("", ex);
         }
+
     }
 
 }
@@ -8,6 +8,32 @@ public class PackZipConfiguration {
     @RdfToPojo.Property(iri = PackZipVocabulary.HAS_FILE_NAME)
     private String fileName;
 
+    /**
+     * Deflate level from 0 (no compression) to 9 (best compression).
+     */
+    @RdfToPojo.Property(iri = PackZipVocabulary.HAS_COMPRESSION_LEVEL)
+    private int compressionLevel = 6;
+
+    /**
+     * With more than one thread entries are compressed in parallel
+     * and then copied into the archive.
+     */
+    @RdfToPojo.Property(iri = PackZipVocabulary.HAS_THREADS)
+    private int threads = 4;
+
+    /**
+     * If true already compressed files are stored without compression.
+     */
+    @RdfToPojo.Property(iri = PackZipVocabulary.HAS_STORE_COMPRESSED)
+    private boolean storeCompressed = true;
+
+    /**
+     * If true ZIP64 extensions are used for all entries, else only
+     * when needed.
+     */
+    @RdfToPojo.Property(iri = PackZipVocabulary.HAS_FORCE_ZIP64)
+    private boolean forceZip64 = false;
+
     public PackZipConfiguration() {
     }
 
@@ -19,4 +45,36 @@ public class PackZipConfiguration {
         this.fileName = fileName;
     }
 
+    public int getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public boolean isStoreCompressed() {
+        return storeCompressed;
+    }
+
+    public void setStoreCompressed(boolean storeCompressed) {
+        this.storeCompressed = storeCompressed;
+    }
+
+    public boolean isForceZip64() {
+        return forceZip64;
+    }
+
+    public void setForceZip64(boolean forceZip64) {
+        this.forceZip64 = forceZip64;
+    }
+
 }
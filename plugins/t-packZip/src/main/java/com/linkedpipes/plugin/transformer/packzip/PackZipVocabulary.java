@@ -9,6 +9,16 @@ public final class PackZipVocabulary {
 
     public static final String HAS_FILE_NAME = PREFIX + "fileName";
 
+    public static final String HAS_COMPRESSION_LEVEL =
+            PREFIX + "compressionLevel";
+
+    public static final String HAS_THREADS = PREFIX + "threads";
+
+    public static final String HAS_STORE_COMPRESSED =
+            PREFIX + "storeCompressed";
+
+    public static final String HAS_FORCE_ZIP64 = PREFIX + "forceZip64";
+
     private PackZipVocabulary() {
     }
 
@@ -11,6 +11,22 @@ define([], function () {
         "fileName": {
             "$type": "str",
             "$label": "Output file name"
+        },
+        "compressionLevel": {
+            "$type": "int",
+            "$label": "Compression level"
+        },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of threads"
+        },
+        "storeCompressed": {
+            "$type": "bool",
+            "$label": "Store compressed files without compression"
+        },
+        "forceZip64": {
+            "$type": "bool",
+            "$label": "Always use ZIP64"
         }
     };
 
@@ -0,0 +1,95 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import org.eclipse.rdf4j.model.Statement;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compute difference of two sets of statements with limited memory.
+ * Both sets are split into partitions on disk by statement hash, so
+ * equal statements end up in partitions with the same index. The
+ * partitions are then compared one by one using {@link PartitionIndex}.
+ * The result is a set difference, duplicate statements are reported
+ * at most once.
+ *
+ * <p>The class is also used by t-rdfDifferenceChunked.
+ */
+public class DiskDifference implements AutoCloseable {
+
+    private static final int PARTITIONS = 128;
+
+    private final PartitionWriter toRemove;
+
+    private final PartitionWriter data;
+
+    public DiskDifference(File directory) throws LpException {
+        try {
+            toRemove = new PartitionWriter(directory, "remove", PARTITIONS);
+            data = new PartitionWriter(directory, "data", PARTITIONS);
+        } catch (IOException ex) {
+            throw new LpException("Can't create partition files.", ex);
+        }
+    }
+
+    public void addToRemove(Statement statement) throws LpException {
+        try {
+            toRemove.write(statement);
+        } catch (IOException ex) {
+            throw new LpException("Can't write partition file.", ex);
+        }
+    }
+
+    public void addData(Statement statement) throws LpException {
+        try {
+            data.write(statement);
+        } catch (IOException ex) {
+            throw new LpException("Can't write partition file.", ex);
+        }
+    }
+
+    /**
+     * Pass statements only in data to added, statements only in to remove
+     * to removed. Must be called after all statements were added.
+     */
+    public void execute(StatementConsumer added, StatementConsumer removed)
+            throws LpException {
+        close();
+        for (int partition = 0; partition < PARTITIONS; ++partition) {
+            try {
+                compare(partition, added, removed);
+            } catch (IOException ex) {
+                throw new LpException("Can't read partition.", ex);
+            }
+            toRemove.getFile(partition).delete();
+            data.getFile(partition).delete();
+        }
+    }
+
+    private void compare(
+            int partition, StatementConsumer added, StatementConsumer removed)
+            throws IOException, LpException {
+        PartitionIndex toRemoveIndex = new PartitionIndex(
+                toRemove.getFile(partition), toRemove.getCount(partition));
+        PartitionIndex dataIndex = new PartitionIndex(
+                data.getFile(partition), data.getCount(partition));
+        dataIndex.forEach((hash, record) -> {
+            if (!toRemoveIndex.match(hash, record)) {
+                added.accept(StatementEncoder.decode(record));
+            }
+        });
+        toRemoveIndex.forEachUnmatched(removed);
+    }
+
+    @Override
+    public void close() throws LpException {
+        try {
+            toRemove.close();
+            data.close();
+        } catch (IOException ex) {
+            throw new LpException("Can't close partition files.", ex);
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+import com.linkedpipes.etl.dataunit.core.rdf.WritableSingleGraphDataUnit;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import org.eclipse.rdf4j.model.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Add statements to a data unit in batches.
+ */
+class GraphWriter implements StatementConsumer {
+
+    private static final int BUFFER_SIZE = 10000;
+
+    private final WritableSingleGraphDataUnit dataUnit;
+
+    private final List<Statement> buffer = new ArrayList<>(BUFFER_SIZE);
+
+    public GraphWriter(WritableSingleGraphDataUnit dataUnit) {
+        this.dataUnit = dataUnit;
+    }
+
+    @Override
+    public void accept(Statement statement) throws LpException {
+        buffer.add(statement);
+        if (buffer.size() >= BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    public void flush() throws LpException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        dataUnit.execute((connection) -> {
+            connection.add(buffer, dataUnit.getWriteGraph());
+        });
+        buffer.clear();
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Open addressing hash table with the statements of a single partition.
+ * The table holds only hashes and offsets of the records, the records
+ * are read from the memory mapped partition file to verify matches,
+ * so hash collisions are resolved. Equal records are stored only once.
+ */
+class PartitionIndex {
+
+    @FunctionalInterface
+    interface RecordConsumer {
+
+        void accept(long hash, ByteBuffer record) throws LpException;
+
+    }
+
+    private static final int EMPTY = -1;
+
+    private final MappedByteBuffer records;
+
+    private final long[] hashes;
+
+    private final int[] offsets;
+
+    private final int mask;
+
+    private final BitSet matched;
+
+    public PartitionIndex(File file, long count)
+            throws IOException, LpException {
+        if (file.length() > Integer.MAX_VALUE) {
+            throw new LpException(
+                    "Partition is too large: {}", file.length());
+        }
+        try (FileChannel channel = FileChannel.open(
+                file.toPath(), StandardOpenOption.READ)) {
+            records = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        // Keep the load factor at most 0.5.
+        int capacity = 16;
+        while (capacity < count * 2) {
+            capacity <<= 1;
+        }
+        hashes = new long[capacity];
+        offsets = new int[capacity];
+        Arrays.fill(offsets, EMPTY);
+        mask = capacity - 1;
+        matched = new BitSet(capacity);
+        int offset = 0;
+        while (offset < records.limit()) {
+            insert(records.getLong(offset), offset);
+            offset += PartitionWriter.HEADER_SIZE
+                    + records.getInt(offset + Long.BYTES);
+        }
+    }
+
+    private void insert(long hash, int offset) {
+        int slot = (int) hash & mask;
+        while (offsets[slot] != EMPTY) {
+            if (hashes[slot] == hash
+                    && isEqual(offsets[slot], getRecord(offset))) {
+                // Duplicate record.
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        hashes[slot] = hash;
+        offsets[slot] = offset;
+    }
+
+    /**
+     * Mark record equal to the given one as matched.
+     *
+     * @return False if there is no such record.
+     */
+    public boolean match(long hash, ByteBuffer record) {
+        int slot = (int) hash & mask;
+        while (offsets[slot] != EMPTY) {
+            if (hashes[slot] == hash && isEqual(offsets[slot], record)) {
+                matched.set(slot);
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    private boolean isEqual(int offset, ByteBuffer record) {
+        return getRecord(offset).equals(record);
+    }
+
+    private ByteBuffer getRecord(int offset) {
+        return records.slice(
+                offset + PartitionWriter.HEADER_SIZE,
+                records.getInt(offset + Long.BYTES));
+    }
+
+    /**
+     * Pass all records to the consumer, each distinct record only once.
+     */
+    public void forEach(RecordConsumer consumer) throws LpException {
+        for (int slot = 0; slot < offsets.length; ++slot) {
+            if (offsets[slot] != EMPTY) {
+                consumer.accept(hashes[slot], getRecord(offsets[slot]));
+            }
+        }
+    }
+
+    /**
+     * Pass all records that were not matched to the consumer.
+     */
+    public void forEachUnmatched(StatementConsumer consumer)
+            throws LpException {
+        for (int slot = 0; slot < offsets.length; ++slot) {
+            if (offsets[slot] == EMPTY || matched.get(slot)) {
+                continue;
+            }
+            consumer.accept(StatementEncoder.decode(getRecord(offsets[slot])));
+        }
+    }
+
+}
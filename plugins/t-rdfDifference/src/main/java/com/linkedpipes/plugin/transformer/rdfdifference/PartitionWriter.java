@@ -0,0 +1,87 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+import org.eclipse.rdf4j.model.Statement;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Split statements into partition files by their hash. Each record
+ * consists of the hash, the length of the encoded statement and
+ * the encoded statement.
+ */
+class PartitionWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 32 * 1024;
+
+    /**
+     * Size of a record without the encoded statement.
+     */
+    public static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final StatementEncoder encoder = new StatementEncoder();
+
+    private final File[] files;
+
+    private final DataOutputStream[] streams;
+
+    private final long[] counts;
+
+    public PartitionWriter(File directory, String name, int partitions)
+            throws IOException {
+        directory.mkdirs();
+        this.files = new File[partitions];
+        this.streams = new DataOutputStream[partitions];
+        this.counts = new long[partitions];
+        for (int index = 0; index < partitions; ++index) {
+            files[index] = new File(directory, name + "-" + index);
+            streams[index] = new DataOutputStream(new BufferedOutputStream(
+                    new FileOutputStream(files[index]), BUFFER_SIZE));
+        }
+    }
+
+    public void write(Statement statement) throws IOException {
+        encoder.encode(statement);
+        long hash = encoder.hash();
+        int partition = partition(hash, files.length);
+        DataOutputStream stream = streams[partition];
+        stream.writeLong(hash);
+        stream.writeInt(encoder.getLength());
+        stream.write(encoder.getBuffer(), 0, encoder.getLength());
+        ++counts[partition];
+    }
+
+    /**
+     * Use the upper bits, the lower bits are used by {@link PartitionIndex}.
+     */
+    public static int partition(long hash, int partitions) {
+        return (int) ((hash >>> 32) % partitions);
+    }
+
+    public File getFile(int partition) {
+        return files[partition];
+    }
+
+    public long getCount(int partition) {
+        return counts[partition];
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException exception = null;
+        for (DataOutputStream stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException ex) {
+                exception = ex;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+}
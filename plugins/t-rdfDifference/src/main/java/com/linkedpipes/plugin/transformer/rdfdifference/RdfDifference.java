@@ -5,17 +5,30 @@ import com.linkedpipes.etl.dataunit.core.rdf.WritableSingleGraphDataUnit;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
+import com.linkedpipes.etl.executor.api.v1.service.WorkingDirectory;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.repository.RepositoryResult;
 
 import java.util.*;
 
+/**
+ * Output statements from data that are not in to remove, and statements
+ * from to remove that are not in data. By default, statements to remove
+ * are indexed on the heap, with disk index the memory usage is limited
+ * to a single partition, see {@link DiskDifference}.
+ */
 public final class RdfDifference implements Component, SequentialExecution {
 
-    private static final int BUFFER_SIZE = 10000;
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    @Component.ContainsConfiguration
+    @Component.InputPort(iri = "Configuration")
+    public SingleGraphDataUnit configurationRdf;
 
     @Component.InputPort(iri = "DataRdf")
     public SingleGraphDataUnit dataRdf;
@@ -23,32 +36,82 @@ public final class RdfDifference implements Component, SequentialExecution {
     @Component.InputPort(iri = "ToRemoveRdf")
     public SingleGraphDataUnit toRemoveRdf;
 
-    @Component.InputPort(iri = "OutputRdf")
+    @Component.OutputPort(iri = "OutputRdf")
     public WritableSingleGraphDataUnit outputRdf;
 
-    private List<Statement> buffer = new ArrayList<>(BUFFER_SIZE + 1);
+    @Component.OutputPort(iri = "RemovedRdf")
+    public WritableSingleGraphDataUnit removedRdf;
+
+    @Component.Configuration
+    public RdfDifferenceConfiguration configuration;
+
+    @Component.Inject
+    public WorkingDirectory workingDirectory;
 
     private Map<Resource, Map<IRI, Set<Value>>> toRemoveIndex;
 
     @Override
     public void execute() throws LpException {
-        buildToRemoveIndex();
-        dataRdf.execute((connection) -> {
-            RepositoryResult<Statement> result = connection.getStatements(
-                    null, null, null, dataRdf.getReadGraph());
-            addDifference(result);
+        GraphWriter added = new GraphWriter(outputRdf);
+        GraphWriter removed = new GraphWriter(removedRdf);
+        if (configuration.isDiskIndex()) {
+            executeWithDiskIndex(added, removed);
+        } else {
+            executeWithMemoryIndex(added, removed);
+        }
+        added.flush();
+        removed.flush();
+    }
+
+    private void executeWithDiskIndex(
+            StatementConsumer added, StatementConsumer removed)
+            throws LpException {
+        try (DiskDifference difference =
+                     new DiskDifference(workingDirectory)) {
+            forEach(toRemoveRdf, difference::addToRemove);
+            forEach(dataRdf, difference::addData);
+            difference.execute(added, removed);
+        }
+    }
+
+    private void forEach(
+            SingleGraphDataUnit dataUnit, StatementConsumer consumer)
+            throws LpException {
+        dataUnit.execute((connection) -> {
+            try (RepositoryResult<Statement> result =
+                         connection.getStatements(
+                                 null, null, null, dataUnit.getReadGraph())) {
+                while (result.hasNext()) {
+                    consumer.accept(result.next());
+                }
+            }
         });
     }
 
-    private void buildToRemoveIndex() throws LpException {
+    /**
+     * Statements found in data are removed from the index, so what
+     * remains in the index at the end are the removed statements.
+     */
+    private void executeWithMemoryIndex(
+            StatementConsumer added, StatementConsumer removed)
+            throws LpException {
         toRemoveIndex = new HashMap<>();
-        toRemoveRdf.execute((connection) -> {
-            RepositoryResult<Statement> result = connection.getStatements(
-                    null, null, null, toRemoveRdf.getReadGraph());
-            while (result.hasNext()) {
-                addToRemoveIndex(result.next());
+        forEach(toRemoveRdf, this::addToRemoveIndex);
+        forEach(dataRdf, (statement) -> {
+            if (!removeFromIndex(statement)) {
+                added.accept(statement);
             }
         });
+        for (var subjectEntry : toRemoveIndex.entrySet()) {
+            for (var predicateEntry : subjectEntry.getValue().entrySet()) {
+                for (Value object : predicateEntry.getValue()) {
+                    removed.accept(VF.createStatement(
+                            subjectEntry.getKey(), predicateEntry.getKey(),
+                            object));
+                }
+            }
+        }
+        toRemoveIndex = null;
     }
 
     private void addToRemoveIndex(Statement statement) {
@@ -66,22 +129,10 @@ public final class RdfDifference implements Component, SequentialExecution {
         predicateMap.add(statement.getObject());
     }
 
-    private void addDifference(RepositoryResult<Statement> result)
-            throws LpException {
-        while (result.hasNext()) {
-            Statement statement = result.next();
-            if (shouldRemoveStatement(statement)) {
-                continue;
-            }
-            buffer.add(statement);
-            if (buffer.size() >= BUFFER_SIZE) {
-                flushBuffer();
-            }
-        }
-        flushBuffer();
-    }
-
-    private boolean shouldRemoveStatement(Statement statement) {
+    /**
+     * Return true if the statement was in the index.
+     */
+    private boolean removeFromIndex(Statement statement) {
         Map<IRI, Set<Value>> subjectMap = toRemoveIndex.get(
                 statement.getSubject());
         if (subjectMap == null) {
@@ -91,14 +142,7 @@ public final class RdfDifference implements Component, SequentialExecution {
         if (predicateMap == null) {
             return false;
         }
-        return predicateMap.contains(statement.getObject());
-    }
-
-    private void flushBuffer() throws LpException {
-        outputRdf.execute((connection) -> {
-            connection.add(buffer, outputRdf.getWriteGraph());
-            buffer.clear();
-        });
+        return predicateMap.remove(statement.getObject());
     }
 
 }
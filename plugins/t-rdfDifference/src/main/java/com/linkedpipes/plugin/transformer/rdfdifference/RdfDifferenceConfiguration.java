@@ -0,0 +1,26 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+import com.linkedpipes.etl.executor.api.v1.rdf.RdfToPojo;
+
+@RdfToPojo.Type(iri = RdfDifferenceVocabulary.CONFIG)
+public class RdfDifferenceConfiguration {
+
+    /**
+     * If true statements to remove are indexed using hashes stored
+     * on disk instead of the heap.
+     */
+    @RdfToPojo.Property(iri = RdfDifferenceVocabulary.HAS_DISK_INDEX)
+    private boolean diskIndex = false;
+
+    public RdfDifferenceConfiguration() {
+    }
+
+    public boolean isDiskIndex() {
+        return diskIndex;
+    }
+
+    public void setDiskIndex(boolean diskIndex) {
+        this.diskIndex = diskIndex;
+    }
+
+}
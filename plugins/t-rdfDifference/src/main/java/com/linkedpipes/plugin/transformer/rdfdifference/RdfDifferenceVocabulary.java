@@ -0,0 +1,12 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+public final class RdfDifferenceVocabulary {
+
+    private static final String PREFIX =
+            "http://plugins.linkedpipes.com/ontology/t-rdfDifference#";
+
+    public static final String CONFIG = PREFIX + "Configuration";
+
+    public static final String HAS_DISK_INDEX = PREFIX + "diskIndex";
+
+}
@@ -0,0 +1,11 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import org.eclipse.rdf4j.model.Statement;
+
+@FunctionalInterface
+public interface StatementConsumer {
+
+    void accept(Statement statement) throws LpException;
+
+}
@@ -0,0 +1,153 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Encode triple, i.e. statement without context, into bytes. Two
+ * triples are equal if and only if their encodings are equal, so
+ * the encoding can be hashed and compared instead of the statements.
+ *
+ * <p>Instances reuse a single buffer and are not thread safe.
+ */
+class StatementEncoder {
+
+    private static final byte TAG_IRI = 0;
+
+    private static final byte TAG_BNODE = 1;
+
+    private static final byte TAG_TYPED_LITERAL = 2;
+
+    private static final byte TAG_LANGUAGE_LITERAL = 3;
+
+    private static final long PRIME = 0x9E3779B97F4A7C15L;
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private byte[] buffer = new byte[1024];
+
+    private int length = 0;
+
+    /**
+     * Encode given statement, the result is available using
+     * {@link #getBuffer()} and {@link #getLength()} till the next call.
+     */
+    public void encode(Statement statement) {
+        length = 0;
+        writeValue(statement.getSubject());
+        writeValue(statement.getPredicate());
+        writeValue(statement.getObject());
+    }
+
+    private void writeValue(Value value) {
+        if (value instanceof IRI) {
+            writeByte(TAG_IRI);
+            writeString(value.stringValue());
+        } else if (value instanceof BNode) {
+            writeByte(TAG_BNODE);
+            writeString(((BNode) value).getID());
+        } else {
+            Literal literal = (Literal) value;
+            if (literal.getLanguage().isPresent()) {
+                writeByte(TAG_LANGUAGE_LITERAL);
+                writeString(literal.getLabel());
+                writeString(literal.getLanguage().get());
+            } else {
+                writeByte(TAG_TYPED_LITERAL);
+                writeString(literal.getLabel());
+                writeString(literal.getDatatype().stringValue());
+            }
+        }
+    }
+
+    private void writeByte(byte value) {
+        ensureCapacity(1);
+        buffer[length++] = value;
+    }
+
+    private void writeString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(4 + bytes.length);
+        buffer[length++] = (byte) (bytes.length >>> 24);
+        buffer[length++] = (byte) (bytes.length >>> 16);
+        buffer[length++] = (byte) (bytes.length >>> 8);
+        buffer[length++] = (byte) bytes.length;
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void ensureCapacity(int size) {
+        if (length + size > buffer.length) {
+            buffer = Arrays.copyOf(
+                    buffer, Math.max(buffer.length * 2, length + size));
+        }
+    }
+
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Return 64-bit hash of the current encoding.
+     */
+    public long hash() {
+        long result = PRIME ^ length;
+        for (int index = 0; index < length; ++index) {
+            result = (result ^ (buffer[index] & 0xFF)) * 0x100000001B3L;
+        }
+        // Final mixing from MurmurHash3, so all bits depend on the input.
+        result ^= result >>> 33;
+        result *= 0xFF51AFD7ED558CCDL;
+        result ^= result >>> 33;
+        result *= 0xC4CEB9FE1A85EC53L;
+        result ^= result >>> 33;
+        return result;
+    }
+
+    public static Statement decode(ByteBuffer input) {
+        Resource subject = (Resource) readValue(input);
+        IRI predicate = (IRI) readValue(input);
+        Value object = readValue(input);
+        return VF.createStatement(subject, predicate, object);
+    }
+
+    private static Value readValue(ByteBuffer input) {
+        byte tag = input.get();
+        switch (tag) {
+            case TAG_IRI:
+                return VF.createIRI(readString(input));
+            case TAG_BNODE:
+                return VF.createBNode(readString(input));
+            case TAG_LANGUAGE_LITERAL:
+                String label = readString(input);
+                return VF.createLiteral(label, readString(input));
+            case TAG_TYPED_LITERAL:
+                String value = readString(input);
+                return VF.createLiteral(
+                        value, VF.createIRI(readString(input)));
+            default:
+                throw new IllegalStateException("Invalid tag: " + tag);
+        }
+    }
+
+    private static String readString(ByteBuffer input) {
+        byte[] bytes = new byte[input.getInt()];
+        input.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
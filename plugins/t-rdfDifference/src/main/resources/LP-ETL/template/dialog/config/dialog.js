@@ -0,0 +1,35 @@
+define([], function () {
+    "use strict";
+
+    const DESC = {
+        "$namespace": "http://plugins.linkedpipes.com/ontology/t-rdfDifference#",
+        "$type": "Configuration",
+        "$options": {
+            "$predicate": "auto",
+            "$control": "auto"
+        },
+        "diskIndex": {
+            "$type": "bool",
+            "$label": "Use disk index"
+        }
+    };
+
+    function controller($scope, $service) {
+
+        if ($scope.dialog === undefined) {
+            $scope.dialog = {};
+        }
+
+        const dialogManager = $service.v1.manager(DESC, $scope.dialog);
+
+        $service.onStore = function () {
+            dialogManager.save();
+        };
+
+        dialogManager.load();
+
+    }
+
+    controller.$inject = ['$scope', '$service'];
+    return controller;
+});
@@ -0,0 +1,49 @@
+package com.linkedpipes.plugin.transformer.rdfdifference;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+public class DiskDifferenceTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    @TempDir
+    File directory;
+
+    @Test
+    public void duplicatesAcrossChunks() throws Exception {
+        Statement shared = create("shared");
+        Statement removed = create("removed");
+        Statement added = create("added");
+        List<Statement> actualAdded = new ArrayList<>();
+        List<Statement> actualRemoved = new ArrayList<>();
+        try (DiskDifference difference = new DiskDifference(directory)) {
+            // Every statement is in two chunks of the input.
+            for (int chunk = 0; chunk < 2; ++chunk) {
+                difference.addToRemove(shared);
+                difference.addToRemove(removed);
+                difference.addData(shared);
+                difference.addData(added);
+            }
+            difference.execute(actualAdded::add, actualRemoved::add);
+        }
+        Assertions.assertEquals(List.of(added), actualAdded);
+        Assertions.assertEquals(List.of(removed), actualRemoved);
+    }
+
+    private Statement create(String value) {
+        return VF.createStatement(
+                VF.createIRI("http://localhost/resource"),
+                VF.createIRI("http://localhost/value"),
+                VF.createLiteral(value));
+    }
+
+}
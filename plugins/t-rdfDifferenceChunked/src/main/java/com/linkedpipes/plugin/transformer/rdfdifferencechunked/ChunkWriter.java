@@ -0,0 +1,42 @@
+package com.linkedpipes.plugin.transformer.rdfdifferencechunked;
+
+import com.linkedpipes.etl.dataunit.core.rdf.WritableChunkedTriples;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import com.linkedpipes.plugin.transformer.rdfdifference.StatementConsumer;
+import org.eclipse.rdf4j.model.Statement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collect statements and submit them as chunks of given size.
+ */
+class ChunkWriter implements StatementConsumer {
+
+    private static final int CHUNK_SIZE = 100000;
+
+    private final WritableChunkedTriples dataUnit;
+
+    private final List<Statement> buffer = new ArrayList<>(CHUNK_SIZE);
+
+    public ChunkWriter(WritableChunkedTriples dataUnit) {
+        this.dataUnit = dataUnit;
+    }
+
+    @Override
+    public void accept(Statement statement) throws LpException {
+        buffer.add(statement);
+        if (buffer.size() >= CHUNK_SIZE) {
+            flush();
+        }
+    }
+
+    public void flush() throws LpException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        dataUnit.submit(buffer);
+        buffer.clear();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.linkedpipes.plugin.transformer.rdfdifferencechunked;
+
+import com.linkedpipes.etl.dataunit.core.rdf.ChunkedTriples;
+import com.linkedpipes.etl.dataunit.core.rdf.WritableChunkedTriples;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import com.linkedpipes.etl.executor.api.v1.component.Component;
+import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
+import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
+import com.linkedpipes.etl.executor.api.v1.service.WorkingDirectory;
+import com.linkedpipes.plugin.transformer.rdfdifference.DiskDifference;
+
+/**
+ * Chunked version of t-rdfDifference. Output statements from data that
+ * are not in to remove, and statements from to remove that are not
+ * in data. The chunks are streamed into partitions on disk using
+ * the {@link DiskDifference} from t-rdfDifference, so the memory usage
+ * does not depend on the size of the input.
+ */
+public final class RdfDifferenceChunked
+        implements Component, SequentialExecution {
+
+    @Component.InputPort(iri = "DataRdf")
+    public ChunkedTriples dataRdf;
+
+    @Component.InputPort(iri = "ToRemoveRdf")
+    public ChunkedTriples toRemoveRdf;
+
+    @Component.OutputPort(iri = "OutputRdf")
+    public WritableChunkedTriples outputRdf;
+
+    @Component.OutputPort(iri = "RemovedRdf")
+    public WritableChunkedTriples removedRdf;
+
+    @Component.Configuration
+    public RdfDifferenceChunkedConfiguration configuration;
+
+    @Component.Inject
+    public WorkingDirectory workingDirectory;
+
+    @Component.Inject
+    public ProgressReport progressReport;
+
+    @Override
+    public void execute() throws LpException {
+        ChunkWriter added = new ChunkWriter(outputRdf);
+        ChunkWriter removed = new ChunkWriter(removedRdf);
+        progressReport.start(toRemoveRdf.size() + dataRdf.size());
+        try (DiskDifference difference =
+                     new DiskDifference(workingDirectory)) {
+            for (ChunkedTriples.Chunk chunk : toRemoveRdf) {
+                chunk.forEach(difference::addToRemove);
+                progressReport.entryProcessed();
+            }
+            for (ChunkedTriples.Chunk chunk : dataRdf) {
+                chunk.forEach(difference::addData);
+                progressReport.entryProcessed();
+            }
+            difference.execute(added, removed);
+        }
+        added.flush();
+        removed.flush();
+        progressReport.done();
+    }
+
+}
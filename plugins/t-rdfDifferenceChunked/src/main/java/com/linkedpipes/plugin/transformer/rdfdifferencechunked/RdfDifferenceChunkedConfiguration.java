@@ -0,0 +1,14 @@
+package com.linkedpipes.plugin.transformer.rdfdifferencechunked;
+
+import com.linkedpipes.etl.executor.api.v1.rdf.RdfToPojo;
+
+/**
+ * The component has no options, the disk index is always used.
+ */
+@RdfToPojo.Type(iri = RdfDifferenceChunkedVocabulary.CONFIG)
+public class RdfDifferenceChunkedConfiguration {
+
+    public RdfDifferenceChunkedConfiguration() {
+    }
+
+}
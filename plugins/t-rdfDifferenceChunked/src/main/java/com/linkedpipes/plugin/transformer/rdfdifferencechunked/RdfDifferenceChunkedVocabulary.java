@@ -0,0 +1,10 @@
+package com.linkedpipes.plugin.transformer.rdfdifferencechunked;
+
+public final class RdfDifferenceChunkedVocabulary {
+
+    private static final String PREFIX =
+            "http://plugins.linkedpipes.com/ontology/t-rdfDifferenceChunked#";
+
+    public static final String CONFIG = PREFIX + "Configuration";
+
+}
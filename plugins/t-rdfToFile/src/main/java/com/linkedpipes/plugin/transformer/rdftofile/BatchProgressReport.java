@@ -6,13 +6,21 @@ import org.eclipse.rdf4j.rio.*;
 
 import java.util.Collection;
 
-class PerStatementProgressReport implements RDFWriter {
+/**
+ * Report progress once per {@link #BATCH_SIZE} statements, as reporting
+ * every statement is too expensive for large data.
+ */
+class BatchProgressReport implements RDFWriter {
+
+    public static final int BATCH_SIZE = 100_000;
 
     private final RDFWriter writer;
 
     private final ProgressReport progressReport;
 
-    public PerStatementProgressReport(RDFWriter writer,
+    private int counter = 0;
+
+    public BatchProgressReport(RDFWriter writer,
             ProgressReport progressReport) {
         this.writer = writer;
         this.progressReport = progressReport;
@@ -57,7 +65,10 @@ class PerStatementProgressReport implements RDFWriter {
 
     @Override
     public void handleStatement(Statement stm) throws RDFHandlerException {
-        progressReport.entryProcessed();
+        if (++counter == BATCH_SIZE) {
+            counter = 0;
+            progressReport.entryProcessed();
+        }
         writer.handleStatement(stm);
     }
 
@@ -0,0 +1,66 @@
+package com.linkedpipes.plugin.transformer.rdftofile;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression applied to the output files while they are written.
+ */
+enum OutputCompression {
+
+    NONE(RdfToFileVocabulary.COMPRESSION_NONE, "") {
+        @Override
+        public OutputStream wrap(OutputStream stream) {
+            return stream;
+        }
+    },
+    GZIP(RdfToFileVocabulary.COMPRESSION_GZIP, ".gz") {
+        @Override
+        public OutputStream wrap(OutputStream stream) throws IOException {
+            return new GZIPOutputStream(stream, BUFFER_SIZE);
+        }
+    },
+    ZSTD(RdfToFileVocabulary.COMPRESSION_ZSTD, ".zst") {
+        @Override
+        public OutputStream wrap(OutputStream stream) throws IOException {
+            return new ZstdOutputStream(stream);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String iri;
+
+    private final String extension;
+
+    OutputCompression(String iri, String extension) {
+        this.iri = iri;
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public abstract OutputStream wrap(OutputStream stream) throws IOException;
+
+    /**
+     * Missing value means no compression, for backward compatibility.
+     */
+    public static OutputCompression fromIri(String iri) throws LpException {
+        if (iri == null || iri.isBlank()) {
+            return NONE;
+        }
+        for (OutputCompression compression : values()) {
+            if (compression.iri.equals(iri)) {
+                return compression;
+            }
+        }
+        throw new LpException("Unsupported compression: {}", iri);
+    }
+
+}
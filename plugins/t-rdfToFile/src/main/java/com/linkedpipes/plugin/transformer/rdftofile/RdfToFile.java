@@ -14,17 +14,23 @@ import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFWriter;
 import org.eclipse.rdf4j.rio.Rio;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 public final class RdfToFile implements Component, SequentialExecution {
 
     private static final String FILE_ENCODE = "UTF-8";
 
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
     @Component.ContainsConfiguration
     @Component.InputPort(iri = "Configuration")
     public SingleGraphDataUnit configurationRdf;
@@ -43,17 +49,66 @@ public final class RdfToFile implements Component, SequentialExecution {
 
     private RDFFormat outputFormat;
 
+    private OutputCompression compression;
+
     private File outputFile;
 
     @Override
     public void execute() throws LpException {
         prepareOutputFormat();
+        compression = OutputCompression.fromIri(
+                configuration.getCompression());
+        if (configuration.getShards() > 1) {
+            exportShards();
+            return;
+        }
         prepareOutputFile();
         inputRdf.execute((connection) -> {
             export(connection);
         });
     }
 
+    private void exportShards() throws LpException {
+        if (!ShardedExport.isSupported(outputFormat)) {
+            throw new LpException(
+                    "Only N-Triples and N-Quads can be split into shards.");
+        }
+        if (configuration.getShards() > ShardedExport.MAX_SHARDS) {
+            throw new LpException(
+                    "Number of shards must not exceed {}.",
+                    ShardedExport.MAX_SHARDS);
+        }
+        List<File> files = new ArrayList<>();
+        for (int index = 0; index < configuration.getShards(); ++index) {
+            files.add(outputFiles.createFile(getShardFileName(index)));
+        }
+        ShardedExport export = new ShardedExport(
+                outputFormat, getOutputGraph(), compression, progressReport);
+        inputRdf.execute((connection) -> {
+            reportStart(connection);
+            export.export(connection, inputRdf.getReadGraph(), files);
+            reportEnd();
+        });
+    }
+
+    /**
+     * For "data.nt" and three shards return "data-1.nt" to "data-3.nt".
+     */
+    private String getShardFileName(int index) {
+        String fileName = configuration.getFileName();
+        int nameStart = fileName.lastIndexOf('/') + 1;
+        int extensionStart = fileName.indexOf('.', nameStart);
+        if (extensionStart == -1) {
+            extensionStart = fileName.length();
+        }
+        String digits = Integer.toString(
+                Integer.toString(configuration.getShards()).length());
+        return fileName.substring(0, extensionStart)
+                + String.format("-%0" + digits + "d", index + 1)
+                + fileName.substring(extensionStart)
+                + compression.getExtension();
+    }
+
     private void prepareOutputFormat() throws LpException {
         Optional<RDFFormat> rdfFormat = Rio.getParserFormatForMIMEType(
                 configuration.getFileType());
@@ -65,12 +120,15 @@ public final class RdfToFile implements Component, SequentialExecution {
     }
 
     private void prepareOutputFile() throws LpException {
-        outputFile = outputFiles.createFile(configuration.getFileName());
+        outputFile = outputFiles.createFile(
+                configuration.getFileName() + compression.getExtension());
     }
 
     private void export(RepositoryConnection connection) throws LpException {
         reportStart(connection);
-        try (FileOutputStream outStream = new FileOutputStream(outputFile);
+        try (OutputStream outStream = compression.wrap(
+                new BufferedOutputStream(
+                        new FileOutputStream(outputFile), BUFFER_SIZE));
              OutputStreamWriter outWriter = new OutputStreamWriter(
                      outStream, Charset.forName(FILE_ENCODE))) {
             RDFHandler writer = createWriter(outWriter);
@@ -93,12 +151,17 @@ public final class RdfToFile implements Component, SequentialExecution {
             writer = new ChangeContext(writer, getOutputGraph());
         }
 
-        writer = new PerStatementProgressReport(writer, progressReport);
+        writer = new BatchProgressReport(writer, progressReport);
         return writer;
     }
 
     private void reportStart(RepositoryConnection connection) {
-        progressReport.start((int) connection.size(inputRdf.getReadGraph()));
+        long size = configuration.getStatementCount();
+        if (size <= 0) {
+            size = connection.size(inputRdf.getReadGraph());
+        }
+        int batch = BatchProgressReport.BATCH_SIZE;
+        progressReport.start((size + batch - 1) / batch);
     }
 
     private void reportEnd() {
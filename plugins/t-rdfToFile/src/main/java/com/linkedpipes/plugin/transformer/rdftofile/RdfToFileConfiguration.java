@@ -14,6 +14,23 @@ public class RdfToFileConfiguration {
     @RdfToPojo.Property(iri = RdfToFileVocabulary.HAS_GRAPH_URI)
     private String graphUri;
 
+    /**
+     * With more than one shard the output is split into given number
+     * of files written in parallel, at most 64.
+     */
+    @RdfToPojo.Property(iri = RdfToFileVocabulary.HAS_SHARDS)
+    private int shards = 1;
+
+    @RdfToPojo.Property(iri = RdfToFileVocabulary.HAS_COMPRESSION)
+    private String compression = RdfToFileVocabulary.COMPRESSION_NONE;
+
+    /**
+     * Number of statements used for progress report, with zero the
+     * statements are counted before the export.
+     */
+    @RdfToPojo.Property(iri = RdfToFileVocabulary.HAS_STATEMENT_COUNT)
+    private long statementCount = 0;
+
     public RdfToFileConfiguration() {
     }
 
@@ -41,4 +58,28 @@ public class RdfToFileConfiguration {
         this.graphUri = graphUri;
     }
 
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(int shards) {
+        this.shards = shards;
+    }
+
+    public String getCompression() {
+        return compression;
+    }
+
+    public void setCompression(String compression) {
+        this.compression = compression;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public void setStatementCount(long statementCount) {
+        this.statementCount = statementCount;
+    }
+
 }
@@ -13,6 +13,18 @@ public final class RdfToFileVocabulary {
 
     public static final String HAS_GRAPH_URI = PREFIX + "graphUri";
 
+    public static final String HAS_SHARDS = PREFIX + "shards";
+
+    public static final String HAS_COMPRESSION = PREFIX + "compression";
+
+    public static final String HAS_STATEMENT_COUNT = PREFIX + "statementCount";
+
+    public static final String COMPRESSION_NONE = PREFIX + "none";
+
+    public static final String COMPRESSION_GZIP = PREFIX + "gzip";
+
+    public static final String COMPRESSION_ZSTD = PREFIX + "zstd";
+
     private RdfToFileVocabulary() {
     }
 
@@ -0,0 +1,172 @@
+package com.linkedpipes.plugin.transformer.rdftofile;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFWriter;
+import org.eclipse.rdf4j.rio.Rio;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write statements into multiple files in parallel, only line based
+ * formats are supported. Statements are read by the calling thread and
+ * passed in batches to the shard writers in round-robin order. Each
+ * shard writer formats and compresses its own file.
+ *
+ * <p>Every shard writer runs in its own thread, so the number of
+ * files is limited.
+ */
+class ShardedExport {
+
+    /**
+     * A writer blocks its thread while waiting for data, so there must be
+     * a thread for every shard.
+     */
+    public static final int MAX_SHARDS = 64;
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final int QUEUE_SIZE = 4;
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Marks end of the data for a shard writer.
+     */
+    private static final List<Statement> END = new ArrayList<>(0);
+
+    private final RDFFormat format;
+
+    private final IRI outputGraph;
+
+    private final OutputCompression compression;
+
+    private final ProgressReport progressReport;
+
+    public ShardedExport(
+            RDFFormat format, IRI outputGraph,
+            OutputCompression compression, ProgressReport progressReport) {
+        this.format = format;
+        this.outputGraph = outputGraph;
+        this.compression = compression;
+        this.progressReport = progressReport;
+    }
+
+    public static boolean isSupported(RDFFormat format) {
+        return format == RDFFormat.NTRIPLES || format == RDFFormat.NQUADS;
+    }
+
+    public void export(
+            RepositoryConnection connection, IRI graph, List<File> files)
+            throws LpException {
+        ExecutorService executor = Executors.newFixedThreadPool(files.size());
+        List<BlockingQueue<List<Statement>>> queues = new ArrayList<>();
+        List<Future<?>> writers = new ArrayList<>();
+        try {
+            for (File file : files) {
+                BlockingQueue<List<Statement>> queue =
+                        new ArrayBlockingQueue<>(QUEUE_SIZE);
+                queues.add(queue);
+                writers.add(executor.submit(() -> {
+                    writeShard(file, queue);
+                    return null;
+                }));
+            }
+            int next = 0;
+            List<Statement> batch = new ArrayList<>(BATCH_SIZE);
+            try (RepositoryResult<Statement> statements =
+                         connection.getStatements(null, null, null, graph)) {
+                for (Statement statement : statements) {
+                    batch.add(statement);
+                    if (batch.size() < BATCH_SIZE) {
+                        continue;
+                    }
+                    put(queues.get(next), writers.get(next), batch);
+                    next = (next + 1) % files.size();
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                put(queues.get(next), writers.get(next), batch);
+            }
+            for (int index = 0; index < files.size(); ++index) {
+                put(queues.get(index), writers.get(index), END);
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while writing data.", ex);
+        } catch (ExecutionException ex) {
+            throw new LpException("Can't write data.", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Wait for space in the queue, fail if the writer fails
+     * in the meantime.
+     */
+    private void put(
+            BlockingQueue<List<Statement>> queue, Future<?> writer,
+            List<Statement> batch)
+            throws InterruptedException, ExecutionException {
+        while (!queue.offer(batch, 1, TimeUnit.SECONDS)) {
+            if (writer.isDone()) {
+                writer.get();
+                throw new ExecutionException(
+                        "Writer terminated before the end of data.", null);
+            }
+        }
+    }
+
+    private void writeShard(File file, BlockingQueue<List<Statement>> queue)
+            throws IOException, InterruptedException {
+        // Open the file on its own, so it is closed when wrap fails.
+        try (OutputStream fileStream = new BufferedOutputStream(
+                new FileOutputStream(file), BUFFER_SIZE);
+             Writer streamWriter = new OutputStreamWriter(
+                     compression.wrap(fileStream), StandardCharsets.UTF_8)) {
+            RDFWriter writer = Rio.createWriter(format, streamWriter);
+            if (format.supportsContexts()) {
+                writer = new ChangeContext(writer, outputGraph);
+            }
+            writer = new BatchProgressReport(writer, progressReport);
+            writer.startRDF();
+            while (true) {
+                List<Statement> batch = queue.take();
+                if (batch == END) {
+                    break;
+                }
+                for (Statement statement : batch) {
+                    writer.handleStatement(statement);
+                }
+            }
+            writer.endRDF();
+        }
+    }
+
+}
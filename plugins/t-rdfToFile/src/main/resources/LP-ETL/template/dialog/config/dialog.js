@@ -19,6 +19,18 @@ define([], function () {
         "graphUri": {
             "$type": "iri",
             "$label": "URI of output graph"
+        },
+        "compression": {
+            "$type": "str",
+            "$label": "Compression"
+        },
+        "shards": {
+            "$type": "int",
+            "$label": "Number of output files"
+        },
+        "statementCount": {
+            "$type": "int",
+            "$label": "Expected number of statements"
         }
     };
 
@@ -8,7 +8,6 @@ import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
 import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
 import org.eclipse.rdf4j.model.IRI;
-import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.rio.*;
 import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
@@ -80,9 +79,7 @@ public final class RdfToFileChunked implements Component, SequentialExecution {
 
     private void exportChunks(RDFWriter writer) throws LpException {
         for (ChunkedTriples.Chunk chunk : inputRdf) {
-            for (Statement statement : chunk.toCollection()) {
-                writer.handleStatement(statement);
-            }
+            chunk.forEach(writer::handleStatement);
             progressReport.entryProcessed();
         }
     }
@@ -1,39 +1,36 @@
 package com.linkedpipes.plugin.transformer.rdfToHdt;
 
 import com.linkedpipes.etl.dataunit.core.rdf.SingleGraphDataUnit;
-import org.eclipse.rdf4j.common.io.IndentingWriter;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryResult;
-import org.eclipse.rdf4j.rio.WriterConfig;
-import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
-import org.eclipse.rdf4j.rio.turtle.TurtleWriter;
-import org.rdfhdt.hdt.exceptions.ParserException;
 import org.rdfhdt.hdt.triples.TripleString;
 
-import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
 import java.util.Iterator;
+import java.util.Locale;
 
-public class HdtTripleIterator extends TurtleWriter implements Iterator<TripleString>, AutoCloseable {
+/**
+ * Convert statements to HDT triples. Terms are converted directly to the
+ * representation used by HDT, which is the N-Triples representation
+ * without escaping and with no angle brackets around IRIs in subject,
+ * predicate and object position. Language tags are lower case, the same
+ * as in the two pass conversion done by HDT.
+ */
+public class HdtTripleIterator
+        implements Iterator<TripleString>, AutoCloseable {
 
-    private RepositoryConnection connection;
+    private final RepositoryConnection connection;
 
-    private RepositoryResult<Statement> repositoryResult;
+    private final RepositoryResult<Statement> repositoryResult;
 
-    private StringWriter writer = new StringWriter();
+    private final StringBuilder builder = new StringBuilder();
 
     public HdtTripleIterator(SingleGraphDataUnit inputRdf) {
-        super((Writer) null);
-        // Initialize internal writer, we need to call
-        // startRDF else conversion fail.
-        WriterConfig config = new WriterConfig();
-        config.set(BasicWriterSettings.PRETTY_PRINT, false);
-        super.setWriterConfig(config);
-        super.startRDF();
-        //
-        super.writer = new IndentingWriter(writer);
         this.connection = inputRdf.getRepository().getConnection();
         this.repositoryResult = connection.getStatements(
                 null, null, null, inputRdf.getReadGraph());
@@ -50,35 +47,36 @@ public class HdtTripleIterator extends TurtleWriter implements Iterator<TripleSt
         if (st == null) {
             return null;
         }
-        TripleString result = new TripleString();
-        try {
-            writer.getBuffer().setLength(0);
-            writeResource(st.getSubject(), false);
-            writer.getBuffer().append(" ");
-            writeValue(st.getPredicate(), false);
-            writer.getBuffer().append(" ");
-            writeValue(st.getObject(), false);
-            //
-            String line = extractBufferContent();
-            result.read(line);
-        } catch (IOException | ParserException ex) {
-            throw new RuntimeException(
-                    "Can't convert a statement. {}" + st.toString(),
-                    ex);
-        }
-        return result;
+        return new TripleString(
+                asHdtString(st.getSubject()),
+                st.getPredicate().stringValue(),
+                asHdtString(st.getObject()));
     }
 
-    private String extractBufferContent() {
-        String str = writer.toString();
-        writer.getBuffer().setLength(0);
-        return str;
+    private String asHdtString(Value value) {
+        if (value instanceof IRI) {
+            return value.stringValue();
+        } else if (value instanceof BNode) {
+            return "_:" + ((BNode) value).getID();
+        }
+        Literal literal = (Literal) value;
+        builder.setLength(0);
+        builder.append('"').append(literal.getLabel()).append('"');
+        if (literal.getLanguage().isPresent()) {
+            builder.append('@').append(
+                    literal.getLanguage().get().toLowerCase(Locale.ROOT));
+        } else if (!XSD.STRING.equals(literal.getDatatype())) {
+            builder.append("^^<")
+                    .append(literal.getDatatype().stringValue())
+                    .append('>');
+        }
+        return builder.toString();
     }
 
     @Override
     public void close() {
-        if (connection != null) {
-            connection.close();
-        }
+        repositoryResult.close();
+        connection.close();
     }
+
 }
@@ -5,13 +5,23 @@ import com.linkedpipes.etl.dataunit.core.rdf.SingleGraphDataUnit;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
+import com.linkedpipes.etl.executor.api.v1.service.WorkingDirectory;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.RepositoryResult;
+import org.eclipse.rdf4j.rio.helpers.NTriplesUtil;
+import org.rdfhdt.hdt.enums.RDFNotation;
 import org.rdfhdt.hdt.exceptions.ParserException;
 import org.rdfhdt.hdt.hdt.HDT;
 import org.rdfhdt.hdt.hdt.HDTManager;
 import org.rdfhdt.hdt.options.HDTSpecification;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 public final class RdfToHdt implements Component, SequentialExecution {
 
@@ -28,11 +38,23 @@ public final class RdfToHdt implements Component, SequentialExecution {
     @Component.Configuration
     public RdfToHdtConfiguration configuration;
 
+    @Component.Inject
+    public WorkingDirectory workingDirectory;
+
     @Override
     public void execute() throws LpException {
         checkConfiguration();
-        HDT hdt = createHdt();
-        saveHdt(hdt);
+        HDT hdt;
+        if (configuration.isTwoPass()) {
+            hdt = createHdtInTwoPasses();
+        } else {
+            hdt = createHdt();
+        }
+        try {
+            saveHdt(hdt);
+        } finally {
+            closeHdt(hdt);
+        }
     }
 
     private void checkConfiguration() throws LpException {
@@ -60,6 +82,61 @@ public final class RdfToHdt implements Component, SequentialExecution {
         }
     }
 
+    /**
+     * The whole dictionary and triples are still kept in memory, but
+     * the triples are not collected as strings in the temporary
+     * structures, which considerably lowers the memory usage.
+     */
+    private HDT createHdtInTwoPasses() throws LpException {
+        File file = new File(workingDirectory, "input.nt");
+        try {
+            inputRdf.execute((connection) -> {
+                writeNTriples(connection, file);
+            });
+            HDTSpecification specification = new HDTSpecification();
+            specification.set("loader.type", "two-pass");
+            return HDTManager.generateHDT(
+                    file.getPath(),
+                    configuration.getBaseIri(),
+                    RDFNotation.NTRIPLES,
+                    specification,
+                    null);
+        } catch (IOException | ParserException ex) {
+            throw new LpException("Can't convert RDF to HDT.", ex);
+        } finally {
+            file.delete();
+        }
+    }
+
+    private void writeNTriples(RepositoryConnection connection, File file)
+            throws LpException {
+        try (Writer writer = new BufferedWriter(
+                Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8),
+                1024 * 1024);
+             RepositoryResult<Statement> statements = connection.getStatements(
+                     null, null, null, inputRdf.getReadGraph())) {
+            while (statements.hasNext()) {
+                Statement st = statements.next();
+                NTriplesUtil.append(st.getSubject(), writer);
+                writer.write(' ');
+                NTriplesUtil.append(st.getPredicate(), writer);
+                writer.write(' ');
+                NTriplesUtil.append(st.getObject(), writer);
+                writer.write(" .\n");
+            }
+        } catch (IOException ex) {
+            throw new LpException("Can't write temporary file.", ex);
+        }
+    }
+
+    private void closeHdt(HDT hdt) throws LpException {
+        try {
+            hdt.close();
+        } catch (IOException ex) {
+            throw new LpException("Can't close HDT.", ex);
+        }
+    }
+
     private void saveHdt(HDT hdt) throws LpException {
         File outputFile = outputFiles.createFile(configuration.getFileName());
         try {
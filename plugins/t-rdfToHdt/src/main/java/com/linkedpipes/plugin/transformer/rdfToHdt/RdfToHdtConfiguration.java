@@ -11,6 +11,13 @@ public class RdfToHdtConfiguration {
     @RdfToPojo.Property(iri = RdfToHdtVocabulary.HAS_BASE_IRI)
     private String baseIri;
 
+    /**
+     * When true the data are written to a temporary file, which is then
+     * read twice, first to build the dictionary and then the triples.
+     */
+    @RdfToPojo.Property(iri = RdfToHdtVocabulary.HAS_TWO_PASS)
+    private boolean twoPass = false;
+
     public RdfToHdtConfiguration() {
     }
 
@@ -30,4 +37,12 @@ public class RdfToHdtConfiguration {
         this.baseIri = baseIri;
     }
 
+    public boolean isTwoPass() {
+        return twoPass;
+    }
+
+    public void setTwoPass(boolean twoPass) {
+        this.twoPass = twoPass;
+    }
+
 }
@@ -11,6 +11,8 @@ public final class RdfToHdtVocabulary {
 
     public static final String HAS_BASE_IRI = PREFIX + "baseIri";
 
+    public static final String HAS_TWO_PASS = PREFIX + "twoPass";
+
     private RdfToHdtVocabulary() {
     }
 
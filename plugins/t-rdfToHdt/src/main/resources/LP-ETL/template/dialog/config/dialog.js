@@ -15,6 +15,10 @@ define([], function () {
       "baseIri": {
         "$type": "str",
         "$label": "Output base IRI"
+      },
+      "twoPass": {
+        "$type": "bool",
+        "$label": "Build in two passes from a temporary file"
       }
     };
 
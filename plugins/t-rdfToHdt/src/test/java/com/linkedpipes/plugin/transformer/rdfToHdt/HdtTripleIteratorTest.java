@@ -0,0 +1,93 @@
+package com.linkedpipes.plugin.transformer.rdfToHdt;
+
+import com.linkedpipes.etl.test.dataunit.TestSingleGraphDataUnit;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
+import org.eclipse.rdf4j.repository.sail.SailRepository;
+import org.eclipse.rdf4j.sail.memory.MemoryStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.rdfhdt.hdt.triples.TripleString;
+
+public class HdtTripleIteratorTest {
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final IRI GRAPH = VF.createIRI("http://localhost/graph");
+
+    private static final IRI SUBJECT = VF.createIRI("http://localhost/s");
+
+    private static final IRI PREDICATE = VF.createIRI("http://localhost/p");
+
+    private Repository repository;
+
+    @BeforeEach
+    public void before() {
+        repository = new SailRepository(new MemoryStore());
+        repository.init();
+    }
+
+    @AfterEach
+    public void after() {
+        repository.shutDown();
+    }
+
+    @Test
+    public void iri() {
+        TripleString triple = convert(VF.createIRI("http://localhost/o"));
+        Assertions.assertEquals("http://localhost/s",
+                triple.getSubject().toString());
+        Assertions.assertEquals("http://localhost/p",
+                triple.getPredicate().toString());
+        Assertions.assertEquals("http://localhost/o",
+                triple.getObject().toString());
+    }
+
+    @Test
+    public void blankNode() {
+        TripleString triple = convert(VF.createBNode("node"));
+        Assertions.assertEquals("_:node", triple.getObject().toString());
+    }
+
+    @Test
+    public void plainLiteral() {
+        TripleString triple = convert(VF.createLiteral("value"));
+        Assertions.assertEquals("\"value\"", triple.getObject().toString());
+    }
+
+    @Test
+    public void typedLiteral() {
+        TripleString triple = convert(VF.createLiteral("1", XSD.INTEGER));
+        Assertions.assertEquals(
+                "\"1\"^^<http://www.w3.org/2001/XMLSchema#integer>",
+                triple.getObject().toString());
+    }
+
+    @Test
+    public void languageTagIsLowerCase() {
+        TripleString triple = convert(VF.createLiteral("value", "en-GB"));
+        Assertions.assertEquals("\"value\"@en-gb",
+                triple.getObject().toString());
+    }
+
+    private TripleString convert(Value object) {
+        try (RepositoryConnection connection = repository.getConnection()) {
+            connection.add(SUBJECT, PREDICATE, object, GRAPH);
+        }
+        try (HdtTripleIterator iterator = new HdtTripleIterator(
+                new TestSingleGraphDataUnit(GRAPH, repository))) {
+            Assertions.assertTrue(iterator.hasNext());
+            TripleString result = iterator.next();
+            Assertions.assertFalse(iterator.hasNext());
+            return result;
+        }
+    }
+
+}
@@ -7,21 +7,30 @@ import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
 import org.apache.jena.graph.Graph;
-import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.apache.jena.shacl.ShaclValidator;
 import org.apache.jena.shacl.Shapes;
 import org.apache.jena.shacl.ValidationReport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public final class ShaclJena implements Component, SequentialExecution {
 
@@ -44,23 +53,27 @@ public final class ShaclJena implements Component, SequentialExecution {
     public ShaclJenaConfiguration configuration;
 
     /**
-     * We use Model not Graph to preserve data about graphs.
+     * Report is written as it is produced, access must be synchronized
+     * on this object.
      */
-    private Model outputModel;
+    private StreamRDF output;
 
-    private boolean shapeFailed = false;
+    private volatile boolean shapeFailed = false;
 
     @Override
     public void execute() throws LpException {
-        outputModel = ModelFactory.createDefaultModel();
         List<Shapes> shapes = loadShapes();
-        for (FilesDataUnit.Entry fileEntry : dataFiles) {
-            for (Shapes shape : shapes) {
-                validateDataWithShape(fileEntry, shape);
-            }
+        File outputFile = reportFiles.createFile("report.nt");
+        try (OutputStream stream = new BufferedOutputStream(
+                new FileOutputStream(outputFile))) {
+            output = StreamRDFWriter.getWriterStream(stream, Lang.NTRIPLES);
+            output.start();
+            validateFiles(shapes);
+            addShapes(shapes);
+            output.finish();
+        } catch (IOException ex) {
+            throw new LpException("Can't save report to file.", ex);
         }
-        addShapes(shapes);
-        writeModel();
         checkFailState();
     }
 
@@ -74,17 +87,48 @@ public final class ShaclJena implements Component, SequentialExecution {
         return result;
     }
 
-    private void validateDataWithShape(
-            FilesDataUnit.Entry fileEntry, Shapes shape) {
+    private void validateFiles(List<Shapes> shapes) throws LpException {
+        int threads = Math.max(1, configuration.getThreads());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Map<FilesDataUnit.Entry, Future<?>> futures = new LinkedHashMap<>();
+        try {
+            for (FilesDataUnit.Entry fileEntry : dataFiles) {
+                futures.put(fileEntry, executor.submit(
+                        () -> validateFile(fileEntry, shapes)));
+            }
+            for (var entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                } catch (ExecutionException ex) {
+                    throw new LpException("Can't validate file: {}",
+                            entry.getKey().getFileName(), ex.getCause());
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while validating files.", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parse the file once and validate it with all shapes.
+     */
+    private void validateFile(
+            FilesDataUnit.Entry fileEntry, List<Shapes> shapes) {
         Graph content = RDFDataMgr.loadGraph(
                 fileEntry.toFile().getAbsolutePath());
-        ValidationReport report = ShaclValidator.get().validate(shape, content);
-        outputModel.add(report.getModel());
-        if (!report.conforms()) {
-            LOG.info(
-                    "File '{}' does not conform to shape.",
-                    fileEntry.getFileName());
-            this.shapeFailed = true;
+        for (Shapes shape : shapes) {
+            ValidationReport report =
+                    ShaclValidator.get().validate(shape, content);
+            writeGraph(report.getGraph());
+            if (!report.conforms()) {
+                LOG.info(
+                        "File '{}' does not conform to shape.",
+                        fileEntry.getFileName());
+                this.shapeFailed = true;
+            }
         }
     }
 
@@ -93,19 +137,17 @@ public final class ShaclJena implements Component, SequentialExecution {
             return;
         }
         for (Shapes shape : shapes) {
-            var iterator = shape.getGraph().find();
-            while (iterator.hasNext()) {
-                outputModel.getGraph().add(iterator.next());
-            }
+            writeGraph(shape.getGraph());
         }
     }
 
-    private void writeModel() throws LpException {
-        File outputFile = reportFiles.createFile("report.nt");
-        try (var stream = new FileOutputStream(outputFile)) {
-            RDFDataMgr.write(stream, outputModel, Lang.NTRIPLES);
-        } catch (IOException ex) {
-            throw new LpException("Can't save report to file.", ex);
+    private void writeGraph(Graph graph) {
+        synchronized (output) {
+            var iterator = graph.find();
+            while (iterator.hasNext()) {
+                Triple triple = iterator.next();
+                output.triple(triple);
+            }
         }
     }
 
@@ -11,6 +11,9 @@ public class ShaclJenaConfiguration {
     @RdfToPojo.Property(iri = ShaclJenaVocabulary.HAS_OUTPUT_SHAPES)
     private boolean outputShapes = true;
 
+    @RdfToPojo.Property(iri = ShaclJenaVocabulary.HAS_THREADS)
+    private int threads = 1;
+
 
     public ShaclJenaConfiguration() {
     }
@@ -31,4 +34,12 @@ public class ShaclJenaConfiguration {
         this.outputShapes = outputShapes;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
 }
@@ -11,6 +11,8 @@ final class ShaclJenaVocabulary {
 
     public static final String HAS_OUTPUT_SHAPES = PREFIX + "outputShapes";
 
+    public static final String HAS_THREADS = PREFIX + "threads";
+
     private ShaclJenaVocabulary() {
     }
 
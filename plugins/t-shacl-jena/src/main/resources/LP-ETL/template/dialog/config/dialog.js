@@ -15,6 +15,10 @@ define([], function () {
         "failOnError": {
             "$type": "bool",
             "$label": "Fail on a rule violation"
+        },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of threads used to validate files"
         }
     };
 
@@ -17,7 +17,7 @@ class ExecutorManager {
 
     private final ProgressReport progressReport;
 
-    private boolean terminate = false;
+    private volatile boolean terminate = false;
 
     public ExecutorManager(ChunkedTriples inputRdf,
             WritableChunkedTriples outputRdf,
@@ -45,7 +45,11 @@ class ExecutorManager {
         }
     }
 
-    public synchronized void submitResult(Collection<Statement> statements)
+    /**
+     * Called by executors without synchronization, so the output
+     * is written in parallel.
+     */
+    public void submitResult(Collection<Statement> statements)
             throws LpException {
         outputRdf.submit(statements);
         progressReport.entryProcessed();
@@ -3,18 +3,20 @@ package com.linkedpipes.plugin.transformer.sparql.construct;
 import com.linkedpipes.etl.dataunit.core.rdf.ChunkedTriples;
 import com.linkedpipes.etl.executor.api.v1.LpException;
 import org.eclipse.rdf4j.model.Statement;
-import org.eclipse.rdf4j.query.GraphQueryResult;
-import org.eclipse.rdf4j.query.QueryResults;
+import org.eclipse.rdf4j.query.GraphQuery;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
-import org.eclipse.rdf4j.repository.util.Repositories;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
 
 class SparqlConstructExecutor implements Runnable {
 
@@ -29,88 +31,112 @@ class SparqlConstructExecutor implements Runnable {
 
     private boolean failed = false;
 
-    private List<Statement> outputBuffer = new ArrayList<>(128);
-
-    private final boolean deduplicateResults;
+    private final Collection<Statement> outputBuffer;
 
     private final boolean isSoftFail;
 
     private ChunkedTriples.Chunk chunk;
 
+    private Repository repository = null;
+
+    private RepositoryConnection connection = null;
+
+    private GraphQuery graphQuery = null;
+
     public SparqlConstructExecutor(ExecutorManager manager, String query,
             boolean deduplicateResults, boolean isSoftFail) {
         this.manager = manager;
         this.query = query;
-        this.deduplicateResults = deduplicateResults;
         this.isSoftFail = isSoftFail;
+        if (deduplicateResults) {
+            this.outputBuffer = new LinkedHashSet<>();
+        } else {
+            this.outputBuffer = new ArrayList<>(128);
+        }
     }
 
     @Override
     public void run() {
         MDC.setContextMap(contextMap);
         LOG.info("Executor is running ...");
-        while (true) {
-            try {
-                if (!executeTask()) {
-                    break;
-                }
-            } catch (Throwable ex) {
-                LOG.error("Transformation failed for: {}", this.chunk, ex);
-                if (!this.isSoftFail) {
-                    failed = true;
-                    manager.terminate();
+        try {
+            initializeRepository();
+            while (true) {
+                try {
+                    if (!executeTask()) {
+                        break;
+                    }
+                } catch (Throwable ex) {
+                    LOG.error("Transformation failed for: {}", this.chunk, ex);
+                    if (!this.isSoftFail) {
+                        failed = true;
+                        manager.terminate();
+                    }
                 }
             }
+        } catch (Throwable ex) {
+            LOG.error("Can't initialize repository.", ex);
+            failed = true;
+            manager.terminate();
+        } finally {
+            shutDownRepository();
         }
         LOG.info("Executor is running ... done");
     }
 
-    private boolean executeTask() throws LpException {
-        Collection<Statement> statements = getInputData();
-        if (statements == null) {
-            return false;
-        }
-        LOG.info("Executing task (size: {}) ...", statements.size());
-        Repository repository = createRepository();
-        Repositories.consume(repository, (connection) -> {
-            connection.add(statements);
-        });
-        Repositories.consume(repository, (connection) -> {
-            executeQuery(connection);
-        });
-        repository.shutDown();
-        manager.submitResult(outputBuffer);
-        LOG.info("Executing task (size: {}) ... done", outputBuffer.size());
-        return true;
+    /**
+     * The repository and the query are reused for all chunks
+     * processed by this executor.
+     */
+    private void initializeRepository() {
+        repository = new SailRepository(new MemoryStore());
+        repository.init();
+        connection = repository.getConnection();
+        graphQuery = connection.prepareGraphQuery(query);
     }
 
-    private Repository createRepository() {
-        Repository repository = new SailRepository(new MemoryStore());
-        repository.init();
-        return repository;
+    private void shutDownRepository() {
+        if (connection != null) {
+            connection.close();
+        }
+        if (repository != null) {
+            repository.shutDown();
+        }
     }
 
-    private Collection<Statement> getInputData() throws LpException {
+    private boolean executeTask() throws LpException {
         this.chunk = manager.getChunk();
-        if (chunk == null) {
-            return null;
-        } else {
-            return chunk.toCollection();
+        if (this.chunk == null) {
+            return false;
+        }
+        LOG.info("Executing task ...");
+        try {
+            connection.begin();
+            this.chunk.forEach(connection::add);
+            connection.commit();
+            executeQuery();
+        } finally {
+            if (connection.isActive()) {
+                connection.rollback();
+            }
+            connection.clear();
         }
+        manager.submitResult(outputBuffer);
+        LOG.info("Executing task (size: {}) ... done", outputBuffer.size());
+        return true;
     }
 
-    private void executeQuery(RepositoryConnection connection) {
+    private void executeQuery() {
         outputBuffer.clear();
-        GraphQueryResult result =
-                connection.prepareGraphQuery(query).evaluate();
-        if (deduplicateResults) {
-            // Sparql construct does not return distinct results by default:
-            // https://github.com/eclipse/rdf4j/issues/857
-            result = QueryResults.distinctResults(result);
-        }
-        while (result.hasNext()) {
-            outputBuffer.add(result.next());
-        }
+        // Sparql construct does not return distinct results by default:
+        // https://github.com/eclipse/rdf4j/issues/857
+        // the output buffer is a set when deduplication is required.
+        graphQuery.evaluate(new AbstractRDFHandler() {
+            @Override
+            public void handleStatement(Statement statement) {
+                outputBuffer.add(statement);
+            }
+        });
     }
 
     public boolean isFailed() {
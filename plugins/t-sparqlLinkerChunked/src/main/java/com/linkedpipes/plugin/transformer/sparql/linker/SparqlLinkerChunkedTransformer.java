@@ -5,15 +5,21 @@ import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.chunk.ChunkExecution;
 import com.linkedpipes.etl.executor.api.v1.component.chunk.ChunkTransformer;
 import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.query.GraphQuery;
 import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
-import org.eclipse.rdf4j.repository.util.Repositories;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * The repository and the query are created once and reused for all
+ * chunks, the repository is cleared after each chunk.
+ */
 public class SparqlLinkerChunkedTransformer
         extends ChunkTransformer<ChunkedTriples.Chunk, Collection<Statement>> {
 
@@ -25,6 +31,12 @@ public class SparqlLinkerChunkedTransformer
 
     protected final List<Statement> outputStatements = new ArrayList<>(10000);
 
+    protected Repository repository = null;
+
+    protected RepositoryConnection connection = null;
+
+    protected GraphQuery graphQuery = null;
+
     public SparqlLinkerChunkedTransformer(
             ChunkExecution<ChunkedTriples.Chunk, Collection<Statement>> owner,
             String query, boolean isAddToChunk,
@@ -39,32 +51,56 @@ public class SparqlLinkerChunkedTransformer
     protected Collection<Statement> processChunk(
             ChunkedTriples.Chunk chunk) throws LpException {
         outputStatements.clear();
-        Repository repository = new SailRepository(new MemoryStore());
-        repository.init();
+        if (repository == null) {
+            initializeRepository();
+        }
         Collection<Statement> statements = chunk.toCollection();
-        populateRepository(repository, statements);
-        executeQuery(repository);
+        try {
+            populateRepository(statements);
+            executeQuery();
+        } finally {
+            if (connection.isActive()) {
+                connection.rollback();
+            }
+            connection.clear();
+        }
         if (isAddToChunk) {
             outputStatements.addAll(statements);
         }
-        repository.shutDown();
         return outputStatements;
     }
 
-    protected void populateRepository(
-            Repository repository,Collection<Statement> statements) {
-        Repositories.consume(repository, (connection) -> {
-            connection.add(statements);
-            connection.add(referenceStatements);
-        });
+    protected void initializeRepository() {
+        repository = new SailRepository(new MemoryStore());
+        repository.init();
+        connection = repository.getConnection();
+        graphQuery = connection.prepareGraphQuery(query);
     }
 
-    protected void executeQuery(Repository repository) {
-        Repositories.consume(repository, (connection) -> {
-            connection.prepareGraphQuery(query)
-                    .evaluate()
-                    .forEach(outputStatements::add);
+    protected void populateRepository(Collection<Statement> statements) {
+        connection.begin();
+        connection.add(statements);
+        connection.add(referenceStatements);
+        connection.commit();
+    }
+
+    protected void executeQuery() {
+        graphQuery.evaluate(new AbstractRDFHandler() {
+            @Override
+            public void handleStatement(Statement st) {
+                outputStatements.add(st);
+            }
         });
     }
 
+    @Override
+    protected void onFinish() {
+        if (connection != null) {
+            connection.close();
+        }
+        if (repository != null) {
+            repository.shutDown();
+        }
+    }
+
 }
@@ -5,9 +5,10 @@ import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.chunk.ChunkExecution;
 import com.linkedpipes.etl.executor.api.v1.component.chunk.ChunkTransformer;
 import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.query.Update;
 import org.eclipse.rdf4j.repository.Repository;
+import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.sail.SailRepository;
-import org.eclipse.rdf4j.repository.util.Repositories;
 import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
 import org.eclipse.rdf4j.sail.memory.MemoryStore;
 
@@ -15,6 +16,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * The repository and the update query are created once and reused
+ * for all chunks, the repository is cleared after each chunk.
+ */
 public class SparqlUpdateChunkedTransformer
         extends ChunkTransformer<ChunkedTriples.Chunk, Collection<Statement>> {
 
@@ -22,6 +27,12 @@ public class SparqlUpdateChunkedTransformer
 
     protected List<Statement> outputBuffer = new ArrayList<>(10000);
 
+    protected Repository repository = null;
+
+    protected RepositoryConnection connection = null;
+
+    protected Update update = null;
+
     public SparqlUpdateChunkedTransformer(
             ChunkExecution<ChunkedTriples.Chunk, Collection<Statement>> owner,
             String query) {
@@ -33,39 +44,57 @@ public class SparqlUpdateChunkedTransformer
     protected Collection<Statement> processChunk(
             ChunkedTriples.Chunk chunk) throws LpException {
         outputBuffer.clear();
-        Repository repository = new SailRepository(new MemoryStore());
-        repository.init();
-        populateRepository(repository, chunk);
-        executeQuery(repository);
-        collectStatements(repository);
+        if (repository == null) {
+            initializeRepository();
+        }
+        try {
+            populateRepository(chunk);
+            executeQuery();
+            collectStatements();
+        } finally {
+            if (connection.isActive()) {
+                connection.rollback();
+            }
+            connection.clear();
+        }
         return outputBuffer;
     }
 
-    protected void populateRepository(
-            Repository repository, ChunkedTriples.Chunk chunk)
+    protected void initializeRepository() {
+        repository = new SailRepository(new MemoryStore());
+        repository.init();
+        connection = repository.getConnection();
+        update = connection.prepareUpdate(query);
+    }
+
+    protected void populateRepository(ChunkedTriples.Chunk chunk)
             throws LpException {
-        Collection<Statement> statements = chunk.toCollection();
-        Repositories.consume(repository, (connection) -> {
-            connection.add(statements);
-        });
+        connection.begin();
+        chunk.forEach(connection::add);
+        connection.commit();
     }
 
-    protected void executeQuery(Repository repository) {
-        Repositories.consume(repository, (connection) -> {
-            connection.prepareUpdate(query).execute();
-        });
+    protected void executeQuery() {
+        update.execute();
     }
 
-    protected void collectStatements(Repository repository) throws LpException {
-        Repositories.consume(repository, (connection) -> {
-            connection.export(new AbstractRDFHandler() {
-                @Override
-                public void handleStatement(Statement st) {
-                    outputBuffer.add(st);
-                }
-            });
+    protected void collectStatements() {
+        connection.export(new AbstractRDFHandler() {
+            @Override
+            public void handleStatement(Statement st) {
+                outputBuffer.add(st);
+            }
         });
-        repository.shutDown();
+    }
+
+    @Override
+    protected void onFinish() {
+        if (connection != null) {
+            connection.close();
+        }
+        if (repository != null) {
+            repository.shutDown();
+        }
     }
 
 }
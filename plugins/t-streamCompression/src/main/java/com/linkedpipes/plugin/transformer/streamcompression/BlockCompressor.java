@@ -0,0 +1,111 @@
+package com.linkedpipes.plugin.transformer.streamcompression;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Split files into blocks, compress the blocks in parallel and write
+ * them in the original order. Can be used to compress multiple files
+ * at the same time, the number of blocks in memory is limited for all
+ * the files together.
+ */
+class BlockCompressor {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final ExecutorService executor;
+
+    /**
+     * Limit number of blocks that are read but not yet written.
+     */
+    private final Semaphore blocksInMemory;
+
+    public BlockCompressor(ExecutorService executor, int maxBlocksInMemory) {
+        this.executor = executor;
+        this.blocksInMemory = new Semaphore(maxBlocksInMemory);
+    }
+
+    public void compress(File inFile, File outFile, CompressionFormat format)
+            throws IOException, InterruptedException {
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        try (InputStream inStream = new FileInputStream(inFile);
+             OutputStream outStream = new BufferedOutputStream(
+                     new FileOutputStream(outFile), BUFFER_SIZE)) {
+            boolean first = true;
+            while (true) {
+                acquireBlock(pending, outStream);
+                // The permit is owned by the block once it is submitted.
+                boolean submitted = false;
+                try {
+                    byte[] block = inStream.readNBytes(format.getBlockSize());
+                    // Empty file is compressed into a single empty block.
+                    if (block.length == 0 && !first) {
+                        break;
+                    }
+                    first = false;
+                    pending.add(executor.submit(
+                            () -> format.compressBlock(block)));
+                    submitted = true;
+                } finally {
+                    if (!submitted) {
+                        blocksInMemory.release();
+                    }
+                }
+                // Write what is ready, so we do not wait for the last block.
+                while (!pending.isEmpty() && pending.peek().isDone()) {
+                    write(pending.poll(), outStream);
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll(), outStream);
+            }
+        } finally {
+            for (Future<byte[]> future : pending) {
+                future.cancel(true);
+                blocksInMemory.release();
+            }
+        }
+    }
+
+    /**
+     * When there is no free block, we write our oldest block. Without
+     * pending blocks we wait for other files to release some.
+     */
+    private void acquireBlock(
+            Deque<Future<byte[]>> pending, OutputStream stream)
+            throws IOException, InterruptedException {
+        while (!blocksInMemory.tryAcquire()) {
+            if (pending.isEmpty()) {
+                blocksInMemory.acquire();
+                return;
+            }
+            write(pending.poll(), stream);
+        }
+    }
+
+    private void write(Future<byte[]> future, OutputStream stream)
+            throws IOException, InterruptedException {
+        try {
+            stream.write(future.get());
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException("Can't compress block.", ex.getCause());
+        } finally {
+            blocksInMemory.release();
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.linkedpipes.plugin.transformer.streamcompression;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.tukaani.xz.LZMA2Options;
+import org.tukaani.xz.XZOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Supported output formats.
+ *
+ * <p>For block compression every block is compressed into a complete
+ * stream, gzip, bzip2 and xz decompressors read concatenated streams
+ * as a single file. Zstandard can use multiple threads on its own,
+ * so blocks are not used.
+ */
+enum CompressionFormat {
+
+    GZIP(StreamCompressionVocabulary.FORMAT_GZIP, ".gz", 1024 * 1024) {
+        @Override
+        public OutputStream wrap(OutputStream stream, int threads)
+                throws IOException {
+            return new GZIPOutputStream(stream, BUFFER_SIZE);
+        }
+    },
+    BZIP2(StreamCompressionVocabulary.FORMAT_BZ2, ".bz2",
+            BZip2CompressorOutputStream.MAX_BLOCKSIZE * 100_000) {
+        @Override
+        public OutputStream wrap(OutputStream stream, int threads)
+                throws IOException {
+            return new BZip2CompressorOutputStream(stream);
+        }
+    },
+    XZ(StreamCompressionVocabulary.FORMAT_XZ, ".xz", 4 * 1024 * 1024) {
+        @Override
+        public OutputStream wrap(OutputStream stream, int threads)
+                throws IOException {
+            // Limit dictionary, so the encoder memory usage is about
+            // 50 MB per thread.
+            LZMA2Options options = new LZMA2Options();
+            options.setDictSize(Math.min(
+                    options.getDictSize(), getBlockSize()));
+            return new XZOutputStream(stream, options);
+        }
+    },
+    ZSTD(StreamCompressionVocabulary.FORMAT_ZSTD, ".zst", 0) {
+        @Override
+        public OutputStream wrap(OutputStream stream, int threads)
+                throws IOException {
+            ZstdOutputStream result = new ZstdOutputStream(stream);
+            if (threads > 1) {
+                result.setWorkers(threads);
+            }
+            return result;
+        }
+    };
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String iri;
+
+    private final String extension;
+
+    private final int blockSize;
+
+    CompressionFormat(String iri, String extension, int blockSize) {
+        this.iri = iri;
+        this.extension = extension;
+        this.blockSize = blockSize;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Size of uncompressed block or zero if block compression
+     * is not supported.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Wrap given stream with a compressor, the compressor may use given
+     * number of threads.
+     */
+    public abstract OutputStream wrap(OutputStream stream, int threads)
+            throws IOException;
+
+    /**
+     * Compress block into a complete stream.
+     */
+    public byte[] compressBlock(byte[] block) throws IOException {
+        ByteArrayOutputStream result =
+                new ByteArrayOutputStream(block.length / 2);
+        try (OutputStream stream = wrap(result, 1)) {
+            stream.write(block);
+        }
+        return result.toByteArray();
+    }
+
+    public static CompressionFormat fromIri(String iri) throws LpException {
+        for (CompressionFormat format : values()) {
+            if (format.iri.equals(iri)) {
+                return format;
+            }
+        }
+        throw new LpException("Unsupported format: {}", iri);
+    }
+
+}
@@ -7,17 +7,32 @@ import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
 import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
-import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
-import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.zip.GZIPOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+/**
+ * With a single thread files are compressed one after another, each
+ * into a single stream. With more threads several files are processed
+ * at once and files are split into blocks compressed in parallel.
+ * Formats without blocks use the threads inside the compressor,
+ * so their files are compressed one after another.
+ */
 public final class StreamCompression implements Component, SequentialExecution {
 
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
     @Component.InputPort(iri = "FilesInput")
     public FilesDataUnit input;
 
@@ -34,61 +49,78 @@ public final class StreamCompression implements Component, SequentialExecution {
     @Component.Configuration
     public StreamCompressionConfiguration configuration;
 
-    private final byte[] buffer = new byte[32 * 1024];
-
     @Override
     public void execute() throws LpException {
+        CompressionFormat format =
+                CompressionFormat.fromIri(configuration.getFormat());
         progressReport.start(input.size());
+        int threads = configuration.getThreads();
+        if (threads > 1 && format.getBlockSize() > 0) {
+            compressInParallel(format, threads);
+        } else {
+            compressSequentially(format, Math.max(1, threads));
+        }
+        progressReport.done();
+    }
+
+    private void compressSequentially(CompressionFormat format, int threads)
+            throws LpException {
         for (FilesDataUnit.Entry entry : input) {
-            final File inFile = entry.toFile();
+            File outFile = output.createFile(
+                    entry.getFileName() + format.getExtension());
             try {
-                switch (configuration.getFormat()) {
-                    case StreamCompressionVocabulary.FORMAT_BZ2:
-                        bzip2(inFile, output.createFile(
-                                entry.getFileName() + ".bz2"));
-                        break;
-                    case StreamCompressionVocabulary.FORMAT_GZIP:
-                        gzip(inFile, output.createFile(
-                                entry.getFileName() + ".gz"));
-                        break;
-                    default:
-                        break;
-                }
+                compressStream(entry.toFile(), outFile, format, threads);
             } catch (IOException ex) {
                 throw new LpException(
                         "Can't compress file: {}", entry.getFileName(), ex);
             }
             progressReport.entryProcessed();
         }
-        progressReport.done();
     }
 
-    private void bzip2(File inFile, File outFile) throws IOException {
-        BZip2CompressorInputStream a;
-
-        try (final BZip2CompressorOutputStream outStream =
-                     new BZip2CompressorOutputStream(
-                             new FileOutputStream(outFile));
-             final FileInputStream inStream = new FileInputStream(inFile)) {
-            int len;
-            while ((len = inStream.read(buffer)) > 0) {
-                outStream.write(buffer, 0, len);
+    private void compressInParallel(CompressionFormat format, int threads)
+            throws LpException {
+        ExecutorService fileExecutor = Executors.newFixedThreadPool(threads);
+        ExecutorService blockExecutor = Executors.newFixedThreadPool(threads);
+        BlockCompressor blockCompressor =
+                new BlockCompressor(blockExecutor, threads * 2);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (FilesDataUnit.Entry entry : input) {
+                File outFile = output.createFile(
+                        entry.getFileName() + format.getExtension());
+                futures.add(fileExecutor.submit(() -> {
+                    blockCompressor.compress(entry.toFile(), outFile, format);
+                    progressReport.entryProcessed();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
             }
-            outStream.finish();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while compressing.", ex);
+        } catch (ExecutionException ex) {
+            throw new LpException("Can't compress file.", ex.getCause());
+        } finally {
+            fileExecutor.shutdownNow();
+            blockExecutor.shutdownNow();
         }
     }
 
-    private void gzip(File inFile, File outFile) throws IOException {
-        try (final GZIPOutputStream outStream =
-                     new GZIPOutputStream(new FileOutputStream(outFile));
-             final FileInputStream inStream = new FileInputStream(inFile)) {
+    private void compressStream(
+            File inFile, File outFile, CompressionFormat format, int threads)
+            throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inStream = new FileInputStream(inFile);
+             OutputStream outStream = format.wrap(new BufferedOutputStream(
+                     new FileOutputStream(outFile), BUFFER_SIZE), threads)) {
             int len;
             while ((len = inStream.read(buffer)) > 0) {
                 outStream.write(buffer, 0, len);
             }
-            outStream.finish();
         }
     }
 
 }
-
@@ -8,6 +8,13 @@ public class StreamCompressionConfiguration {
     @RdfToPojo.Property(iri = StreamCompressionVocabulary.HAS_FORMAT)
     private String format;
 
+    /**
+     * With more than one thread files are split into blocks that are
+     * compressed in parallel, also several files are processed at once.
+     */
+    @RdfToPojo.Property(iri = StreamCompressionVocabulary.HAS_THREADS)
+    private int threads = 1;
+
     public StreamCompressionConfiguration() {
     }
 
@@ -19,4 +26,12 @@ public class StreamCompressionConfiguration {
         this.format = format;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
 }
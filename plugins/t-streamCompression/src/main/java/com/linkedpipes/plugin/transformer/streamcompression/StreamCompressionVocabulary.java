@@ -9,8 +9,14 @@ public class StreamCompressionVocabulary {
 
     public static final String HAS_FORMAT = PREFIX + "format";
 
+    public static final String HAS_THREADS = PREFIX + "threads";
+
     public static final String FORMAT_GZIP = PREFIX + "gzip";
 
     public static final String FORMAT_BZ2 = PREFIX + "bzip2";
 
+    public static final String FORMAT_XZ = PREFIX + "xz";
+
+    public static final String FORMAT_ZSTD = PREFIX + "zstd";
+
 }
@@ -11,6 +11,10 @@ define([], function () {
         "format": {
             "$type": "str",
             "$label": "Format"
+        },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of threads"
         }
     };
 
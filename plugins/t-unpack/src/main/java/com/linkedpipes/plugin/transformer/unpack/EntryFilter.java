@@ -0,0 +1,55 @@
+package com.linkedpipes.plugin.transformer.unpack;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Select archive entries using glob patterns matched against the path
+ * of the entry in the archive. An entry is selected when it matches
+ * any include pattern, or there are no include patterns, and does not
+ * match any exclude pattern.
+ *
+ * <p>The class is also used by t-unpackZip.
+ */
+public class EntryFilter {
+
+    private final List<PathMatcher> includes;
+
+    private final List<PathMatcher> excludes;
+
+    public EntryFilter(List<String> includes, List<String> excludes) {
+        this.includes = createMatchers(includes);
+        this.excludes = createMatchers(excludes);
+    }
+
+    private static List<PathMatcher> createMatchers(List<String> patterns) {
+        return patterns.stream()
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .map(pattern -> FileSystems.getDefault()
+                        .getPathMatcher("glob:" + pattern))
+                .collect(Collectors.toList());
+    }
+
+    public boolean test(String entryName) {
+        Path path = Paths.get(entryName);
+        if (!includes.isEmpty() && !matchAny(includes, path)) {
+            return false;
+        }
+        return !matchAny(excludes, path);
+    }
+
+    private static boolean matchAny(List<PathMatcher> matchers, Path path) {
+        for (PathMatcher matcher : matchers) {
+            if (matcher.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -14,10 +14,19 @@ import org.apache.commons.compress.archivers.sevenz.SevenZArchiveEntry;
 import org.apache.commons.compress.archivers.sevenz.SevenZFile;
 import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.xz.XZCompressorInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.GZIPInputStream;
 
 public final class Unpack implements Component, SequentialExecution {
@@ -40,26 +49,74 @@ public final class Unpack implements Component, SequentialExecution {
     @Component.Inject
     public ProgressReport progressReport;
 
+    private EntryFilter filter;
+
     @Override
     public void execute() throws LpException {
         LOG.info("Used format option: {}", configuration.getFormat());
+        filter = new EntryFilter(
+                configuration.getIncludes(), configuration.getExcludes());
         progressReport.start(input.size());
-        for (FilesDataUnit.Entry entry : input) {
-            final File outputDirectory;
-            if (configuration.isUsePrefix()) {
-                outputDirectory = new File(output.getWriteDirectory(),
-                        entry.getFileName());
-            } else {
-                outputDirectory = output.getWriteDirectory();
+        if (configuration.getThreads() > 1 && configuration.isUsePrefix()) {
+            unpackParallel();
+        } else {
+            for (FilesDataUnit.Entry entry : input) {
+                unpack(entry, getOutputDirectory(entry));
+                progressReport.entryProcessed();
             }
-            outputDirectory.mkdirs();
-            // Unpack.
-            unpack(entry, outputDirectory);
-            //
-            progressReport.entryProcessed();
         }
         progressReport.done();
-        //
+    }
+
+    private File getOutputDirectory(FilesDataUnit.Entry entry) {
+        final File outputDirectory;
+        if (configuration.isUsePrefix()) {
+            outputDirectory = new File(output.getWriteDirectory(),
+                    entry.getFileName());
+        } else {
+            outputDirectory = output.getWriteDirectory();
+        }
+        outputDirectory.mkdirs();
+        return outputDirectory;
+    }
+
+    /**
+     * Unpack multiple files at once, progress is reported in the order
+     * of the input files. Each file must have its own output directory,
+     * else the files would race on the same output paths.
+     */
+    private void unpackParallel() throws LpException {
+        ExecutorService executor =
+                Executors.newFixedThreadPool(configuration.getThreads());
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (FilesDataUnit.Entry entry : input) {
+                futures.add(executor.submit(() -> {
+                    unpack(entry, getOutputDirectory(entry));
+                    return null;
+                }));
+            }
+            for (Future<Object> future : futures) {
+                waitForTask(future);
+                progressReport.entryProcessed();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void waitForTask(Future<Object> future) throws LpException {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while extracting files.", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof LpException) {
+                throw (LpException) ex.getCause();
+            }
+            throw new LpException("Extraction failure.", ex.getCause());
+        }
     }
 
     private void unpack(FilesDataUnit.Entry inputEntry, File targetDirectory)
@@ -67,7 +124,7 @@ public final class Unpack implements Component, SequentialExecution {
         final String extension = getExtension(inputEntry);
         if (ArchiveStreamFactory.SEVEN_Z.equals(extension)) {
             try {
-                unpackSevenZip(inputEntry.toFile(), targetDirectory);
+                unpackSevenZip(inputEntry.toFile(), targetDirectory, filter);
             } catch (IOException ex) {
                 handleUnpackFailed(inputEntry, ex);
             }
@@ -77,7 +134,7 @@ public final class Unpack implements Component, SequentialExecution {
                 inputEntry.toFile())) {
             switch (extension) {
                 case ArchiveStreamFactory.ZIP:
-                    unpackZip(stream, targetDirectory);
+                    unpackZip(stream, targetDirectory, filter);
                     break;
                 case "bz2":
                     unpackBzip2(stream, targetDirectory, inputEntry);
@@ -85,6 +142,12 @@ public final class Unpack implements Component, SequentialExecution {
                 case "gz":
                     unpackGzip(stream, targetDirectory, inputEntry);
                     break;
+                case "xz":
+                    unpackXz(stream, targetDirectory, inputEntry);
+                    break;
+                case "zst":
+                    unpackZstd(stream, targetDirectory, inputEntry);
+                    break;
                 default:
                     throw new LpException("Unknown file format (" +
                             extension + ") : " + inputEntry.getFileName());
@@ -127,6 +190,10 @@ public final class Unpack implements Component, SequentialExecution {
                 return "bz2";
             case UnpackVocabulary.FORMAT_GZIP:
                 return "gz";
+            case UnpackVocabulary.FORMAT_XZ:
+                return "xz";
+            case UnpackVocabulary.FORMAT_ZSTD:
+                return "zst";
             case UnpackVocabulary.FORMAT_DETECT:
             default:
                 final String fileName = entry.getFileName();
@@ -140,9 +207,11 @@ public final class Unpack implements Component, SequentialExecution {
      *
      * @param inputStream
      * @param directory
+     * @param filter
      */
     private static void unpackZip(InputStream inputStream,
-            File directory) throws IOException, ArchiveException {
+            File directory, EntryFilter filter)
+            throws IOException, ArchiveException {
         try (ArchiveInputStream archive = new ArchiveStreamFactory()
                 .createArchiveInputStream("zip", inputStream)) {
             ZipArchiveEntry entry;
@@ -155,7 +224,8 @@ public final class Unpack implements Component, SequentialExecution {
                     }
                     continue;
                 }
-                if (entryFile.isDirectory() || entryFile.exists()) {
+                if (entryFile.isDirectory() || entryFile.exists()
+                        || !filter.test(entry.getName())) {
                     continue;
                 }
                 // Copy stream to file.
@@ -169,12 +239,17 @@ public final class Unpack implements Component, SequentialExecution {
      *
      * @param inputFile
      * @param directory
+     * @param filter
      */
     private static void unpackSevenZip(File inputFile,
-            File directory) throws IOException {
+            File directory, EntryFilter filter) throws IOException {
         final SevenZFile sevenZFile = new SevenZFile(inputFile);
         SevenZArchiveEntry entry = sevenZFile.getNextEntry();
         while (entry != null) {
+            if (entry.isDirectory() || !filter.test(entry.getName())) {
+                entry = sevenZFile.getNextEntry();
+                continue;
+            }
             final File outputFile = new File(directory, entry.getName());
             outputFile.getParentFile().mkdirs();
             try (FileOutputStream out = new FileOutputStream(outputFile)) {
@@ -235,6 +310,49 @@ public final class Unpack implements Component, SequentialExecution {
         }
     }
 
+    /**
+     * Unpack XZ archive, the archive can consist of multiple
+     * concatenated streams.
+     *
+     * @param inputStream
+     * @param targetDirectory
+     * @param inputEntry
+     */
+    private static void unpackXz(InputStream inputStream,
+            File targetDirectory, FilesDataUnit.Entry inputEntry)
+            throws IOException {
+        try (XZCompressorInputStream xzStream
+                     = new XZCompressorInputStream(inputStream, true)) {
+            copyToFile(xzStream, new File(targetDirectory,
+                    removeExtension(inputEntry.getFileName(), ".xz")));
+        }
+    }
+
+    /**
+     * Unpack Zstandard archive.
+     *
+     * @param inputStream
+     * @param targetDirectory
+     * @param inputEntry
+     */
+    private static void unpackZstd(InputStream inputStream,
+            File targetDirectory, FilesDataUnit.Entry inputEntry)
+            throws IOException {
+        try (ZstdCompressorInputStream zstdStream
+                     = new ZstdCompressorInputStream(inputStream)) {
+            copyToFile(zstdStream, new File(targetDirectory,
+                    removeExtension(inputEntry.getFileName(), ".zst")));
+        }
+    }
+
+    private static String removeExtension(String fileName, String extension) {
+        if (fileName.toLowerCase(Locale.ROOT).endsWith(extension)) {
+            return fileName.substring(
+                    0, fileName.length() - extension.length());
+        }
+        return fileName;
+    }
+
     /**
      * Write given stream to a file.
      *
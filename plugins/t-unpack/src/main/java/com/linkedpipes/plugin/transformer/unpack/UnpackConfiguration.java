@@ -2,6 +2,9 @@ package com.linkedpipes.plugin.transformer.unpack;
 
 import com.linkedpipes.etl.executor.api.v1.rdf.RdfToPojo;
 
+import java.util.LinkedList;
+import java.util.List;
+
 @RdfToPojo.Type(iri = UnpackVocabulary.CONFIG_CLASS)
 public class UnpackConfiguration {
 
@@ -14,6 +17,27 @@ public class UnpackConfiguration {
     @RdfToPojo.Property(iri = UnpackVocabulary.SKIP_ON_ERROR)
     private boolean skipOnError = false;
 
+    /**
+     * Number of archives extracted in parallel. Archives are always
+     * extracted one by one when they share the output directory,
+     * i.e. without prefix.
+     */
+    @RdfToPojo.Property(iri = UnpackVocabulary.HAS_THREADS)
+    private int threads = 1;
+
+    /**
+     * Glob patterns of zip and 7z entries to extract, when empty
+     * all entries are extracted.
+     */
+    @RdfToPojo.Property(iri = UnpackVocabulary.HAS_INCLUDE)
+    private List<String> includes = new LinkedList<>();
+
+    /**
+     * Glob patterns of zip and 7z entries to skip.
+     */
+    @RdfToPojo.Property(iri = UnpackVocabulary.HAS_EXCLUDE)
+    private List<String> excludes = new LinkedList<>();
+
     public UnpackConfiguration() {
     }
 
@@ -40,4 +64,29 @@ public class UnpackConfiguration {
     public void setSkipOnError(boolean skipOnError) {
         this.skipOnError = skipOnError;
     }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public List<String> getIncludes() {
+        return includes;
+    }
+
+    public void setIncludes(List<String> includes) {
+        this.includes = includes;
+    }
+
+    public List<String> getExcludes() {
+        return excludes;
+    }
+
+    public void setExcludes(List<String> excludes) {
+        this.excludes = excludes;
+    }
+
 }
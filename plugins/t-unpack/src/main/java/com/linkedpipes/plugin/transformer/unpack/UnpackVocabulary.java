@@ -21,6 +21,16 @@ public final class UnpackVocabulary {
 
     public static final String FORMAT_GZIP = PREFIX + "gz";
 
+    public static final String FORMAT_XZ = PREFIX + "xz";
+
+    public static final String FORMAT_ZSTD = PREFIX + "zstd";
+
     public static final String SKIP_ON_ERROR = PREFIX + "skipOnError";
 
+    public static final String HAS_THREADS = PREFIX + "threads";
+
+    public static final String HAS_INCLUDE = PREFIX + "include";
+
+    public static final String HAS_EXCLUDE = PREFIX + "exclude";
+
 }
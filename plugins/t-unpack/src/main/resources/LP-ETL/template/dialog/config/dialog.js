@@ -19,6 +19,36 @@ define([], function () {
         "skipOnError" : {
             "$type" : "bool",
             "$label" : "Skip on error"
+        },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of threads"
+        },
+        "include": {
+            "$array": true,
+            "$type": "str",
+            "$label": "Include patterns",
+            "$onLoad": (value) => {
+                return value.join(",");
+            },
+            "$onSave": (value) => {
+                return value.split(",")
+                    .map((item) => item.trim())
+                    .filter((item) => item !== "");
+            }
+        },
+        "exclude": {
+            "$array": true,
+            "$type": "str",
+            "$label": "Exclude patterns",
+            "$onLoad": (value) => {
+                return value.join(",");
+            },
+            "$onSave": (value) => {
+                return value.split(",")
+                    .map((item) => item.trim())
+                    .filter((item) => item !== "");
+            }
         }
     };
 
@@ -0,0 +1,55 @@
+package com.linkedpipes.plugin.transformer.unpack;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+public class EntryFilterTest {
+
+    @Test
+    public void noPatternsSelectAll() {
+        EntryFilter filter = new EntryFilter(
+                Collections.emptyList(), Collections.emptyList());
+        Assertions.assertTrue(filter.test("file.txt"));
+        Assertions.assertTrue(filter.test("directory/file.csv"));
+    }
+
+    @Test
+    public void includeOnly() {
+        EntryFilter filter = new EntryFilter(
+                List.of("*.txt"), Collections.emptyList());
+        Assertions.assertTrue(filter.test("file.txt"));
+        Assertions.assertFalse(filter.test("file.csv"));
+        // Single star does not cross directory boundaries.
+        Assertions.assertFalse(filter.test("directory/file.txt"));
+    }
+
+    @Test
+    public void includeInDirectories() {
+        EntryFilter filter = new EntryFilter(
+                List.of("**.txt"), Collections.emptyList());
+        Assertions.assertTrue(filter.test("file.txt"));
+        Assertions.assertTrue(filter.test("directory/file.txt"));
+        Assertions.assertFalse(filter.test("directory/file.csv"));
+    }
+
+    @Test
+    public void excludeWins() {
+        EntryFilter filter = new EntryFilter(
+                List.of("data/**"), List.of("**.tmp"));
+        Assertions.assertTrue(filter.test("data/file.txt"));
+        Assertions.assertFalse(filter.test("data/file.tmp"));
+        Assertions.assertFalse(filter.test("other/file.txt"));
+    }
+
+    @Test
+    public void emptyPatternsAreIgnored() {
+        EntryFilter filter = new EntryFilter(
+                List.of(" ", ""), List.of(" *.csv "));
+        Assertions.assertTrue(filter.test("file.txt"));
+        Assertions.assertFalse(filter.test("file.csv"));
+    }
+
+}
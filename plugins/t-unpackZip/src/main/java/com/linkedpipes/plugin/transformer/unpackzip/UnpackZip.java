@@ -7,13 +7,47 @@ import com.linkedpipes.etl.executor.api.v1.LpException;
 import com.linkedpipes.etl.executor.api.v1.component.Component;
 import com.linkedpipes.etl.executor.api.v1.component.SequentialExecution;
 import com.linkedpipes.etl.executor.api.v1.service.ProgressReport;
-import net.lingala.zip4j.core.ZipFile;
-import net.lingala.zip4j.exception.ZipException;
+import com.linkedpipes.plugin.transformer.unpack.EntryFilter;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+/**
+ * Entries are selected using include and exclude patterns before
+ * extraction. With more threads multiple archives are extracted at once
+ * and large archives are split into parts extracted in parallel.
+ * In lazy mode nothing is extracted, the output entries are extracted
+ * when they are accessed by a following component.
+ */
 public final class UnpackZip implements Component, SequentialExecution {
 
+    /**
+     * Archives with smaller uncompressed size are not split.
+     */
+    private static final long MIN_PART_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Extraction of an archive.
+     */
+    private static class ArchiveTasks {
+
+        final String fileName;
+
+        final List<Future<Object>> futures = new ArrayList<>();
+
+        ArchiveTasks(String fileName) {
+            this.fileName = fileName;
+        }
+
+    }
+
     @Component.ContainsConfiguration
     @Component.InputPort(iri = "Configuration")
     public SingleGraphDataUnit configurationRdf;
@@ -30,42 +64,148 @@ public final class UnpackZip implements Component, SequentialExecution {
     @Component.Inject
     public ProgressReport progressReport;
 
+    private EntryFilter filter;
+
     @Override
     public void execute() throws LpException {
+        filter = new EntryFilter(
+                configuration.getIncludes(), configuration.getExcludes());
         progressReport.start(input.size());
-        for (FilesDataUnit.Entry entry : input) {
-            final File outputDirectory;
-            if (configuration.isUsePrefix()) {
-                outputDirectory = new File(output.getWriteDirectory(),
-                        entry.getFileName());
-            } else {
-                outputDirectory = output.getWriteDirectory();
+        if (configuration.isLazy()) {
+            for (FilesDataUnit.Entry entry : input) {
+                addLazy(entry);
+                progressReport.entryProcessed();
+            }
+        } else if (configuration.getThreads() > 1) {
+            unzipParallel();
+        } else {
+            for (FilesDataUnit.Entry entry : input) {
+                unzip(entry);
+                progressReport.entryProcessed();
             }
-            outputDirectory.mkdirs();
-            // Unpack.
-            unzip(entry.toFile(), outputDirectory);
-            progressReport.entryProcessed();
         }
         progressReport.done();
     }
 
+    private String getOutputPrefix(FilesDataUnit.Entry entry) {
+        if (configuration.isUsePrefix()) {
+            return entry.getFileName() + "/";
+        } else {
+            return "";
+        }
+    }
+
+    private File getOutputDirectory(FilesDataUnit.Entry entry) {
+        final File outputDirectory = new File(
+                output.getWriteDirectory(), getOutputPrefix(entry));
+        outputDirectory.mkdirs();
+        return outputDirectory;
+    }
+
+    private List<ZipArchiveEntry> listEntries(FilesDataUnit.Entry entry)
+            throws LpException {
+        try {
+            return ZipExtractor.listEntries(entry.toFile(), filter);
+        } catch (IOException ex) {
+            throw new LpException("Extraction failure: {}",
+                    entry.getFileName(), ex);
+        }
+    }
+
     /**
-     * Extract given zip file into given directory.
-     *
-     * @param zipFile
-     * @param targetDirectory
+     * Reference the selected entries from the output.
      */
-    private void unzip(File zipFile, File targetDirectory) throws LpException {
+    private void addLazy(FilesDataUnit.Entry entry) throws LpException {
+        String prefix = getOutputPrefix(entry);
+        for (ZipArchiveEntry zipEntry : listEntries(entry)) {
+            output.addArchiveFile(
+                    prefix + zipEntry.getName(), entry.toFile(),
+                    zipEntry.getName(), zipEntry.getSize());
+        }
+    }
+
+    /**
+     * Extract selected entries of given zip file.
+     */
+    private void unzip(FilesDataUnit.Entry entry) throws LpException {
+        List<String> names = new ArrayList<>();
+        for (ZipArchiveEntry zipEntry : listEntries(entry)) {
+            names.add(zipEntry.getName());
+        }
+        try {
+            ZipExtractor.extract(
+                    entry.toFile(), names, getOutputDirectory(entry));
+        } catch (IOException ex) {
+            throw new LpException("Extraction failure: {}",
+                    entry.getFileName(), ex);
+        }
+    }
+
+    private void unzipParallel() throws LpException {
+        ExecutorService executor =
+                Executors.newFixedThreadPool(configuration.getThreads());
+        try {
+            List<ArchiveTasks> archives = new ArrayList<>();
+            for (FilesDataUnit.Entry entry : input) {
+                archives.add(submit(executor, entry));
+                if (!configuration.isUsePrefix()) {
+                    // Archives share the output directory, so we
+                    // extract them one after another.
+                    waitForArchives(archives);
+                }
+            }
+            waitForArchives(archives);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void waitForArchives(List<ArchiveTasks> archives)
+            throws LpException {
+        for (ArchiveTasks archive : archives) {
+            for (Future<Object> future : archive.futures) {
+                waitForTask(archive, future);
+            }
+            progressReport.entryProcessed();
+        }
+        archives.clear();
+    }
+
+    private ArchiveTasks submit(
+            ExecutorService executor, FilesDataUnit.Entry entry)
+            throws LpException {
+        List<ZipArchiveEntry> entries = listEntries(entry);
+        long size = 0;
+        for (ZipArchiveEntry zipEntry : entries) {
+            size += Math.max(0, zipEntry.getSize());
+        }
+        int parts = (int) Math.min(
+                configuration.getThreads(), 1 + size / MIN_PART_SIZE);
+        File archive = entry.toFile();
+        File directory = getOutputDirectory(entry);
+        ArchiveTasks result = new ArchiveTasks(entry.getFileName());
+        for (List<String> names : ZipExtractor.split(entries, parts)) {
+            result.futures.add(executor.submit(() -> {
+                ZipExtractor.extract(archive, names, directory);
+                return null;
+            }));
+        }
+        return result;
+    }
+
+    private void waitForTask(ArchiveTasks archive, Future<Object> future)
+            throws LpException {
         try {
-            final ZipFile zip = new ZipFile(zipFile);
-            if (zip.isEncrypted()) {
-                throw new LpException("File is encrypted: {}",
-                        zipFile.getName());
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new LpException("Interrupted while extracting files.", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof LpException) {
+                throw (LpException) ex.getCause();
             }
-            zip.extractAll(targetDirectory.toString());
-        } catch (ZipException ex) {
             throw new LpException("Extraction failure: {}",
-                    zipFile.getName(), ex);
+                    archive.fileName, ex.getCause());
         }
     }
 
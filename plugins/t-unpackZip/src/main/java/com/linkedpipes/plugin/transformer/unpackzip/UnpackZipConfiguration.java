@@ -2,12 +2,43 @@ package com.linkedpipes.plugin.transformer.unpackzip;
 
 import com.linkedpipes.etl.executor.api.v1.rdf.RdfToPojo;
 
+import java.util.LinkedList;
+import java.util.List;
+
 @RdfToPojo.Type(iri = UnpackZipVocabulary.CONFIG_CLASS)
 public class UnpackZipConfiguration {
 
     @RdfToPojo.Property(iri = UnpackZipVocabulary.CONFIG_USE_PREFIX)
     private boolean usePrefix = true;
 
+    /**
+     * Number of threads used to extract archives and parts of
+     * large archives. Archives sharing the output directory,
+     * i.e. without prefix, are extracted one after another.
+     */
+    @RdfToPojo.Property(iri = UnpackZipVocabulary.CONFIG_THREADS)
+    private int threads = 1;
+
+    /**
+     * Glob patterns of entries to extract, when empty all entries
+     * are extracted.
+     */
+    @RdfToPojo.Property(iri = UnpackZipVocabulary.CONFIG_INCLUDE)
+    private List<String> includes = new LinkedList<>();
+
+    /**
+     * Glob patterns of entries to skip.
+     */
+    @RdfToPojo.Property(iri = UnpackZipVocabulary.CONFIG_EXCLUDE)
+    private List<String> excludes = new LinkedList<>();
+
+    /**
+     * If true entries are extracted when they are accessed by
+     * a following component.
+     */
+    @RdfToPojo.Property(iri = UnpackZipVocabulary.CONFIG_LAZY)
+    private boolean lazy = false;
+
     public UnpackZipConfiguration() {
     }
 
@@ -19,4 +50,36 @@ public class UnpackZipConfiguration {
         this.usePrefix = usePrefix;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public List<String> getIncludes() {
+        return includes;
+    }
+
+    public void setIncludes(List<String> includes) {
+        this.includes = includes;
+    }
+
+    public List<String> getExcludes() {
+        return excludes;
+    }
+
+    public void setExcludes(List<String> excludes) {
+        this.excludes = excludes;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
 }
@@ -9,4 +9,12 @@ public final class UnpackZipVocabulary {
 
     public static final String CONFIG_USE_PREFIX = PREFIX + "usePrefix";
 
+    public static final String CONFIG_THREADS = PREFIX + "threads";
+
+    public static final String CONFIG_INCLUDE = PREFIX + "include";
+
+    public static final String CONFIG_EXCLUDE = PREFIX + "exclude";
+
+    public static final String CONFIG_LAZY = PREFIX + "lazy";
+
 }
@@ -0,0 +1,126 @@
+package com.linkedpipes.plugin.transformer.unpackzip;
+
+import com.linkedpipes.etl.executor.api.v1.LpException;
+import com.linkedpipes.plugin.transformer.unpack.EntryFilter;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipFile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extract selected entries of a zip archive. Each call opens its own
+ * instance of the archive, so the entries of a single archive can be
+ * extracted by multiple threads, each taking a part of the entries.
+ */
+class ZipExtractor {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private ZipExtractor() {
+    }
+
+    /**
+     * Return entries selected by the filter, directories are
+     * not included as they are created together with the files.
+     */
+    public static List<ZipArchiveEntry> listEntries(
+            File archive, EntryFilter filter)
+            throws IOException, LpException {
+        List<ZipArchiveEntry> result = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(archive)) {
+            Enumeration<ZipArchiveEntry> entries = zip.getEntries();
+            while (entries.hasMoreElements()) {
+                ZipArchiveEntry entry = entries.nextElement();
+                if (entry.getGeneralPurposeBit().usesEncryption()) {
+                    throw new LpException("File is encrypted: {}",
+                            archive.getName());
+                }
+                if (entry.isDirectory() || !filter.test(entry.getName())) {
+                    continue;
+                }
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Split entries into at most given number of parts with similar
+     * uncompressed size, starting with the largest entries. Entries
+     * with the same normalized path are extracted only once, so the
+     * parts never write the same file.
+     */
+    public static List<List<String>> split(
+            List<ZipArchiveEntry> entries, int parts) {
+        Map<Path, ZipArchiveEntry> unique = new LinkedHashMap<>();
+        for (ZipArchiveEntry entry : entries) {
+            unique.putIfAbsent(
+                    Paths.get(entry.getName()).normalize(), entry);
+        }
+        List<ZipArchiveEntry> sorted = new ArrayList<>(unique.values());
+        sorted.sort(Collections.reverseOrder((left, right) ->
+                Long.compare(left.getSize(), right.getSize())));
+        int count = Math.max(1, Math.min(parts, sorted.size()));
+        List<List<String>> result = new ArrayList<>(count);
+        long[] sizes = new long[count];
+        for (int index = 0; index < count; ++index) {
+            result.add(new ArrayList<>());
+        }
+        for (ZipArchiveEntry entry : sorted) {
+            int smallest = 0;
+            for (int index = 1; index < count; ++index) {
+                if (sizes[index] < sizes[smallest]) {
+                    smallest = index;
+                }
+            }
+            result.get(smallest).add(entry.getName());
+            sizes[smallest] += Math.max(0, entry.getSize());
+        }
+        return result;
+    }
+
+    public static void extract(
+            File archive, List<String> names, File directory)
+            throws IOException, LpException {
+        Path root = directory.toPath().toAbsolutePath().normalize();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (ZipFile zip = new ZipFile(archive)) {
+            for (String name : names) {
+                ZipArchiveEntry entry = zip.getEntry(name);
+                Path target = root.resolve(name).normalize();
+                if (!target.startsWith(root)) {
+                    throw new LpException(
+                            "Entry is outside of the target directory: {}",
+                            name);
+                }
+                if (!zip.canReadEntryData(entry)) {
+                    throw new LpException(
+                            "Unsupported compression method for: {}",
+                            name);
+                }
+                File file = target.toFile();
+                file.getParentFile().mkdirs();
+                try (InputStream stream = zip.getInputStream(entry);
+                     OutputStream out = new FileOutputStream(file)) {
+                    int length;
+                    while ((length = stream.read(buffer)) != -1) {
+                        out.write(buffer, 0, length);
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -11,6 +11,40 @@ define([], function () {
         "usePrefix": {
             "$type": "bool",
             "$label": "Unpack each file to separate directory"
+        },
+        "threads": {
+            "$type": "int",
+            "$label": "Number of threads"
+        },
+        "include": {
+            "$array": true,
+            "$type": "str",
+            "$label": "Include patterns",
+            "$onLoad": (value) => {
+                return value.join(",");
+            },
+            "$onSave": (value) => {
+                return value.split(",")
+                    .map((item) => item.trim())
+                    .filter((item) => item !== "");
+            }
+        },
+        "exclude": {
+            "$array": true,
+            "$type": "str",
+            "$label": "Exclude patterns",
+            "$onLoad": (value) => {
+                return value.join(",");
+            },
+            "$onSave": (value) => {
+                return value.split(",")
+                    .map((item) => item.trim())
+                    .filter((item) => item !== "");
+            }
+        },
+        "lazy": {
+            "$type": "bool",
+            "$label": "Extract files when they are used"
         }
     };
 
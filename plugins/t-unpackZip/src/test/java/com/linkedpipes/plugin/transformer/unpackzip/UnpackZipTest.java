@@ -0,0 +1,117 @@
+package com.linkedpipes.plugin.transformer.unpackzip;
+
+import com.linkedpipes.etl.test.TestEnvironment;
+import com.linkedpipes.etl.test.TestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class UnpackZipTest {
+
+    @Test
+    public void unzipSelectedEntries() throws Exception {
+        File input = TestUtils.getTempDirectory();
+        createZip(new File(input, "archive.zip"),
+                "data/first.txt", "data/second.csv", "readme.txt");
+        UnpackZipConfiguration configuration = new UnpackZipConfiguration();
+        configuration.setIncludes(List.of("data/**"));
+        configuration.setExcludes(List.of("**.csv"));
+        File output = execute(configuration, input);
+        Assertions.assertEquals("data/first.txt",
+                read(new File(output, "archive.zip/data/first.txt")));
+        Assertions.assertFalse(
+                new File(output, "archive.zip/data/second.csv").exists());
+        Assertions.assertFalse(
+                new File(output, "archive.zip/readme.txt").exists());
+    }
+
+    @Test
+    public void unzipParallelWithPrefix() throws Exception {
+        File input = TestUtils.getTempDirectory();
+        createZip(new File(input, "first.zip"), "file.txt", "other.txt");
+        createZip(new File(input, "second.zip"), "file.txt");
+        UnpackZipConfiguration configuration = new UnpackZipConfiguration();
+        configuration.setThreads(4);
+        File output = execute(configuration, input);
+        Assertions.assertEquals("file.txt",
+                read(new File(output, "first.zip/file.txt")));
+        Assertions.assertEquals("other.txt",
+                read(new File(output, "first.zip/other.txt")));
+        Assertions.assertEquals("file.txt",
+                read(new File(output, "second.zip/file.txt")));
+    }
+
+    @Test
+    public void unzipParallelWithoutPrefix() throws Exception {
+        File input = TestUtils.getTempDirectory();
+        createZip(new File(input, "first.zip"), "file.txt", "first.txt");
+        createZip(new File(input, "second.zip"), "file.txt", "second.txt");
+        UnpackZipConfiguration configuration = new UnpackZipConfiguration();
+        configuration.setThreads(4);
+        configuration.setUsePrefix(false);
+        File output = execute(configuration, input);
+        Assertions.assertEquals("file.txt",
+                read(new File(output, "file.txt")));
+        Assertions.assertEquals("first.txt",
+                read(new File(output, "first.txt")));
+        Assertions.assertEquals("second.txt",
+                read(new File(output, "second.txt")));
+    }
+
+    @Test
+    public void unzipLazy() throws Exception {
+        File input = TestUtils.getTempDirectory();
+        createZip(new File(input, "archive.zip"), "first.txt", "second.csv");
+        UnpackZipConfiguration configuration = new UnpackZipConfiguration();
+        configuration.setLazy(true);
+        configuration.setIncludes(List.of("*.txt"));
+        File output = execute(configuration, input);
+        Assertions.assertEquals("first.txt",
+                read(new File(output, "archive.zip/first.txt")));
+        Assertions.assertFalse(
+                new File(output, "archive.zip/second.csv").exists());
+    }
+
+    private static File execute(
+            UnpackZipConfiguration configuration, File input)
+            throws Exception {
+        UnpackZip component = new UnpackZip();
+        component.configuration = configuration;
+        File output = TestUtils.getTempDirectory();
+        try (TestEnvironment env = TestEnvironment.create(
+                component, TestUtils.getTempDirectory())) {
+            env.bindSystemDataUnit("FilesInput", input);
+            env.bindSystemDataUnit("FilesOutput", output);
+            env.execute();
+        }
+        return output;
+    }
+
+    /**
+     * Content of each entry is its name.
+     */
+    private static void createZip(File file, String... names)
+            throws IOException {
+        try (ZipOutputStream stream =
+                     new ZipOutputStream(new FileOutputStream(file))) {
+            for (String name : names) {
+                stream.putNextEntry(new ZipEntry(name));
+                stream.write(name.getBytes(StandardCharsets.UTF_8));
+                stream.closeEntry();
+            }
+        }
+    }
+
+    private static String read(File file) throws IOException {
+        return Files.readString(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+}
@@ -10,6 +10,7 @@ import com.linkedpipes.etl.storage.assistant.model.PipelineDesign;
 import com.linkedpipes.etl.storage.assistant.model.PipelineInfo;
 import com.linkedpipes.etl.storage.assistant.model.TemplateUseInfo;
 import com.linkedpipes.etl.storage.pipeline.PipelineEvents;
+import com.linkedpipes.etl.storage.pipeline.PipelineSummary;
 import com.linkedpipes.etl.storage.template.TemplateEvents;
 import org.eclipse.rdf4j.model.Resource;
 
@@ -19,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Using existing pipeline provide functionality to assist a user.
@@ -28,27 +30,29 @@ public class AssistantService implements
         PipelineEvents.Listener, TemplateEvents.Listener {
 
     /**
-     * Cache for RDF representation of assistant data.
+     * Cache for RDF representation of assistant data, null when
+     * it needs to be regenerated.
      */
-    private Statements cache = Statements.empty();
+    private Statements cache = null;
 
-    private final Map<Resource, PipelineInfo> pipelineInfo = new HashMap<>();
+    private final Map<Resource, PipelineInfo> pipelineInfo =
+            new ConcurrentHashMap<>();
 
     private final Map<Resource, Resource> templateToParent = new HashMap<>();
 
     @Override
-    public void onPipelineLoaded(Pipeline pipeline) {
+    public void onPipelineLoaded(PipelineSummary pipeline) {
         PipelineInfo info = PipelineToPipelineInfo.asPipelineInfo(pipeline);
         pipelineInfo.put(pipeline.resource(), info);
         regenerate();
     }
 
-    private void regenerate() {
-        PipelineDesign designInformation = new PipelineDesign();
-        pipelineInfo.values().stream()
-                .map(PipelineDesign::new)
-                .forEach(designInformation::addAll);
-        cache = PipelineDesignToRdf.asRdf(designInformation);
+    /**
+     * The cache is regenerated on the next request, so loading
+     * many pipelines does not rebuild it for every pipeline.
+     */
+    private synchronized void regenerate() {
+        cache = null;
     }
 
     @Override
@@ -103,7 +107,14 @@ public class AssistantService implements
         templateToParent.clear();
     }
 
-    public Statements getDataAsStatements() {
+    public synchronized Statements getDataAsStatements() {
+        if (cache == null) {
+            PipelineDesign designInformation = new PipelineDesign();
+            pipelineInfo.values().stream()
+                    .map(PipelineDesign::new)
+                    .forEach(designInformation::addAll);
+            cache = PipelineDesignToRdf.asRdf(designInformation);
+        }
         return cache;
     }
 
@@ -72,6 +72,7 @@ class ExportService {
                     component.description(), component.note(),
                     component.color(), component.x(), component.y(),
                     component.template(), component.disabled(),
+                    component.rdfRepositoryType(),
                     configuration, component.configurationGraph()));
         }
         return new Pipeline(
@@ -52,7 +52,8 @@ public class ChangePipelineResource {
                 remoteProfile.logRetentionPolicy(),
                 remoteProfile.debugDataRetentionPolicy(),
                 remoteProfile.failedExecutionLimit(),
-                remoteProfile.successfulExecutionLimit());
+                remoteProfile.successfulExecutionLimit(),
+                remoteProfile.chunkFormat());
 
         List<PipelineComponent> components =
                 new ArrayList<>(pipeline.components().size());
@@ -95,6 +96,7 @@ public class ChangePipelineResource {
                 remote.color(), remote.x(), remote.y(),
                 template,
                 remote.disabled(),
+                remote.rdfRepositoryType(),
                 ConfigurationFacade.localizeConfiguration(
                         plugin.configurationDescription(),
                         remote.configuration().selector(),
@@ -11,9 +11,10 @@ public class PipelineEvents {
 
         /**
          * Called on pipelines as they are loaded from the
-         * repository upon init or after reload.
+         * repository upon init or after reload. Only the summary
+         * is provided, so the pipelines need not be parsed.
          */
-        default void onPipelineLoaded(Pipeline pipeline) {
+        default void onPipelineLoaded(PipelineSummary pipeline) {
             // Do nothing.
         }
 
@@ -31,7 +32,8 @@ public class PipelineEvents {
 
         /**
          * Indicate reload of all pipelines. This mean that pipelines
-         * are loaded from repository and {@link #onPipelineLoaded(Pipeline)}
+         * are loaded from repository and
+         * {@link #onPipelineLoaded(PipelineSummary)}
          * is called on all of them.
          */
         default void onPipelineReload() {
@@ -46,7 +48,7 @@ public class PipelineEvents {
         registered.add(listener);
     }
 
-    public void onPipelineLoaded(Pipeline pipeline) {
+    public void onPipelineLoaded(PipelineSummary pipeline) {
         for (Listener listener : registered) {
             listener.onPipelineLoaded(pipeline);
         }
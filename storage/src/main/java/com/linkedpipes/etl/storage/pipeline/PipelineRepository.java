@@ -5,6 +5,7 @@ import com.linkedpipes.etl.storage.StorageException;
 import com.linkedpipes.etl.storage.repository.Repository;
 import org.eclipse.rdf4j.model.Resource;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -22,6 +23,13 @@ public interface PipelineRepository extends Repository {
 
     Set<Resource> listPipelines() throws StorageException;
 
+    /**
+     * Return summaries of all pipelines, this should be cheaper than
+     * loading all the pipelines.
+     */
+    Collection<PipelineSummary> listPipelineSummaries()
+            throws StorageException;
+
     Pipeline loadPipeline(Resource resource) throws StorageException;
 
     void storePipeline(Pipeline pipeline) throws StorageException;
@@ -37,15 +37,8 @@ public class PipelineService {
     public void initialize() throws StorageException {
         LOG.debug("Initializing pipeline service ... ");
         int pipelineCounter = 0;
-        for (Resource resource : repository.listPipelines()) {
-            Pipeline pipeline;
-            try {
-                pipeline = repository.loadPipeline(resource);
-            } catch (StorageException ex) {
-                LOG.warn("Can't load pipeline '{}'.", resource, ex);
-                continue;
-            }
-            pipelineEvents.onPipelineLoaded(pipeline);
+        for (PipelineSummary summary : repository.listPipelineSummaries()) {
+            pipelineEvents.onPipelineLoaded(summary);
             ++pipelineCounter;
         }
         LOG.info("Initializing pipeline service ... done with {} pipelines",
@@ -0,0 +1,63 @@
+package com.linkedpipes.etl.storage.pipeline;
+
+import com.linkedpipes.etl.library.pipeline.model.Pipeline;
+import com.linkedpipes.etl.library.pipeline.model.PipelineComponent;
+import com.linkedpipes.etl.library.pipeline.model.PipelineDataFlow;
+import org.eclipse.rdf4j.model.Resource;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Information about a pipeline that can be obtained without loading
+ * the pipeline definition.
+ */
+public record PipelineSummary(
+        /*
+         * Pipeline resource.
+         */
+        Resource resource,
+        /*
+         * Pipeline label.
+         */
+        String label,
+        /*
+         * Pipeline tags.
+         */
+        List<String> tags,
+        /*
+         * For each used template, number of data flows to other templates.
+         */
+        Map<Resource, Map<Resource, Integer>> templates
+) {
+
+    public PipelineSummary {
+        tags = Collections.unmodifiableList(tags);
+        templates = Collections.unmodifiableMap(templates);
+    }
+
+    public static PipelineSummary create(Pipeline pipeline) {
+        Map<Resource, Resource> componentToTemplate = new HashMap<>();
+        Map<Resource, Map<Resource, Integer>> templates = new HashMap<>();
+        for (PipelineComponent component : pipeline.components()) {
+            componentToTemplate.put(
+                    component.resource(), component.template());
+            templates.computeIfAbsent(
+                    component.template(), key -> new HashMap<>());
+        }
+        for (PipelineDataFlow dataFlow : pipeline.dataFlows()) {
+            Resource source = componentToTemplate.get(dataFlow.source());
+            Resource target = componentToTemplate.get(dataFlow.target());
+            if (source == null || target == null) {
+                continue;
+            }
+            templates.get(source).merge(target, 1, Integer::sum);
+        }
+        return new PipelineSummary(
+                pipeline.resource(), pipeline.label(),
+                pipeline.tags(), templates);
+    }
+
+}
@@ -10,6 +10,7 @@ import com.linkedpipes.etl.library.rdf.ResourceToString;
 import com.linkedpipes.etl.library.rdf.Statements;
 import com.linkedpipes.etl.storage.StorageException;
 import com.linkedpipes.etl.storage.pipeline.PipelineRepository;
+import com.linkedpipes.etl.storage.pipeline.PipelineSummary;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.slf4j.Logger;
@@ -21,9 +22,12 @@ import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -31,6 +35,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Store each pipeline in a single file.
+ *
+ * <p>Summaries of the pipelines are kept in a persisted index, so only
+ * new or changed files are parsed on startup and reload. Recently
+ * used pipelines are kept in a bounded cache.
  */
 public class FilePipelineRepository implements PipelineRepository {
 
@@ -44,34 +52,83 @@ public class FilePipelineRepository implements PipelineRepository {
 
     private final TemplateToPlugin templateToPlugin;
 
+    private static final String INDEX_FILE = "pipelines.index.json";
+
+    /**
+     * Maximum number of pipelines in {@link #cache}.
+     */
+    private static final int CACHE_SIZE = 64;
+
     private final AtomicInteger counter = new AtomicInteger();
 
-    private Map<Resource, File> pipelineFiles = Collections.emptyMap();
+    private final Object lock = new Object();
+
+    private final PipelineIndex index;
+
+    private Map<Resource, File> pipelineFiles = new HashMap<>();
+
+    /**
+     * Parsed pipelines in access order.
+     */
+    private final Map<Resource, Pipeline> cache =
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Resource, Pipeline> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+
+            };
 
     public FilePipelineRepository(
             File directory, TemplateToPlugin templateToPlugin) {
         this.directory = directory;
         this.templateToPlugin = templateToPlugin;
+        this.index = new PipelineIndex(new File(directory, INDEX_FILE));
     }
 
     @Override
     public List<StorageException> initializeAndMigrate() {
         directory.mkdirs();
+        synchronized (lock) {
+            index.load();
+        }
         return reload();
     }
 
     @Override
     public List<StorageException> reload() {
-        return loadAndMigrate();
+        synchronized (lock) {
+            return loadAndMigrate();
+        }
     }
 
+    /**
+     * Parse only files that are not in the index, or that have changed
+     * since they were indexed.
+     */
     private List<StorageException> loadAndMigrate() {
         LOG.debug("Loading repository ... ");
+        Map<String, PipelineIndex.Entry> previousEntries = index.getEntries();
+        Map<String, PipelineIndex.Entry> nextEntries = new HashMap<>();
         Map<Resource, File> nextPipelineFiles = new HashMap<>();
         List<StorageException> result = new ArrayList<>();
         List<File> files = listPipelineFiles();
+        int loadedCounter = 0;
         int migratedCounter = 0;
         for (File file : files) {
+            PipelineIndex.Entry entry = previousEntries.get(file.getName());
+            if (entry != null && !entry.matchMetadata(file)) {
+                entry = revalidateEntry(entry, file);
+            }
+            if (entry != null) {
+                nextEntries.put(file.getName(), entry);
+                nextPipelineFiles.put(entry.summary().resource(), file);
+                continue;
+            }
+            // The file is new or has changed.
+            ++loadedCounter;
             RawPipeline rawPipeline;
             try {
                 rawPipeline = loadRawPipeline(file);
@@ -80,46 +137,85 @@ public class FilePipelineRepository implements PipelineRepository {
                         "Can't load from '{}'.", file, ex));
                 continue;
             }
+            cache.remove(rawPipeline.resource);
+            Pipeline pipeline;
             if (Pipeline.VERSION == rawPipeline.version) {
-                nextPipelineFiles.put(rawPipeline.resource, file);
-                continue;
-            }
-            PipelineLoader loader;
-            try {
-                loader = createLoader();
-            } catch (StorageException ex) {
-                result.add(new StorageException(
-                        "Can't prepare loader for '{}'.",
-                        rawPipeline.resource, ex));
-                continue;
-            }
-            Pipeline migrated;
-            try {
-                migrated = loader.loadPipeline(rawPipeline);
-            } catch (PipelineMigrationFailed ex) {
-                result.add(new StorageException(
-                        "Can't migrate pipeline '{}' from '{}'.",
-                        rawPipeline.resource, file, ex));
-                continue;
+                pipeline = rawPipeline.toPipeline();
+            } else {
+                try {
+                    pipeline = migrate(rawPipeline, file);
+                } catch (StorageException ex) {
+                    result.add(ex);
+                    continue;
+                }
+                ++migratedCounter;
             }
             nextPipelineFiles.put(rawPipeline.resource, file);
             try {
-                handleMigrated(migrated, file);
-            } catch (StorageException ex) {
-                result.add(ex);
+                nextEntries.put(file.getName(), PipelineIndex.createEntry(
+                        file, PipelineSummary.create(pipeline)));
+            } catch (IOException ex) {
+                result.add(new StorageException(
+                        "Can't index file '{}'.", file, ex));
             }
-            ++migratedCounter;
         }
+        // Drop cached pipelines with deleted files.
+        cache.keySet().retainAll(nextPipelineFiles.keySet());
         pipelineFiles = nextPipelineFiles;
+        index.setEntries(nextEntries);
+        try {
+            index.save();
+        } catch (IOException ex) {
+            result.add(new StorageException(
+                    "Can't save pipeline index.", ex));
+        }
         LOG.debug("Loading repository ... done " +
-                        "(files: {}, loaded: {}, migrated: {}, failed: {})",
+                        "(files: {}, parsed: {}, migrated: {}, failed: {})",
                 files.size(),
-                pipelineFiles.size(),
+                loadedCounter,
                 migratedCounter,
                 result.size());
         return result;
     }
 
+    /**
+     * File metadata changed, but the content may be the same. Return
+     * null if the file needs to be parsed.
+     */
+    private PipelineIndex.Entry revalidateEntry(
+            PipelineIndex.Entry entry, File file) {
+        try {
+            if (entry.hash().equals(PipelineIndex.computeHash(file))) {
+                return entry.withMetadata(file);
+            }
+        } catch (IOException ex) {
+            LOG.debug("Can't compute hash for '{}'.", file, ex);
+        }
+        return null;
+    }
+
+    private Pipeline migrate(RawPipeline rawPipeline, File file)
+            throws StorageException {
+        PipelineLoader loader;
+        try {
+            loader = createLoader();
+        } catch (StorageException ex) {
+            throw new StorageException(
+                    "Can't prepare loader for '{}'.",
+                    rawPipeline.resource, ex);
+        }
+        Pipeline migrated;
+        try {
+            migrated = loader.loadPipeline(rawPipeline);
+        } catch (PipelineMigrationFailed ex) {
+            throw new StorageException(
+                    "Can't migrate pipeline '{}' from '{}'.",
+                    rawPipeline.resource, file, ex);
+        }
+        handleMigrated(migrated, file);
+        return migrated;
+    }
+
     protected List<File> listPipelineFiles() {
         File[] files = directory.listFiles();
         if (files == null) {
@@ -129,6 +225,7 @@ public class FilePipelineRepository implements PipelineRepository {
                 .filter(File::isFile)
                 .filter(file -> !isBackupFile(file))
                 .filter(file -> !isSwapFile(file))
+                .filter(file -> !isIndexFile(file))
                 .toList();
     }
 
@@ -142,6 +239,10 @@ public class FilePipelineRepository implements PipelineRepository {
         return fileName.endsWith(".swp");
     }
 
+    protected boolean isIndexFile(File file) {
+        return file.getName().equals(INDEX_FILE);
+    }
+
     protected RawPipeline loadRawPipeline(File file) throws StorageException {
         Statements statements = Statements.arrayList();
         try {
@@ -199,26 +300,63 @@ public class FilePipelineRepository implements PipelineRepository {
 
     @Override
     public Set<Resource> listPipelines() {
-        return pipelineFiles.keySet();
+        synchronized (lock) {
+            return new HashSet<>(pipelineFiles.keySet());
+        }
+    }
+
+    @Override
+    public Collection<PipelineSummary> listPipelineSummaries() {
+        synchronized (lock) {
+            return index.getEntries().values().stream()
+                    .map(PipelineIndex.Entry::summary)
+                    .toList();
+        }
     }
 
     @Override
     public Pipeline loadPipeline(Resource resource)
             throws StorageException {
-        File file = pipelineFiles.get(resource);
+        File file;
+        synchronized (lock) {
+            Pipeline cached = cache.get(resource);
+            if (cached != null) {
+                return cached;
+            }
+            file = pipelineFiles.get(resource);
+        }
         if (file == null) {
             return null;
         }
-        RawPipeline rawPipeline = loadRawPipeline(file);
-        return rawPipeline.toPipeline();
+        // Parse outside the lock, so other requests are not blocked.
+        Pipeline result = loadRawPipeline(file).toPipeline();
+        synchronized (lock) {
+            if (file.equals(pipelineFiles.get(resource))) {
+                cache.putIfAbsent(resource, result);
+            }
+        }
+        return result;
     }
 
     @Override
     public void storePipeline(Pipeline pipeline)
             throws StorageException {
-        File file = pipelineFiles.computeIfAbsent(
-                pipeline.resource(), resource -> createNewFile(pipeline));
-        writePipelineToFile(file, pipeline);
+        synchronized (lock) {
+            File file = pipelineFiles.computeIfAbsent(
+                    pipeline.resource(), resource -> createNewFile(pipeline));
+            cache.remove(pipeline.resource());
+            writePipelineToFile(file, pipeline);
+            cache.put(pipeline.resource(), pipeline);
+            try {
+                index.getEntries().put(file.getName(),
+                        PipelineIndex.createEntry(
+                                file, PipelineSummary.create(pipeline)));
+                index.save();
+            } catch (IOException ex) {
+                // The file is indexed again on the next reload.
+                LOG.warn("Can't update pipeline index.", ex);
+            }
+        }
     }
 
     protected File createNewFile(Pipeline pipeline) {
@@ -230,16 +368,25 @@ public class FilePipelineRepository implements PipelineRepository {
     @Override
     public void deletePipeline(Resource resource)
             throws StorageException {
-        File file = pipelineFiles.get(resource);
-        if (file == null) {
+        synchronized (lock) {
+            cache.remove(resource);
+            File file = pipelineFiles.get(resource);
+            if (file == null) {
+                pipelineFiles.remove(resource);
+                return;
+            }
+            if (!file.delete()) {
+                throw new StorageException(
+                        "Can't delete pipeline file '{}'.", file);
+            }
             pipelineFiles.remove(resource);
-            return;
-        }
-        if (!file.delete()) {
-            throw new StorageException(
-                    "Can't delete pipeline file '{}'.", file);
+            index.getEntries().remove(file.getName());
+            try {
+                index.save();
+            } catch (IOException ex) {
+                LOG.warn("Can't update pipeline index.", ex);
+            }
         }
-        pipelineFiles.remove(resource);
     }
 
     @Override
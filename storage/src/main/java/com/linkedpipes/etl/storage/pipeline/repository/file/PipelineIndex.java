@@ -0,0 +1,246 @@
+package com.linkedpipes.etl.storage.pipeline.repository.file;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedpipes.etl.library.pipeline.model.Pipeline;
+import com.linkedpipes.etl.storage.pipeline.PipelineSummary;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persisted information about pipeline files, used to skip parsing
+ * of files that have not changed since they were indexed.
+ *
+ * <p>The index is discarded when the pipeline version changes, as the
+ * files may require migration.
+ */
+class PipelineIndex {
+
+    record Entry(
+            /*
+             * Name of the pipeline file.
+             */
+            String fileName,
+            /*
+             * File modification time.
+             */
+            long lastModified,
+            /*
+             * File size.
+             */
+            long size,
+            /*
+             * Hash of file content.
+             */
+            String hash,
+            /*
+             * Information about the pipeline stored in the file.
+             */
+            PipelineSummary summary
+    ) {
+
+        /**
+         * Return true if given file has the same modification time and
+         * size, in such case we do not check the content.
+         */
+        public boolean matchMetadata(File file) {
+            return lastModified == file.lastModified()
+                    && size == file.length();
+        }
+
+        public Entry withMetadata(File file) {
+            return new Entry(fileName, file.lastModified(), file.length(),
+                    hash, summary);
+        }
+
+    }
+
+    private static final Logger LOG =
+            LoggerFactory.getLogger(PipelineIndex.class);
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final int VERSION = 1;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final File file;
+
+    private Map<String, Entry> entries = new HashMap<>();
+
+    public PipelineIndex(File file) {
+        this.file = file;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public Map<String, Entry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static Entry createEntry(File file, PipelineSummary summary)
+            throws IOException {
+        return new Entry(file.getName(), file.lastModified(), file.length(),
+                computeHash(file), summary);
+    }
+
+    public static String computeHash(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IOException("Missing SHA-256.", ex);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream stream = Files.newInputStream(file.toPath())) {
+            int length;
+            while ((length = stream.read(buffer)) != -1) {
+                digest.update(buffer, 0, length);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Load the index from file, start with empty index if the file
+     * is missing or can not be used.
+     */
+    public void load() {
+        entries = new HashMap<>();
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            JsonNode root = mapper.readTree(file);
+            if (root.path("version").asInt() != VERSION
+                    || root.path("pipelineVersion").asInt()
+                    != Pipeline.VERSION) {
+                LOG.info("Ignoring pipeline index of different version.");
+                return;
+            }
+            for (JsonNode node : root.path("pipelines")) {
+                Entry entry = entryFromJson(node);
+                entries.put(entry.fileName(), entry);
+            }
+        } catch (IOException | RuntimeException ex) {
+            LOG.warn("Can't load pipeline index '{}'.", file, ex);
+            entries = new HashMap<>();
+        }
+    }
+
+    private Entry entryFromJson(JsonNode node) {
+        List<String> tags = new ArrayList<>();
+        for (JsonNode tag : node.path("tags")) {
+            tags.add(tag.asText());
+        }
+        Map<Resource, Map<Resource, Integer>> templates = new HashMap<>();
+        for (JsonNode templateNode : node.path("templates")) {
+            Map<Resource, Integer> followup = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields =
+                    templateNode.path("followup").fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                followup.put(VF.createIRI(field.getKey()),
+                        field.getValue().asInt());
+            }
+            templates.put(
+                    VF.createIRI(templateNode.path("template").asText()),
+                    followup);
+        }
+        PipelineSummary summary = new PipelineSummary(
+                VF.createIRI(node.path("resource").asText()),
+                node.path("label").asText(null),
+                tags, templates);
+        return new Entry(
+                node.path("file").asText(),
+                node.path("lastModified").asLong(),
+                node.path("size").asLong(),
+                node.path("hash").asText(),
+                summary);
+    }
+
+    /**
+     * Write the index to a temporary file and replace the index file
+     * with it.
+     */
+    public void save() throws IOException {
+        ObjectNode root = mapper.createObjectNode();
+        root.put("version", VERSION);
+        root.put("pipelineVersion", Pipeline.VERSION);
+        ArrayNode pipelines = root.putArray("pipelines");
+        for (Entry entry : entries.values()) {
+            if (!(entry.summary().resource() instanceof IRI)) {
+                // Such pipeline is indexed again on the next start.
+                continue;
+            }
+            pipelines.add(entryToJson(entry));
+        }
+        Path temp = Files.createTempFile(
+                file.getParentFile().toPath(), file.getName(), ".swp");
+        try {
+            mapper.writeValue(temp.toFile(), root);
+            try {
+                Files.move(temp, file.toPath(),
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, file.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private ObjectNode entryToJson(Entry entry) {
+        PipelineSummary summary = entry.summary();
+        ObjectNode result = mapper.createObjectNode();
+        result.put("file", entry.fileName());
+        result.put("lastModified", entry.lastModified());
+        result.put("size", entry.size());
+        result.put("hash", entry.hash());
+        result.put("resource", summary.resource().stringValue());
+        result.put("label", summary.label());
+        ArrayNode tags = result.putArray("tags");
+        summary.tags().forEach(tags::add);
+        ArrayNode templates = result.putArray("templates");
+        for (Map.Entry<Resource, Map<Resource, Integer>> template :
+                summary.templates().entrySet()) {
+            ObjectNode templateNode = templates.addObject();
+            templateNode.put("template", template.getKey().stringValue());
+            ObjectNode followup = templateNode.putObject("followup");
+            template.getValue().forEach((key, value) ->
+                    followup.put(key.stringValue(), value));
+        }
+        return result;
+    }
+
+}
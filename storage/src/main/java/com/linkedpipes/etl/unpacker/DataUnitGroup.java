@@ -32,6 +32,7 @@ class DataUnitGroup {
         createPortMapAndList();
         createGroupsForConnections();
         setGroups();
+        setRepositoryTypes();
     }
 
     private void createPortMapAndList() {
@@ -127,4 +128,24 @@ class DataUnitGroup {
         return keys;
     }
 
+    /**
+     * Data units in a group share a repository, so a repository type
+     * required by one port is used for all ports in the group.
+     */
+    private void setRepositoryTypes() {
+        Map<Integer, String> types = new HashMap<>();
+        for (String key : getSortedPortsKeys()) {
+            ExecutorPort port = portsByComponentAndBinding.get(key);
+            if (port.getRepositoryType() != null) {
+                types.putIfAbsent(port.getGroup(), port.getRepositoryType());
+            }
+        }
+        for (ExecutorPort port : portsByComponentAndBinding.values()) {
+            String type = types.get(port.getGroup());
+            if (type != null) {
+                port.setRepositoryType(type);
+            }
+        }
+    }
+
 }
@@ -91,6 +91,7 @@ public class DesignerToExecutor {
         ExecutorProfile target = this.target.getExecutorProfile();
         target.setRepositoryPolicy(source.getRdfRepositoryPolicy());
         target.setRepositoryType(source.getRdfRepositoryType());
+        target.setChunkFormat(source.getChunkFormat());
     }
 
     private void convertConnections() {
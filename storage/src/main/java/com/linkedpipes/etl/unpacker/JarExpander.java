@@ -62,6 +62,7 @@ class JarExpander {
         newPort.setBinding(port.getBinding());
         newPort.setRequirements(port.getRequirements());
         newPort.setTypes(port.getTypes());
+        newPort.setRepositoryType(port.getRepositoryType());
 
         return newPort;
     }
@@ -6,6 +6,7 @@ import com.linkedpipes.etl.unpacker.model.GraphCollection;
 import com.linkedpipes.etl.unpacker.model.ModelLoader;
 import com.linkedpipes.etl.unpacker.model.designer.DesignerComponent;
 import com.linkedpipes.etl.unpacker.model.executor.ExecutorComponent;
+import com.linkedpipes.etl.unpacker.model.executor.ExecutorPort;
 import com.linkedpipes.etl.unpacker.model.template.JarTemplate;
 import com.linkedpipes.etl.unpacker.model.template.ReferenceTemplate;
 import com.linkedpipes.etl.unpacker.model.template.Template;
@@ -75,6 +76,23 @@ class TemplateExpander {
             DesignerComponent sourceComponent,
             ExecutorComponent targetComponent) {
         targetComponent.setLabel(sourceComponent.getLabel());
+        copyRepositoryType(sourceComponent, targetComponent);
+    }
+
+    /**
+     * Repository type selected for the component instance takes precedence
+     * over the type required by the template port.
+     */
+    private void copyRepositoryType(
+            DesignerComponent sourceComponent,
+            ExecutorComponent targetComponent) {
+        String type = sourceComponent.getRdfRepositoryType();
+        if (type == null) {
+            return;
+        }
+        for (ExecutorPort port : targetComponent.getPorts()) {
+            port.setRepositoryType(type);
+        }
     }
 
     private ExecutorComponent expandReferenceTemplate(
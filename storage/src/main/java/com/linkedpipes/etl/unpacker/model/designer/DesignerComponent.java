@@ -30,6 +30,11 @@ public class DesignerComponent implements Loadable {
 
     private boolean disabled = false;
 
+    /**
+     * RDF repository type selected by the user or null.
+     */
+    private String rdfRepositoryType = null;
+
     public DesignerComponent() {
     }
 
@@ -41,7 +46,7 @@ public class DesignerComponent implements Loadable {
         this.template = component.template;
         this.label = component.label;
         this.disabled = component.disabled;
-
+        this.rdfRepositoryType = component.rdfRepositoryType;
     }
 
     @Override
@@ -69,6 +74,9 @@ public class DesignerComponent implements Loadable {
                     disabled = literal.booleanValue();
                 }
                 return null;
+            case LP_PIPELINE.HAS_RDF_REPOSITORY_TYPE:
+                rdfRepositoryType = value.stringValue();
+                return null;
             default:
                 return null;
         }
@@ -106,4 +114,8 @@ public class DesignerComponent implements Loadable {
         return disabled;
     }
 
+    public String getRdfRepositoryType() {
+        return rdfRepositoryType;
+    }
+
 }
@@ -10,6 +10,8 @@ public class ExecutionProfile implements Loadable {
 
     private String rdfRepositoryType = LP_PIPELINE.NATIVE_STORE;
 
+    private String chunkFormat = null;
+
     @Override
     public Loadable load(String predicate, Value value) {
         switch (predicate) {
@@ -19,6 +21,9 @@ public class ExecutionProfile implements Loadable {
             case LP_PIPELINE.HAS_RDF_REPOSITORY_TYPE:
                 rdfRepositoryType = value.stringValue();
                 return null;
+            case LP_PIPELINE.HAS_CHUNK_FORMAT:
+                chunkFormat = value.stringValue();
+                return null;
             default:
                 return null;
         }
@@ -32,4 +37,8 @@ public class ExecutionProfile implements Loadable {
         return rdfRepositoryType;
     }
 
+    public String getChunkFormat() {
+        return chunkFormat;
+    }
+
 }
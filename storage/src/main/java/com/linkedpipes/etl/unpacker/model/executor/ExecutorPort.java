@@ -23,6 +23,8 @@ public class ExecutorPort {
 
     private Integer group = null;
 
+    private String repositoryType = null;
+
     public ExecutorPort() {
     }
 
@@ -45,6 +47,10 @@ public class ExecutorPort {
         if (group != null) {
             builder.add(iri, LP_EXEC.HAS_DATA_UNIT_GROUP, group);
         }
+        if (repositoryType != null) {
+            builder.addIri(
+                    iri, LP_PIPELINE.HAS_RDF_REPOSITORY_TYPE, repositoryType);
+        }
     }
 
     private boolean isMapped() {
@@ -93,4 +99,12 @@ public class ExecutorPort {
         this.group = group;
     }
 
+    public String getRepositoryType() {
+        return repositoryType;
+    }
+
+    public void setRepositoryType(String repositoryType) {
+        this.repositoryType = repositoryType;
+    }
+
 }
@@ -11,6 +11,8 @@ public class ExecutorProfile {
 
     private String repositoryType = LP_PIPELINE.NATIVE_STORE;
 
+    private String chunkFormat = null;
+
     public ExecutorProfile(String iri) {
         this.iri = iri;
     }
@@ -21,6 +23,9 @@ public class ExecutorProfile {
                 iri, LP_PIPELINE.HAS_RDF_REPOSITORY_POLICY, repositoryPolicy);
         builder.addIri(
                 iri, LP_PIPELINE.HAS_RDF_REPOSITORY_TYPE, repositoryType);
+        if (chunkFormat != null) {
+            builder.addIri(iri, LP_PIPELINE.HAS_CHUNK_FORMAT, chunkFormat);
+        }
     }
 
     public String getIri() {
@@ -35,4 +40,8 @@ public class ExecutorProfile {
         this.repositoryType = repositoryType;
     }
 
+    public void setChunkFormat(String chunkFormat) {
+        this.chunkFormat = chunkFormat;
+    }
+
 }
@@ -17,6 +17,8 @@ public class TemplatePort implements Loadable {
 
     private final List<String> requirements = new LinkedList<>();
 
+    private String repositoryType;
+
     public TemplatePort() {
     }
 
@@ -32,6 +34,9 @@ public class TemplatePort implements Loadable {
             case LP_PIPELINE.HAS_REQUIREMENT:
                 requirements.add(value.stringValue());
                 return null;
+            case LP_PIPELINE.HAS_RDF_REPOSITORY_TYPE:
+                repositoryType = value.stringValue();
+                return null;
             default:
                 return null;
         }
@@ -49,4 +54,11 @@ public class TemplatePort implements Loadable {
         return Collections.unmodifiableList(requirements);
     }
 
+    /**
+     * Return RDF repository type required by the port or null.
+     */
+    public String getRepositoryType() {
+        return repositoryType;
+    }
+
 }
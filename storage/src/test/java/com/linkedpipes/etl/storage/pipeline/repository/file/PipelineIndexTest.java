@@ -0,0 +1,44 @@
+package com.linkedpipes.etl.storage.pipeline.repository.file;
+
+import com.linkedpipes.etl.storage.pipeline.PipelineSummary;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+public class PipelineIndexTest {
+
+    @Test
+    public void saveAndLoad() throws IOException {
+        ValueFactory valueFactory = SimpleValueFactory.getInstance();
+        IRI pipeline = valueFactory.createIRI("http://pipeline");
+        IRI first = valueFactory.createIRI("http://template/1");
+        IRI second = valueFactory.createIRI("http://template/2");
+        PipelineSummary summary = new PipelineSummary(
+                pipeline, "Label", List.of("tag"),
+                Map.of(first, Map.of(second, 2), second, Map.of()));
+        File directory = Files.createTempDirectory("lp-test-").toFile();
+        File file = new File(directory, "index.json");
+        try {
+            PipelineIndex index = new PipelineIndex(file);
+            index.getEntries().put("pipeline.trig", new PipelineIndex.Entry(
+                    "pipeline.trig", 1, 2, "hash", summary));
+            index.save();
+            //
+            PipelineIndex actual = new PipelineIndex(file);
+            actual.load();
+            Assertions.assertEquals(index.getEntries(), actual.getEntries());
+        } finally {
+            file.delete();
+            directory.delete();
+        }
+    }
+
+}
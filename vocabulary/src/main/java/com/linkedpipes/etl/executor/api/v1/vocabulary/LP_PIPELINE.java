@@ -69,6 +69,28 @@ public final class LP_PIPELINE {
     public static final String MEMORY_STORE =
             PREFIX + "repository/MemoryStore";
 
+    /**
+     * Disk based store using LMDB, suitable for big data units.
+     */
+    public static final String LMDB_STORE =
+            PREFIX + "repository/LmdbStore";
+
+    /**
+     * Encoding used to store chunks of chunked data units. Can be set
+     * on the execution profile or on a data unit.
+     */
+    public static final String HAS_CHUNK_FORMAT =
+            PREFIX + "chunkFormat";
+
+    public static final String CHUNK_FORMAT_TURTLE =
+            PREFIX + "chunk/Turtle";
+
+    /**
+     * Binary encoding with a per-chunk term dictionary.
+     */
+    public static final String CHUNK_FORMAT_BINARY =
+            PREFIX + "chunk/Binary";
+
     public static final String HAS_LOG_POLICY =
             PREFIX + "logPolicy";
 